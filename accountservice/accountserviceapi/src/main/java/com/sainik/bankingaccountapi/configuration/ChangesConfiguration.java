@@ -0,0 +1,22 @@
+package com.sainik.bankingaccountapi.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "banking.changes")
+public class ChangesConfiguration {
+
+    // Writes younger than this are held back from GET /accounts/v1.0/changes: updated_at is set before commit,
+    // so a slow transaction (or a lagging replica) could otherwise land behind a cursor a client already has.
+    // Keep it above the longest write transaction plus banking.datasource.replica.max-lag.
+    private Duration settleTime = Duration.ofSeconds(10);
+
+    // Largest page a client may ask for
+    private int maxLimit = 1000;
+}
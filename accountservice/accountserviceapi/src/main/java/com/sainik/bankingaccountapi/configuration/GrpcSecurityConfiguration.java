@@ -0,0 +1,52 @@
+package com.sainik.bankingaccountapi.configuration;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.access.AccessDecisionManager;
+import org.springframework.security.access.vote.UnanimousBased;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import net.devh.boot.grpc.server.security.authentication.BearerAuthenticationReader;
+import net.devh.boot.grpc.server.security.authentication.GrpcAuthenticationReader;
+import net.devh.boot.grpc.server.security.check.AccessPredicate;
+import net.devh.boot.grpc.server.security.check.AccessPredicateVoter;
+import net.devh.boot.grpc.server.security.check.GrpcSecurityMetadataSource;
+import net.devh.boot.grpc.server.security.check.ManualGrpcSecurityMetadataSource;
+
+// The gRPC server takes the same bearer tokens as the REST API: callers forward the JWT of the request they
+// are serving in the authorization metadata, it is validated with the service's JwtDecoder and every method
+// needs the developer scope, like the REST endpoints. Missing or invalid tokens fail with UNAUTHENTICATED,
+// a token without the scope with PERMISSION_DENIED.
+@Configuration
+public class GrpcSecurityConfiguration {
+
+    @Bean
+    public GrpcAuthenticationReader grpcAuthenticationReader() {
+        return new BearerAuthenticationReader(BearerTokenAuthenticationToken::new);
+    }
+
+    // Only used by the gRPC interceptors; the HTTP filter chain configures its own JWT authentication
+    @Bean
+    public AuthenticationManager grpcAuthenticationManager(JwtDecoder jwtDecoder) {
+        return new ProviderManager(new JwtAuthenticationProvider(jwtDecoder));
+    }
+
+    @Bean
+    public GrpcSecurityMetadataSource grpcSecurityMetadataSource() {
+        return new ManualGrpcSecurityMetadataSource()
+                .setDefault(AccessPredicate.hasAuthority(new SimpleGrantedAuthority("SCOPE_developer")));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Bean
+    public AccessDecisionManager grpcAccessDecisionManager() {
+        return new UnanimousBased(List.of(new AccessPredicateVoter()));
+    }
+}
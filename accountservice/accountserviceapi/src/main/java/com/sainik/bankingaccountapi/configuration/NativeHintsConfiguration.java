@@ -0,0 +1,71 @@
+package com.sainik.bankingaccountapi.configuration;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.dtos.AccountSummary;
+import com.sainik.bankingaccountapi.dtos.BatchTransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferResultDTO;
+import com.sainik.bankingcommon.configuration.LogSamplingFilter;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.dtos.MinMoneyValidator;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.dtos.PositiveMoneyValidator;
+
+// Reachability metadata for the native image (mvn -Pnative native:compile) that AOT cannot derive from the bean
+// definitions. Entities, repositories, controllers and the MapStruct mapper (a Spring bean) are covered by AOT and
+// the libraries by the GraalVM reachability metadata repository; what is left is what this service reaches by
+// name or through reflection: the JSON bodies, whose binding hints cover the Lombok accessors, the fields that
+// Hibernate Validator and springdoc read and Money's Jackson serializers, and the files and classes named in
+// application.properties.
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfiguration.ApplicationRuntimeHints.class)
+@RegisterReflectionForBinding({ AccountDTO.class, AccountSummary.class, BatchTransferDTO.class, ChangeFeed.class,
+        GenericResponse.class, ImportJobDTO.class, PageResponse.class, TransferDTO.class, TransferResultDTO.class })
+public class NativeHintsConfiguration {
+
+    private static final List<String> DIALECTS = List.of(
+            "org.hibernate.dialect.MySQLDialect",
+            "org.hibernate.dialect.H2Dialect");
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Flyway resolves classpath:db/migration/{vendor} at runtime; Boot only registers db/migration/*
+            hints.resources().registerPattern("db/migration/*/*.sql");
+            // JCache regions of the second-level cache (hibernate.javax.cache.uri)
+            hints.resources().registerPattern("hibernate-cache.conf");
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // Chosen by name in hibernate.dialect: MySQL in production, H2 for the smoke test
+            for (String dialect : DIALECTS) {
+                hints.reflection().registerTypeIfPresent(classLoader, dialect,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            // Money constraint validators, listed for Hibernate Validator in META-INF/services
+            hints.resources().registerPattern("META-INF/services/jakarta.validation.ConstraintValidator");
+            hints.reflection().registerTypes(
+                    TypeReference.listOf(MinMoneyValidator.class, PositiveMoneyValidator.class),
+                    hint -> hint.withMembers(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+            // The prod profile's appender and filter, built by Logback from logback-spring.xml through setters
+            hints.resources().registerPattern("logback-spring.xml");
+            hints.reflection().registerType(LogSamplingFilter.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerTypeIfPresent(classLoader, "ch.qos.logback.classic.AsyncAppender",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -1,19 +1,38 @@
 package com.sainik.bankingaccountapi.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import com.sainik.bankingaccountapi.dtos.AccountDTO;
-import com.sainik.bankingaccountapi.dtos.GenericResponse;
 import com.sainik.bankingaccountapi.mappers.AccountMapper;
 import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.services.AccountImportService;
 import com.sainik.bankingaccountapi.services.AccountService;
+import com.sainik.bankingcommon.controllers.ETags;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.dtos.PageResponse;
 
 @RestController
 @RequestMapping("/accounts")
@@ -26,6 +45,9 @@ public class AccountController {
     @Autowired
     private AccountMapper accountMapper;
 
+    @Autowired
+    private AccountImportService accountImportService;
+
     @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
     @PostMapping("/v1.0")
     public ResponseEntity<GenericResponse<AccountDTO>> addAccount(@Valid @RequestBody AccountDTO accountDTO) {
@@ -35,6 +57,34 @@ public class AccountController {
                 .body(GenericResponse.success("Account created successfully", savedAccountDTO));
     }
 
+    // Body is the raw file: text/csv with a header row, or application/x-ndjson with one account per line
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @PostMapping(value = "/v1.0/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<GenericResponse<ImportJobDTO>> importAccounts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        ImportJobDTO job = accountImportService.submit(body, contentType);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/accounts/v1.0/import/" + job.jobId())
+                .body(GenericResponse.success("Import started", job));
+    }
+
+    @GetMapping("/v1.0/import/{jobId}")
+    public ResponseEntity<GenericResponse<ImportJobDTO>> getImportJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(GenericResponse.success("Import job retrieved successfully",
+                accountImportService.getJob(jobId)));
+    }
+
+    // CSV of rejected rows (record,field,message); grows while the job runs
+    @GetMapping("/v1.0/import/{jobId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable("jobId") String jobId) {
+        Resource report = new FileSystemResource(accountImportService.getErrorReport(jobId));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("account-import-" + jobId + "-errors.csv").build().toString())
+                .body(report);
+    }
+
     @GetMapping("/v1.0")
     public ResponseEntity<GenericResponse<List<AccountDTO>>> getAllAccounts() {
         List<Account> accounts = accountService.getAllAccounts();
@@ -42,18 +92,69 @@ public class AccountController {
         return ResponseEntity.ok(GenericResponse.success("Accounts retrieved successfully", accountDTOs));
     }
 
+    // e.g. /accounts/v1.0/page?page=0&size=50&sort=balance,desc&fields=id,accountNumber,balance
+    @GetMapping("/v1.0/page")
+    public ResponseEntity<GenericResponse<PageResponse<?>>> getAccountsPage(
+            @PageableDefault(size = 50, sort = "id") Pageable pageable,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        PageResponse<?> page = fields == null || fields.isEmpty()
+                ? accountService.getAccountsPage(pageable)
+                : accountService.getAccountsPage(pageable, fields);
+        return ResponseEntity.ok(GenericResponse.success("Accounts retrieved successfully", page));
+    }
+
+    // e.g. /accounts/v1.0/changes?since=2026-10-18T09:30:00.123456&afterId=42&limit=500
+    // Without since the feed starts from the beginning; pass since/afterId from each response to get the next page.
+    @GetMapping("/v1.0/changes")
+    public ResponseEntity<GenericResponse<ChangeFeed<AccountDTO>>> getAccountChanges(
+            @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(GenericResponse.success("Account changes retrieved successfully",
+                accountService.getChanges(since, afterId, limit)));
+    }
+
     @GetMapping("/v1.0/{id}")
-    public ResponseEntity<GenericResponse<AccountDTO>> getAccountById(@PathVariable("id") Long id) {
-        Account account = accountService.getAccountById(id);
-        AccountDTO accountDTO = accountMapper.entitytodto(account);
-        return ResponseEntity.ok(GenericResponse.success("Account retrieved successfully", accountDTO));
+    public ResponseEntity<GenericResponse<AccountDTO>> getAccountById(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(accountService.getAccountById(id), ifNoneMatch);
     }
 
     @GetMapping("/v1.0/number/{accountNumber}")
-    public ResponseEntity<GenericResponse<AccountDTO>> getAccountByNumber(@PathVariable("accountNumber") String accountNumber) {
-        Account account = accountService.getAccountByNumber(accountNumber);
+    public ResponseEntity<GenericResponse<AccountDTO>> getAccountByNumber(
+            @PathVariable("accountNumber") String accountNumber,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(accountService.getAccountByNumber(accountNumber), ifNoneMatch);
+    }
+
+    // 304 straight from the (second-level cached) entity's version, before anything is mapped or serialized.
+    // no-cache: clients may store the response but must revalidate it with If-None-Match.
+    private ResponseEntity<GenericResponse<AccountDTO>> conditional(Account account, String ifNoneMatch) {
+        String eTag = ETags.of(account.getId(), account.getVersion());
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
         AccountDTO accountDTO = accountMapper.entitytodto(account);
-        return ResponseEntity.ok(GenericResponse.success("Account retrieved successfully", accountDTO));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl)
+                .body(GenericResponse.success("Account retrieved successfully", accountDTO));
+    }
+
+    @GetMapping("/v1.0/customer/{customerId}")
+    public ResponseEntity<GenericResponse<List<AccountDTO>>> getAccountsByCustomerId(@PathVariable("customerId") Long customerId) {
+        List<Account> accounts = accountService.getAccountsByCustomerId(customerId);
+        List<AccountDTO> accountDTOs = accountMapper.entitytolistdto(accounts);
+        return ResponseEntity.ok(GenericResponse.success("Accounts retrieved successfully", accountDTOs));
+    }
+
+    // POST so that large id lists do not hit URL length limits
+    @PostMapping("/v1.0/customer/batch")
+    public ResponseEntity<GenericResponse<Map<Long, List<AccountDTO>>>> getAccountsByCustomerIds(@RequestBody List<Long> customerIds) {
+        Map<Long, List<AccountDTO>> accountDTOs = new LinkedHashMap<>();
+        accountService.getAccountsByCustomerIds(customerIds)
+                .forEach((customerId, accounts) -> accountDTOs.put(customerId, accountMapper.entitytolistdto(accounts)));
+        return ResponseEntity.ok(GenericResponse.success("Accounts retrieved successfully", accountDTOs));
     }
 
     @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
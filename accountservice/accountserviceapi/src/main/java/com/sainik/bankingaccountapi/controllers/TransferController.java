@@ -0,0 +1,36 @@
+package com.sainik.bankingaccountapi.controllers;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import com.sainik.bankingaccountapi.dtos.BatchTransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferResultDTO;
+import com.sainik.bankingaccountapi.services.TransferService;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+
+@RestController
+@RequestMapping("/accounts")
+@CrossOrigin(origins = "*")
+public class TransferController {
+
+    @Autowired
+    private TransferService transferService;
+
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @PostMapping("/v1.0/transfers")
+    public ResponseEntity<GenericResponse<TransferResultDTO>> transfer(@Valid @RequestBody TransferDTO transferDTO) {
+        TransferResultDTO result = transferService.transfer(transferDTO);
+        return ResponseEntity.ok(GenericResponse.success("Transfer completed successfully", result));
+    }
+
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @PostMapping("/v1.0/transfers/batch")
+    public ResponseEntity<GenericResponse<TransferResultDTO>> transferBatch(@Valid @RequestBody BatchTransferDTO batchTransferDTO) {
+        TransferResultDTO result = transferService.transferAll(batchTransferDTO.getTransfers());
+        return ResponseEntity.ok(GenericResponse.success("Batch transfer completed successfully", result));
+    }
+}
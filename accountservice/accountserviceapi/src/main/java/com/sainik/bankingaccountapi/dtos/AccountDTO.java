@@ -1,12 +1,12 @@
 package com.sainik.bankingaccountapi.dtos;
 
+import com.sainik.bankingcommon.models.Money;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -28,7 +28,7 @@ public class AccountDTO {
 
     @NotNull(message = "Balance cannot be null")
     @Min(value = 0, message = "Balance cannot be negative")
-    private BigDecimal balance;
+    private Money balance;
 
     private LocalDateTime createdAt;
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.sainik.bankingaccountapi.dtos;
+
+import com.sainik.bankingcommon.models.Money;
+import java.time.LocalDateTime;
+
+// Read-only projection for listings: selected as a constructor expression, never a managed entity
+public record AccountSummary(Long id, String accountNumber, Long customerId, String type,
+                             Money balance, LocalDateTime createdAt) {
+}
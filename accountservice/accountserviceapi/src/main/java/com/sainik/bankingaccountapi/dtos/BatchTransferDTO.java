@@ -0,0 +1,21 @@
+package com.sainik.bankingaccountapi.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTransferDTO {
+
+    // All of a batch is locked and applied in one transaction
+    @NotEmpty(message = "Transfers cannot be empty")
+    @Size(max = 1000, message = "A batch can hold at most 1000 transfers")
+    private List<@Valid TransferDTO> transfers;
+}
@@ -0,0 +1,24 @@
+package com.sainik.bankingaccountapi.dtos;
+
+import com.sainik.bankingcommon.models.Money;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferDTO {
+
+    @NotNull(message = "Source account ID cannot be null")
+    private Long fromAccountId;
+
+    @NotNull(message = "Target account ID cannot be null")
+    private Long toAccountId;
+
+    @NotNull(message = "Amount cannot be null")
+    @Positive(message = "Amount must be positive")
+    private Money amount;
+}
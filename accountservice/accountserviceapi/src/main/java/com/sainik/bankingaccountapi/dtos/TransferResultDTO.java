@@ -0,0 +1,22 @@
+package com.sainik.bankingaccountapi.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransferResultDTO {
+
+    // Transfers received
+    private int transfers;
+
+    // Account pairs with a non-zero net amount after netting
+    private int nettedPairs;
+
+    // Balances after the transfer, one entry per account touched
+    private List<AccountDTO> accounts;
+}
@@ -1,19 +1,17 @@
 package com.sainik.bankingaccountapi.exceptions;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import com.sainik.bankingaccountapi.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.exceptions.CommonExceptionHandler;
 
+// Validation, malformed bodies, bad page requests, import errors and anything unexpected go to CommonExceptionHandler
 @RestControllerAdvice
-public class GlobalException {
+public class GlobalException extends CommonExceptionHandler {
 
     @ExceptionHandler(AccountNotFoundException.class)
     public ResponseEntity<GenericResponse<Object>> handleAccountNotFoundException(AccountNotFoundException ex) {
@@ -33,21 +31,22 @@ public class GlobalException {
                 .body(GenericResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<GenericResponse<Map<String, String>>> handleValidationErrors(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String message = error.getDefaultMessage();
-            errors.put(fieldName, message);
-        });
+    @ExceptionHandler(InvalidTransferException.class)
+    public ResponseEntity<GenericResponse<Object>> handleInvalidTransferException(InvalidTransferException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(new GenericResponse<>("Validation failed", errors, false));
+                .body(GenericResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<GenericResponse<Object>> handleException(Exception ex) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(GenericResponse.error("An unexpected error occurred: " + ex.getMessage()));
+    @ExceptionHandler(TransferConflictException.class)
+    public ResponseEntity<GenericResponse<Object>> handleTransferConflictException(TransferConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(GenericResponse.error(ex.getMessage()));
+    }
+
+    // Another request (e.g. a transfer) updated the account between our read and write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<GenericResponse<Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(GenericResponse.error("Account was modified concurrently, please retry"));
     }
 }
@@ -0,0 +1,40 @@
+package com.sainik.bankingaccountapi.exceptions;
+
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+
+import io.grpc.Status;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+
+// GlobalException for the gRPC API: the same exceptions as status codes. Anything else ends the call with
+// UNKNOWN, as gRPC does for any exception a service throws.
+@GrpcAdvice
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(AccountNotFoundException.class)
+    public Status handleAccountNotFoundException(AccountNotFoundException ex) {
+        return Status.NOT_FOUND.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(InsufficientBalanceException.class)
+    public Status handleInsufficientBalanceException(InsufficientBalanceException ex) {
+        return Status.FAILED_PRECONDITION.withDescription(ex.getMessage());
+    }
+
+    @GrpcExceptionHandler(InvalidTransferException.class)
+    public Status handleInvalidTransferException(InvalidTransferException ex) {
+        return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+    }
+
+    // Too many ids for BatchGet
+    @GrpcExceptionHandler(InvalidPageRequestException.class)
+    public Status handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+    }
+
+    // The account stayed locked by other writers through every retry; the caller may try again
+    @GrpcExceptionHandler(TransferConflictException.class)
+    public Status handleTransferConflictException(TransferConflictException ex) {
+        return Status.ABORTED.withDescription(ex.getMessage());
+    }
+}
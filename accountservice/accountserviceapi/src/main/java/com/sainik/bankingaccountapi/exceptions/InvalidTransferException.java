@@ -0,0 +1,7 @@
+package com.sainik.bankingaccountapi.exceptions;
+
+public class InvalidTransferException extends RuntimeException {
+    public InvalidTransferException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,149 @@
+package com.sainik.bankingaccountapi.grpc;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.exceptions.AccountNotFoundException;
+import com.sainik.bankingaccountapi.exceptions.InsufficientBalanceException;
+import com.sainik.bankingaccountapi.exceptions.InvalidTransferException;
+import com.sainik.bankingaccountapi.exceptions.TransferConflictException;
+import com.sainik.bankingaccountapi.mappers.AccountMapper;
+import com.sainik.bankingaccountapi.services.AccountService;
+import com.sainik.bankingaccountapi.services.TransferService;
+import com.sainik.bankingaccountgrpc.Account;
+import com.sainik.bankingaccountgrpc.AccountId;
+import com.sainik.bankingaccountgrpc.AccountIds;
+import com.sainik.bankingaccountgrpc.AccountInternalGrpc;
+import com.sainik.bankingaccountgrpc.BatchGetReply;
+import com.sainik.bankingaccountgrpc.Direction;
+import com.sainik.bankingaccountgrpc.ExistsReply;
+import com.sainik.bankingaccountgrpc.Posting;
+import com.sainik.bankingaccountgrpc.PostingError;
+import com.sainik.bankingaccountgrpc.PostingReply;
+
+import io.grpc.stub.StreamObserver;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+// Internal gRPC API for the other services (account_internal.proto), on grpc.server.port next to the REST API.
+// Same services and transactions as the controllers; failures are mapped to status codes by GrpcExceptionAdvice,
+// except in PostStream where each posting gets its own reply and the stream carries on.
+@GrpcService
+public class AccountGrpcService extends AccountInternalGrpc.AccountInternalImplBase {
+
+    @Autowired
+    private AccountService accountService;
+
+    @Autowired
+    private TransferService transferService;
+
+    @Autowired
+    private AccountMapper accountMapper;
+
+    @Override
+    public void exists(AccountId request, StreamObserver<ExistsReply> responseObserver) {
+        boolean exists = accountService.accountExists(request.getId());
+        responseObserver.onNext(ExistsReply.newBuilder().setExists(exists).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void get(AccountId request, StreamObserver<Account> responseObserver) {
+        AccountDTO account = accountMapper.entitytodto(accountService.getAccountById(request.getId()));
+        responseObserver.onNext(toMessage(account));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchGet(AccountIds request, StreamObserver<BatchGetReply> responseObserver) {
+        Map<Long, com.sainik.bankingaccountapi.models.Account> found =
+                accountService.getAccountsByIds(request.getIdsList());
+        BatchGetReply.Builder reply = BatchGetReply.newBuilder();
+        for (long id : request.getIdsList()) {
+            if (found.containsKey(id)) {
+                reply.addAccounts(toMessage(accountMapper.entitytodto(found.get(id))));
+            } else {
+                reply.addMissingIds(id);
+            }
+        }
+        responseObserver.onNext(reply.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void post(Posting request, StreamObserver<Account> responseObserver) {
+        responseObserver.onNext(toMessage(apply(request)));
+        responseObserver.onCompleted();
+    }
+
+    // Postings are applied one at a time in arrival order, each in its own transaction
+    @Override
+    public StreamObserver<Posting> postStream(StreamObserver<PostingReply> responseObserver) {
+        return new StreamObserver<>() {
+
+            @Override
+            public void onNext(Posting posting) {
+                responseObserver.onNext(reply(posting));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // The client cancelled or failed; postings already applied stay applied
+            }
+
+            @Override
+            public void onCompleted() {
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private PostingReply reply(Posting posting) {
+        PostingReply.Builder reply = PostingReply.newBuilder().setReference(posting.getReference());
+        try {
+            return reply.setAccount(toMessage(apply(posting))).build();
+        } catch (AccountNotFoundException e) {
+            return reply.setError(PostingError.ACCOUNT_NOT_FOUND).setMessage(e.getMessage()).build();
+        } catch (InsufficientBalanceException e) {
+            return reply.setError(PostingError.INSUFFICIENT_BALANCE).setMessage(e.getMessage()).build();
+        } catch (InvalidTransferException e) {
+            return reply.setError(PostingError.INVALID_POSTING).setMessage(e.getMessage()).build();
+        } catch (TransferConflictException e) {
+            return reply.setError(PostingError.CONFLICT).setMessage(e.getMessage()).build();
+        }
+    }
+
+    private AccountDTO apply(Posting posting) {
+        if (posting.getAmountMinor() <= 0) {
+            throw new InvalidTransferException("Posting amount must be positive");
+        }
+        long delta;
+        if (posting.getDirection() == Direction.CREDIT) {
+            delta = posting.getAmountMinor();
+        } else if (posting.getDirection() == Direction.DEBIT) {
+            delta = -posting.getAmountMinor();
+        } else {
+            throw new InvalidTransferException("Posting direction must be DEBIT or CREDIT");
+        }
+        return transferService.post(posting.getReference(), posting.getAccountId(), delta);
+    }
+
+    // Protobuf builders reject nulls; unset message fields read back as their defaults
+    static Account toMessage(AccountDTO account) {
+        Account.Builder message = Account.newBuilder().setId(account.getId());
+        if (account.getAccountNumber() != null) {
+            message.setAccountNumber(account.getAccountNumber());
+        }
+        if (account.getCustomerId() != null) {
+            message.setCustomerId(account.getCustomerId());
+        }
+        if (account.getType() != null) {
+            message.setType(account.getType());
+        }
+        if (account.getBalance() != null) {
+            message.setBalanceMinor(account.getBalance().minorUnits()).setCurrency(account.getBalance().currency());
+        }
+        return message.build();
+    }
+}
@@ -1,23 +1,36 @@
 package com.sainik.bankingaccountapi.models;
 
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingcommon.models.MoneyConverter;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
+@Table(name = "accounts", indexes = {
+        @Index(name = "idx_accounts_customer_id", columnList = "customer_id"),
+        @Index(name = "idx_accounts_updated_at_id", columnList = "updated_at, id")
+})
 public class Account {
 
     @Id
@@ -28,6 +41,17 @@ public class Account {
     private String accountNumber;
     private Long customerId;
     private String type;
-    private BigDecimal balance;
+    @Convert(converter = MoneyConverter.class)
+    private Money balance;
     private LocalDateTime createdAt;
+
+    // Bumped by every update; also the ETag of GET /accounts/v1.0/{id}
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Set on every insert and update; GET /accounts/v1.0/changes pages on (updated_at, id)
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
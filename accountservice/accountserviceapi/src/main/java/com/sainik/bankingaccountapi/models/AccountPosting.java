@@ -0,0 +1,42 @@
+package com.sainik.bankingaccountapi.models;
+
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingcommon.models.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A posting applied through the internal gRPC API, keyed by the caller's reference so that a retry is not applied twice
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "account_postings")
+public class AccountPosting {
+
+    @Id
+    @Column(length = 64)
+    private String reference;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    // Signed: negative for a debit
+    @Column(nullable = false)
+    private long amountMinor;
+
+    // The account's balance right after the posting, returned again when the posting is repeated
+    @Convert(converter = MoneyConverter.class)
+    @Column(nullable = false)
+    private Money balance;
+
+    @Column(nullable = false)
+    private LocalDateTime postedAt;
+}
@@ -0,0 +1,25 @@
+package com.sainik.bankingaccountapi.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Left behind by a deleted account so that GET /accounts/v1.0/changes can report the deletion
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "account_tombstones", indexes = @Index(name = "idx_account_tombstones_deleted_at_id", columnList = "deleted_at, account_id"))
+public class AccountTombstone {
+
+    @Id
+    private Long accountId;
+
+    private LocalDateTime deletedAt;
+}
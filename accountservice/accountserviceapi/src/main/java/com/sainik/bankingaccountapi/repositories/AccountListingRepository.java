@@ -0,0 +1,14 @@
+package com.sainik.bankingaccountapi.repositories;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+// Fragment of AccountRepository for listings with a caller-chosen set of columns
+public interface AccountListingRepository {
+
+    // One map per row holding only the given Account attributes, in the given order
+    Page<Map<String, Object>> findPage(Collection<String> fields, Pageable pageable);
+}
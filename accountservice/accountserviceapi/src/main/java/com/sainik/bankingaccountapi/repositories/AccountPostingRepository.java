@@ -0,0 +1,9 @@
+package com.sainik.bankingaccountapi.repositories;
+
+import com.sainik.bankingaccountapi.models.AccountPosting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountPostingRepository extends JpaRepository<AccountPosting, String> {
+}
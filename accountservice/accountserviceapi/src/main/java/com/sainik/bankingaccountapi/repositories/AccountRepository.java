@@ -1,14 +1,65 @@
 package com.sainik.bankingaccountapi.repositories;
 
+import com.sainik.bankingaccountapi.dtos.AccountSummary;
 import com.sainik.bankingaccountapi.models.Account;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<Account, Long> {
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountListingRepository {
 
-    // Custom finder method
+    // Custom finder method; the result (the id) is query-cached, the entity itself comes from the "accounts" region.
+    // Any write to the accounts table invalidates the whole query region.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "accounts-by-number")
+    })
     Optional<Account> findByAccountNumber(String accountNumber);
+
+    // Keyset scan over the unique index on account_number; feeds AccountNumberFilter
+    @Query("select a.accountNumber from Account a where a.accountNumber > :after order by a.accountNumber")
+    List<String> findAccountNumbersAfter(@Param("after") String after, Limit limit);
+
+    // Which of the given account numbers are taken; one IN query per import batch
+    @Query("select a.accountNumber from Account a where a.accountNumber in :accountNumbers")
+    List<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // Which of the given account ids exist; one IN query per transfer batch
+    @Query("select a.id from Account a where a.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Served by idx_accounts_customer_id
+    List<Account> findByCustomerId(Long customerId);
+
+    List<Account> findByCustomerIdIn(Collection<Long> customerIds);
+
+    // DTO projection: selects the listed columns straight into records
+    Page<AccountSummary> findAllProjectedBy(Pageable pageable);
+
+    // Keyset page over idx_accounts_updated_at_id: rows written after the (since, afterId) cursor, up to upTo
+    @Query("select a from Account a where a.updatedAt <= :upTo "
+            + "and (a.updatedAt > :since or (a.updatedAt = :since and a.id > :afterId)) "
+            + "order by a.updatedAt, a.id")
+    List<Account> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+                                   @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    // SELECT ... FOR UPDATE on one row; transfers call this in ascending id order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.sainik.bankingaccountapi.repositories;
+
+import com.sainik.bankingaccountapi.models.AccountTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AccountTombstoneRepository extends JpaRepository<AccountTombstone, Long> {
+
+    // Keyset page over idx_account_tombstones_deleted_at_id, same cursor as AccountRepository.findChangedSince
+    @Query("select t from AccountTombstone t where t.deletedAt <= :upTo "
+            + "and (t.deletedAt > :since or (t.deletedAt = :since and t.accountId > :afterId)) "
+            + "order by t.deletedAt, t.accountId")
+    List<AccountTombstone> findDeletedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+                                            @Param("upTo") LocalDateTime upTo, Limit limit);
+}
@@ -0,0 +1,160 @@
+package com.sainik.bankingaccountapi.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingcommon.configuration.ImportConfiguration;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.services.ImportJob;
+import com.sainik.bankingcommon.services.ImportPipeline;
+import com.sainik.bankingcommon.services.ImportRow;
+import com.sainik.bankingcommon.services.JdbcImportBatchWriter;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk account onboarding from CSV (with a header row) or NDJSON uploads.
+ *
+ * Parsing, validation and the job bookkeeping are ImportPipeline's; this class supplies the account side:
+ * - Rows are validated against AccountDTO.
+ * - Account numbers the filter has seen are checked with one IN query per batch and rejected if taken.
+ * - The rest are inserted with one JDBC batch per transaction; a batch that hits the unique account number
+ *   constraint is retried row by row, so only the clashing rows end up in the job's error report.
+ */
+@Service
+@EnableConfigurationProperties(ImportConfiguration.class)
+public class AccountImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO accounts (account_number, customer_id, type, balance, created_at, version, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, 0, ?)";
+
+    @Autowired
+    private ImportConfiguration importConfiguration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountNumberFilter accountNumberFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    private ImportPipeline<AccountDTO> pipeline;
+
+    @PostConstruct
+    void init() throws IOException {
+        pipeline = new ImportPipeline<>("account", AccountDTO.class, importConfiguration, objectMapper, validator,
+                new AccountBatchWriter());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pipeline.shutdown();
+    }
+
+    public ImportJobDTO submit(InputStream body, String contentType) throws IOException {
+        return pipeline.submit(body, contentType);
+    }
+
+    public ImportJobDTO getJob(String jobId) {
+        return pipeline.getJob(jobId);
+    }
+
+    public Path getErrorReport(String jobId) {
+        return pipeline.getErrorReport(jobId);
+    }
+
+    private static void bind(PreparedStatement ps, AccountDTO account, Timestamp createdAt) throws SQLException {
+        ps.setString(1, account.getAccountNumber());
+        ps.setLong(2, account.getCustomerId());
+        ps.setString(3, account.getType());
+        // Stored as minor units, like MoneyConverter does
+        ps.setLong(4, account.getBalance().minorUnits());
+        ps.setTimestamp(5, createdAt);
+        ps.setTimestamp(6, createdAt);
+    }
+
+    // Same normalization as AccountNumberFilter: MySQL compares account numbers case-insensitively
+    private static String key(String accountNumber) {
+        return accountNumber.toLowerCase(Locale.ROOT);
+    }
+
+    private final class AccountBatchWriter extends JdbcImportBatchWriter<AccountDTO> {
+
+        AccountBatchWriter() {
+            super(jdbcTemplate, transactionTemplate, INSERT_SQL, "accountNumber", AccountImportService::bind);
+        }
+
+        @Override
+        protected List<ImportRow<AccountDTO>> withoutExisting(ImportJob job, List<ImportRow<AccountDTO>> batch) {
+            // Numbers the filter has seen are checked with one IN query; all others go straight to the insert
+            List<String> candidates = batch.stream()
+                    .map(row -> row.value().getAccountNumber())
+                    .filter(accountNumberFilter::mightExist)
+                    .toList();
+            Set<String> existing = new HashSet<>();
+            if (!candidates.isEmpty()) {
+                accountRepository.findExistingAccountNumbers(candidates).forEach(number -> existing.add(key(number)));
+                candidates.forEach(number -> accountNumberFilter.recordLookup(existing.contains(key(number))));
+            }
+
+            List<ImportRow<AccountDTO>> fresh = new ArrayList<>(batch.size());
+            for (ImportRow<AccountDTO> row : batch) {
+                if (existing.contains(key(row.value().getAccountNumber()))) {
+                    job.reject(row.record(), "accountNumber",
+                            "Account with number " + row.value().getAccountNumber() + " already exists");
+                } else {
+                    fresh.add(row);
+                }
+            }
+            return fresh;
+        }
+
+        @Override
+        protected void imported(AccountDTO account) {
+            accountNumberFilter.added(account.getAccountNumber());
+        }
+
+        @Override
+        protected void afterBatch() {
+            // Rows inserted over JDBC are invisible to Hibernate, so cached "no such account number" results must go
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        }
+    }
+}
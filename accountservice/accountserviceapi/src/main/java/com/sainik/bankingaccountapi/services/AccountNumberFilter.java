@@ -0,0 +1,138 @@
+package com.sainik.bankingaccountapi.services;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingcommon.services.CountingBloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// In-memory Bloom filter of the account numbers in use, so that creating an account with a
+// new number does not need a lookup first. Until it is built every number "might exist".
+@Service
+public class AccountNumberFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountNumberFilter.class);
+
+    private static final String FILTER_TAG = "account-number";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${banking.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${banking.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${banking.bloom.build-batch-size:10000}")
+    private int buildBatchSize;
+
+    private CountingBloomFilter filter;
+    private volatile boolean ready;
+
+    private Counter skippedLookups;
+    private Counter confirmedLookups;
+    private Counter falsePositives;
+
+    @PostConstruct
+    void init() {
+        filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        Gauge.builder("banking.bloom.filter.false.positive.rate", filter, CountingBloomFilter::expectedFalsePositiveRate)
+                .description("Expected false-positive rate at the current fill")
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        Gauge.builder("banking.bloom.filter.memory", filter, CountingBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        Gauge.builder("banking.bloom.filter.entries", filter, CountingBloomFilter::entries)
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        skippedLookups = lookups("skipped");
+        confirmedLookups = lookups("confirmed");
+        falsePositives = lookups("false_positive");
+    }
+
+    // Scans all account numbers in index order; numbers created meanwhile are added as they come
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        long count = 0;
+        String after = "";
+        List<String> batch;
+        do {
+            batch = accountRepository.findAccountNumbersAfter(after, Limit.of(buildBatchSize));
+            for (String accountNumber : batch) {
+                // Only safe while the unique constraint backs up every negative answer
+                if (accountNumber.equalsIgnoreCase(after)) {
+                    log.warn("Duplicate account number {} found; duplicate checks keep querying the database", accountNumber);
+                    return;
+                }
+                filter.add(key(accountNumber));
+                after = accountNumber;
+            }
+            count += batch.size();
+        } while (batch.size() == buildBatchSize);
+
+        ready = true;
+        log.info("Account number filter built from {} accounts in {} ms ({} bytes, {} hash functions)",
+                count, (System.nanoTime() - start) / 1_000_000, filter.memoryBytes(), filter.hashFunctions());
+    }
+
+    // False means the number is certainly unused; true means the database has to be asked
+    public boolean mightExist(String accountNumber) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(key(accountNumber))) {
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    // Outcome of the database lookup after a positive answer
+    public void recordLookup(boolean found) {
+        if (ready) {
+            (found ? confirmedLookups : falsePositives).increment();
+        }
+    }
+
+    public void added(String accountNumber) {
+        filter.add(key(accountNumber));
+    }
+
+    public void removed(String accountNumber) {
+        filter.remove(key(accountNumber));
+    }
+
+    // MySQL compares with a case-insensitive collation, so the filter must too
+    private static String key(String accountNumber) {
+        return accountNumber.toLowerCase(Locale.ROOT);
+    }
+
+    private Counter lookups(String result) {
+        return Counter.builder("banking.bloom.filter.lookups")
+                .description("Duplicate checks by outcome: skipped (filter negative), confirmed or false_positive")
+                .tag("filter", FILTER_TAG)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -1,70 +1,276 @@
 package com.sainik.bankingaccountapi.services;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.sainik.bankingaccountapi.configuration.ChangesConfiguration;
 import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.dtos.AccountSummary;
 import com.sainik.bankingaccountapi.exceptions.AccountAlreadyExistsException;
 import com.sainik.bankingaccountapi.exceptions.AccountNotFoundException;
 import com.sainik.bankingaccountapi.mappers.AccountMapper;
 import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.models.AccountTombstone;
 import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingaccountapi.repositories.AccountTombstoneRepository;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
 
 @Service
 public class AccountService {
 
+    // Columns that listings may select (?fields=) and sort on
+    private static final Set<String> LISTING_FIELDS =
+            Set.of("id", "accountNumber", "customerId", "type", "balance", "createdAt");
+
+    // Cursor of a client that has never synced: everything is newer
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     @Autowired
     private AccountRepository accountRepository;
 
     @Autowired
     private AccountMapper accountMapper;
 
+    @Autowired
+    private AccountNumberFilter accountNumberFilter;
+
+    @Autowired
+    private AccountTombstoneRepository accountTombstoneRepository;
+
+    @Autowired
+    private ChangesConfiguration changesConfiguration;
+
+    // Largest id list POST /accounts/v1.0/customer/batch accepts; it becomes a single IN (...)
+    @Value("${banking.lookup.max-customer-ids:1000}")
+    private int maxCustomerIds = 1000;
+
+    // Largest id list the gRPC BatchGet accepts, for the same reason
+    @Value("${banking.lookup.max-account-ids:1000}")
+    private int maxAccountIds = 1000;
+
     // Create
+    @Transactional
     public Account addAccount(AccountDTO accountDTO) {
-        accountRepository.findByAccountNumber(accountDTO.getAccountNumber())
-                .ifPresent(existing -> {
-                    throw new AccountAlreadyExistsException(
-                            "Account with number " + accountDTO.getAccountNumber() + " already exists");
-                });
+        // Numbers the filter has never seen skip the lookup; the unique constraint still catches races
+        if (accountNumberFilter.mightExist(accountDTO.getAccountNumber())) {
+            boolean exists = accountRepository.findByAccountNumber(accountDTO.getAccountNumber()).isPresent();
+            accountNumberFilter.recordLookup(exists);
+            if (exists) {
+                throw alreadyExists(accountDTO.getAccountNumber());
+            }
+        }
 
         Account account = accountMapper.dtotoentity(accountDTO);
         account.setCreatedAt(LocalDateTime.now());
-        return accountRepository.save(account);
+        Account saved;
+        try {
+            saved = accountRepository.save(account);
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyExists(accountDTO.getAccountNumber());
+        }
+        accountNumberFilter.added(saved.getAccountNumber());
+        return saved;
+    }
+
+    private static AccountAlreadyExistsException alreadyExists(String accountNumber) {
+        return new AccountAlreadyExistsException("Account with number " + accountNumber + " already exists");
     }
 
     // Read All
+    @Transactional(readOnly = true)
     public List<Account> getAllAccounts() {
         return accountRepository.findAll();
     }
 
+    // Read Page: record projection, no managed entities
+    @Transactional(readOnly = true)
+    public PageResponse<AccountSummary> getAccountsPage(Pageable pageable) {
+        return PageResponse.of(accountRepository.findAllProjectedBy(withStableSort(pageable)));
+    }
+
+    // Read Page with a sparse fieldset: only the requested columns are selected
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getAccountsPage(Pageable pageable, Collection<String> fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!LISTING_FIELDS.contains(name)) {
+                throw new InvalidPageRequestException("Unknown field: " + name + ". Allowed fields: " + LISTING_FIELDS);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidPageRequestException("At least one field must be requested");
+        }
+        return PageResponse.of(accountRepository.findPage(selected, withStableSort(pageable)));
+    }
+
+    // Rejects unknown sort properties and appends id so that pages never overlap or skip rows
+    private Pageable withStableSort(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!LISTING_FIELDS.contains(order.getProperty())) {
+                throw new InvalidPageRequestException("Cannot sort by: " + order.getProperty());
+            }
+        }
+        Sort sort = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
     // Read One by ID
+    @Transactional(readOnly = true)
     public Account getAccountById(Long id) {
         return accountRepository.findById(id)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + id));
     }
 
+    // Exists by ID: a primary key probe, no entity loaded
+    @Transactional(readOnly = true)
+    public boolean accountExists(Long id) {
+        return accountRepository.existsById(id);
+    }
+
+    // Read Many by ID with one IN query, keyed by id; ids that do not exist are absent from the map
+    @Transactional(readOnly = true)
+    public Map<Long, Account> getAccountsByIds(Collection<Long> ids) {
+        if (ids.size() > maxAccountIds) {
+            throw new InvalidPageRequestException("At most " + maxAccountIds + " account ids can be looked up at once");
+        }
+        Map<Long, Account> found = new LinkedHashMap<>();
+        Set<Long> distinct = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(distinct::add);
+        if (distinct.isEmpty()) {
+            return found;
+        }
+        for (Account account : accountRepository.findAllById(distinct)) {
+            found.put(account.getId(), account);
+        }
+        return found;
+    }
+
     // Read One by Account Number
+    @Transactional(readOnly = true)
     public Account getAccountByNumber(String accountNumber) {
         return accountRepository.findByAccountNumber(accountNumber)
                 .orElseThrow(() -> new AccountNotFoundException("Account not found with number: " + accountNumber));
     }
 
+    // Read All by Customer
+    @Transactional(readOnly = true)
+    public List<Account> getAccountsByCustomerId(Long customerId) {
+        return accountRepository.findByCustomerId(customerId);
+    }
+
+    // Read All for many Customers with one IN query, grouped by customer id.
+    // Every requested id is present in the result, with an empty list if it has no accounts.
+    @Transactional(readOnly = true)
+    public Map<Long, List<Account>> getAccountsByCustomerIds(Collection<Long> customerIds) {
+        if (customerIds.size() > maxCustomerIds) {
+            throw new InvalidPageRequestException("At most " + maxCustomerIds + " customer ids can be looked up at once");
+        }
+        Map<Long, List<Account>> grouped = new LinkedHashMap<>();
+        customerIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(customerId -> grouped.putIfAbsent(customerId, new ArrayList<>()));
+        if (grouped.isEmpty()) {
+            return grouped;
+        }
+        for (Account account : accountRepository.findByCustomerIdIn(grouped.keySet())) {
+            grouped.get(account.getCustomerId()).add(account);
+        }
+        return grouped;
+    }
+
+    // Read Changes: accounts written and deleted after the (since, afterId) cursor, oldest first.
+    // Both tables are read as keyset pages on the same cursor and merged, so a page never skips or repeats a row.
+    @Transactional(readOnly = true)
+    public ChangeFeed<AccountDTO> getChanges(LocalDateTime since, Long afterId, int limit) {
+        if (limit < 1 || limit > changesConfiguration.getMaxLimit()) {
+            throw new InvalidPageRequestException("limit must be between 1 and " + changesConfiguration.getMaxLimit());
+        }
+        LocalDateTime cursorTime = since == null ? BEGINNING : since;
+        long cursorId = since == null || afterId == null ? 0 : afterId;
+        LocalDateTime upTo = LocalDateTime.now().minus(changesConfiguration.getSettleTime());
+
+        List<Account> written = accountRepository.findChangedSince(cursorTime, cursorId, upTo, Limit.of(limit + 1));
+        List<AccountTombstone> deleted =
+                accountTombstoneRepository.findDeletedSince(cursorTime, cursorId, upTo, Limit.of(limit + 1));
+
+        List<AccountDTO> changedDTOs = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        int w = 0;
+        int d = 0;
+        while (w + d < limit && (w < written.size() || d < deleted.size())) {
+            boolean takeWritten = d == deleted.size() || (w < written.size()
+                    && compareCursor(written.get(w).getUpdatedAt(), written.get(w).getId(),
+                    deleted.get(d).getDeletedAt(), deleted.get(d).getAccountId()) < 0);
+            if (takeWritten) {
+                Account account = written.get(w++);
+                changedDTOs.add(accountMapper.entitytodto(account));
+                cursorTime = account.getUpdatedAt();
+                cursorId = account.getId();
+            } else {
+                AccountTombstone tombstone = deleted.get(d++);
+                deletedIds.add(tombstone.getAccountId());
+                cursorTime = tombstone.getDeletedAt();
+                cursorId = tombstone.getAccountId();
+            }
+        }
+        boolean hasMore = w < written.size() || d < deleted.size();
+        return new ChangeFeed<>(changedDTOs, deletedIds, cursorTime, cursorId, hasMore);
+    }
+
+    private static int compareCursor(LocalDateTime time, Long id, LocalDateTime otherTime, Long otherId) {
+        int order = time.compareTo(otherTime);
+        return order != 0 ? order : Long.compare(id, otherId);
+    }
+
     // Update (full update)
+    @Transactional
     public Account updateAccount(Long id, AccountDTO accountDTO) {
         Account account = getAccountById(id);
+        String previousNumber = account.getAccountNumber();
         account.setAccountNumber(accountDTO.getAccountNumber());
         account.setCustomerId(accountDTO.getCustomerId());
         account.setType(accountDTO.getType());
         account.setBalance(accountDTO.getBalance());
-        return accountRepository.save(account);
+        Account saved = accountRepository.save(account);
+        if (!Objects.equals(previousNumber, saved.getAccountNumber())) {
+            accountNumberFilter.added(saved.getAccountNumber());
+            accountNumberFilter.removed(previousNumber);
+        }
+        return saved;
     }
 
     // Delete
+    @Transactional
     public void deleteAccount(Long id) {
         Account account = getAccountById(id);
         accountRepository.delete(account);
+        accountTombstoneRepository.save(new AccountTombstone(account.getId(), LocalDateTime.now()));
+        accountNumberFilter.removed(account.getAccountNumber());
     }
 }
\ No newline at end of file
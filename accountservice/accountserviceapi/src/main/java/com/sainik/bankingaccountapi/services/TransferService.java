@@ -0,0 +1,222 @@
+package com.sainik.bankingaccountapi.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.dtos.TransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferResultDTO;
+import com.sainik.bankingaccountapi.exceptions.AccountNotFoundException;
+import com.sainik.bankingaccountapi.exceptions.InsufficientBalanceException;
+import com.sainik.bankingaccountapi.exceptions.InvalidTransferException;
+import com.sainik.bankingaccountapi.exceptions.TransferConflictException;
+import com.sainik.bankingaccountapi.mappers.AccountMapper;
+import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.models.AccountPosting;
+import com.sainik.bankingaccountapi.repositories.AccountPostingRepository;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingcommon.models.Money;
+
+/**
+ * Moves money between accounts.
+ *
+ * Every transfer (or batch of transfers) is one database transaction that locks the rows
+ * involved with SELECT ... FOR UPDATE in ascending account id order. Because all callers
+ * lock in the same order, two transfers can wait for each other but never deadlock.
+ * Lock wait timeouts (and deadlocks caused by other writers) are retried with backoff.
+ * Single postings carry a reference that is stored with them, so a posting is applied once per reference.
+ */
+@Service
+public class TransferService {
+
+    // Length of account_postings.reference
+    private static final int MAX_REFERENCE_LENGTH = 64;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountMapper accountMapper;
+
+    @Autowired
+    private AccountPostingRepository accountPostingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${banking.transfer.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${banking.transfer.backoff-millis:50}")
+    private long backoffMillis = 50;
+
+    // Single transfer
+    public TransferResultDTO transfer(TransferDTO transfer) {
+        return transferAll(List.of(transfer));
+    }
+
+    // Batch: transfers are netted per account pair and applied atomically, all or nothing
+    public TransferResultDTO transferAll(List<TransferDTO> transfers) {
+        Map<Long, Map<Long, Long>> netByPair = netByPair(transfers);
+        requireAccounts(netByPair);
+
+        // Per-account deltas in ascending id order, which is also the lock order
+        Map<Long, Long> deltas = new TreeMap<>();
+        int nettedPairs = 0;
+        for (Map.Entry<Long, Map<Long, Long>> low : netByPair.entrySet()) {
+            for (Map.Entry<Long, Long> high : low.getValue().entrySet()) {
+                long amount = high.getValue();
+                if (amount != 0) {
+                    nettedPairs++;
+                    deltas.merge(low.getKey(), -amount, Math::addExact);
+                    deltas.merge(high.getKey(), amount, Math::addExact);
+                }
+            }
+        }
+
+        List<AccountDTO> accounts = applyWithRetry(deltas);
+        return new TransferResultDTO(transfers.size(), nettedPairs, accounts);
+    }
+
+    // Single posting (debit when negative, credit when positive) on one account, locked and retried like a transfer.
+    // The reference is stored in the same transaction; posting it again returns the first result without applying it.
+    public AccountDTO post(String reference, Long accountId, long deltaMinorUnits) {
+        if (reference == null || reference.isBlank()) {
+            throw new InvalidTransferException("Posting reference is required");
+        }
+        if (reference.length() > MAX_REFERENCE_LENGTH) {
+            throw new InvalidTransferException("Posting reference must be at most " + MAX_REFERENCE_LENGTH + " characters");
+        }
+        if (accountId == null) {
+            throw new InvalidTransferException("Account ID is required");
+        }
+        if (deltaMinorUnits == 0) {
+            throw new InvalidTransferException("Posting amount must not be zero");
+        }
+        try {
+            return withRetry("account " + accountId, () -> {
+                Optional<AccountDTO> earlier = earlierPosting(reference, accountId, deltaMinorUnits);
+                if (earlier.isPresent()) {
+                    return earlier.get();
+                }
+                AccountDTO account = apply(Map.of(accountId, deltaMinorUnits)).get(0);
+                accountPostingRepository.saveAndFlush(new AccountPosting(
+                        reference, accountId, deltaMinorUnits, account.getBalance(), LocalDateTime.now()));
+                return account;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The same reference was posted concurrently and committed first
+            return transactionTemplate.execute(status -> earlierPosting(reference, accountId, deltaMinorUnits))
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // The result of an earlier posting with this reference: the account with its balance right after that posting
+    private Optional<AccountDTO> earlierPosting(String reference, Long accountId, long deltaMinorUnits) {
+        return accountPostingRepository.findById(reference).map(posting -> {
+            if (!posting.getAccountId().equals(accountId) || posting.getAmountMinor() != deltaMinorUnits) {
+                throw new InvalidTransferException("Posting reference " + reference + " was already used for another posting");
+            }
+            AccountDTO account = accountMapper.entitytodto(accountRepository.findById(accountId)
+                    .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + accountId)));
+            account.setBalance(posting.getBalance());
+            return account;
+        });
+    }
+
+    // Net amount per unordered pair, keyed by (lower id, higher id); positive means lower -> higher
+    private Map<Long, Map<Long, Long>> netByPair(List<TransferDTO> transfers) {
+        Map<Long, Map<Long, Long>> netByPair = new TreeMap<>();
+        for (TransferDTO transfer : transfers) {
+            Long from = transfer.getFromAccountId();
+            Long to = transfer.getToAccountId();
+            if (from == null || to == null) {
+                throw new InvalidTransferException("Source and target account IDs are required");
+            }
+            if (from.equals(to)) {
+                throw new InvalidTransferException("Cannot transfer from account " + from + " to itself");
+            }
+            if (transfer.getAmount() == null || !transfer.getAmount().isPositive()) {
+                throw new InvalidTransferException("Transfer amount must be positive");
+            }
+            long amount = transfer.getAmount().minorUnits();
+            long low = Math.min(from, to);
+            long high = Math.max(from, to);
+            netByPair.computeIfAbsent(low, k -> new TreeMap<>())
+                    .merge(high, from == low ? amount : -amount, Math::addExact);
+        }
+        return netByPair;
+    }
+
+    // Every referenced account must exist, including those whose transfers net to zero and are never locked
+    private void requireAccounts(Map<Long, Map<Long, Long>> netByPair) {
+        Set<Long> ids = new HashSet<>(netByPair.keySet());
+        netByPair.values().forEach(high -> ids.addAll(high.keySet()));
+        ids.removeAll(accountRepository.findExistingIds(ids));
+        if (!ids.isEmpty()) {
+            throw new AccountNotFoundException("Account not found with id: " + ids.stream().sorted().findFirst().get());
+        }
+    }
+
+    private List<AccountDTO> applyWithRetry(Map<Long, Long> deltas) {
+        return withRetry("accounts " + deltas.keySet(), () -> apply(deltas));
+    }
+
+    // Runs work in a new transaction, again after a backoff when it fails on a lock
+    private <T> T withRetry(String locked, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    throw new TransferConflictException("Transfer could not lock " + locked + ", please retry", e);
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private List<AccountDTO> apply(Map<Long, Long> deltas) {
+        List<AccountDTO> accounts = new ArrayList<>(deltas.size());
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            Long id = delta.getKey();
+            Account account = accountRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new AccountNotFoundException("Account not found with id: " + id));
+            Money balance = account.getBalance() != null ? account.getBalance() : Money.ZERO;
+            Money updated = balance.plus(Money.ofMinor(delta.getValue()));
+            if (updated.isNegative()) {
+                // Rolls back every row changed so far in this transfer
+                throw new InsufficientBalanceException("Insufficient balance in account with id: " + id);
+            }
+            // Managed entity: flushed as an UPDATE on commit
+            account.setBalance(updated);
+            accounts.add(accountMapper.entitytodto(account));
+        }
+        return accounts;
+    }
+
+    private void backoff(int attempt) {
+        long delay = backoffMillis * (1L << (attempt - 1));
+        try {
+            Thread.sleep(delay + ThreadLocalRandom.current().nextLong(delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransferConflictException("Interrupted while retrying transfer", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update produced for Account.
+CREATE TABLE IF NOT EXISTS accounts (
+    id             BIGINT         NOT NULL AUTO_INCREMENT,
+    account_number VARCHAR(255)   NOT NULL,
+    customer_id    BIGINT,
+    type           VARCHAR(255),
+    balance        DECIMAL(38, 2),
+    created_at     DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_accounts_account_number (account_number)
+) ENGINE = InnoDB;
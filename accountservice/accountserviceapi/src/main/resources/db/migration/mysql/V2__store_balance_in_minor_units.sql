@@ -0,0 +1,8 @@
+-- balance becomes a BIGINT of minor units (cents), see Money / MoneyConverter.
+ALTER TABLE accounts ADD COLUMN balance_minor BIGINT;
+
+UPDATE accounts SET balance_minor = ROUND(balance * 100);
+
+ALTER TABLE accounts
+    DROP COLUMN balance,
+    RENAME COLUMN balance_minor TO balance;
@@ -0,0 +1,2 @@
+-- Lookups of a customer's accounts (GET /accounts/v1.0/customer/{customerId} and the batch variant)
+CREATE INDEX idx_accounts_customer_id ON accounts (customer_id);
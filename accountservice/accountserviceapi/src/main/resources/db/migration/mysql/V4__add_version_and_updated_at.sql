@@ -0,0 +1,20 @@
+-- version: optimistic lock and ETag of GET /accounts/v1.0/{id}.
+-- updated_at: cursor of GET /accounts/v1.0/changes; existing rows count as last written when they were created.
+ALTER TABLE accounts
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6);
+
+UPDATE accounts SET updated_at = COALESCE(created_at, NOW(6));
+
+ALTER TABLE accounts MODIFY updated_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_accounts_updated_at_id ON accounts (updated_at, id);
+
+-- Deleted accounts, reported by the changes feed
+CREATE TABLE IF NOT EXISTS account_tombstones (
+    account_id BIGINT      NOT NULL,
+    deleted_at DATETIME(6),
+    PRIMARY KEY (account_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_account_tombstones_deleted_at_id ON account_tombstones (deleted_at, account_id);
@@ -0,0 +1,10 @@
+-- Postings applied through the internal gRPC API, one row per caller reference. The primary key makes the
+-- reference an idempotency key: a repeated posting finds its row instead of being applied twice.
+CREATE TABLE IF NOT EXISTS account_postings (
+    reference    VARCHAR(64) NOT NULL,
+    account_id   BIGINT      NOT NULL,
+    amount_minor BIGINT      NOT NULL,
+    balance      BIGINT      NOT NULL,
+    posted_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (reference)
+) ENGINE = InnoDB;
@@ -0,0 +1,120 @@
+package com.sainik.bankingaccountapi.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.mappers.AccountMapper;
+import com.sainik.bankingaccountapi.mappers.AccountMapperImpl;
+import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.models.Money;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work around a controller call that does not touch the database:
+ * MapStruct mapping, Jackson serialization of a GenericResponse list and bean validation
+ * of a request body (valid and invalid). Run with the GC profiler to see allocation per call:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountDtoBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountDtoBenchmark {
+
+    @Param({"100"})
+    public int listSize;
+
+    private final AccountMapper accountMapper = new AccountMapperImpl();
+
+    private ObjectWriter responseWriter;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Account account;
+    private AccountDTO accountDTO;
+    private AccountDTO invalidAccountDTO;
+    private List<Account> accounts;
+    private GenericResponse<List<AccountDTO>> response;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to its ObjectMapper: java.time values as ISO strings
+        responseWriter = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<GenericResponse<List<AccountDTO>>>() {
+                });
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        accounts = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            accounts.add(new Account((long) i + 1, "ACC" + (100000 + i), (long) i / 3, i % 2 == 0 ? "Savings" : "Current",
+                    Money.ofMinor(i * 7919L % 10_000_000), LocalDateTime.now(), 0L, LocalDateTime.now()));
+        }
+        account = accounts.get(0);
+        accountDTO = accountMapper.entitytodto(account);
+        invalidAccountDTO = new AccountDTO(null, "ACC-001", null, "Savings", Money.ofMinor(-100), null);
+        response = GenericResponse.success("Accounts retrieved successfully", accountMapper.entitytolistdto(accounts));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public AccountDTO entityToDto() {
+        return accountMapper.entitytodto(account);
+    }
+
+    @Benchmark
+    public Account dtoToEntity() {
+        return accountMapper.dtotoentity(accountDTO);
+    }
+
+    @Benchmark
+    public List<AccountDTO> entityListToDtoList() {
+        return accountMapper.entitytolistdto(accounts);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountDTO>> validateValid() {
+        return validator.validate(accountDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<AccountDTO>> validateInvalid() {
+        return validator.validate(invalidAccountDTO);
+    }
+}
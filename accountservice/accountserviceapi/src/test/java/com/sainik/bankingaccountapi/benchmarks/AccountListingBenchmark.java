@@ -0,0 +1,111 @@
+package com.sainik.bankingaccountapi.benchmarks;
+
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.dtos.AccountSummary;
+import com.sainik.bankingaccountapi.mappers.AccountMapper;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingaccountapi.services.AccountService;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listing accounts at 1M rows: the previous findAll() + entity-to-DTO mapping against
+ * a page of entities, a page of record projections and a sparse three-column page.
+ * Run with the GC profiler to see allocation per call:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountListingBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AccountListingBenchmark {
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final PageRequest PAGE = PageRequest.of(100, 100, Sort.by(Sort.Direction.DESC, "balance"));
+
+    @Param({"1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private AccountRepository accountRepository;
+    private AccountMapper accountMapper;
+    private AccountService accountService;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("listing");
+        accountRepository = context.getBean(AccountRepository.class);
+        accountMapper = context.getBean(AccountMapper.class);
+        accountService = context.getBean(AccountService.class);
+        readOnly = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+        readOnly.setReadOnly(true);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            batch.add(new Object[]{"ACC" + i, (long) i / 3, i % 2 == 0 ? "Savings" : "Current", (long) (i * 7919L % 10_000_000), now, now});
+            if (batch.size() == INSERT_BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, customer_id, type, balance, created_at, version, "
+                        + "updated_at) VALUES (?, ?, ?, ?, ?, 0, ?)", batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_accounts_balance ON accounts (balance)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // GET /accounts/v1.0 as it was: every row as a managed entity, then as a DTO
+    @Benchmark
+    public List<AccountDTO> findAllEntities() {
+        return readOnly.execute(status -> accountMapper.entitytolistdto(accountRepository.findAll()));
+    }
+
+    // Pagination alone: one page of managed entities, mapped to DTOs
+    @Benchmark
+    public List<AccountDTO> entityPage() {
+        return readOnly.execute(status -> accountMapper.entitytolistdto(accountRepository.findAll(PAGE).getContent()));
+    }
+
+    @Benchmark
+    public PageResponse<AccountSummary> projectionPage() {
+        return accountService.getAccountsPage(PAGE);
+    }
+
+    @Benchmark
+    public PageResponse<Map<String, Object>> sparsePage() {
+        return accountService.getAccountsPage(PAGE, List.of("id", "accountNumber", "balance"));
+    }
+
+}
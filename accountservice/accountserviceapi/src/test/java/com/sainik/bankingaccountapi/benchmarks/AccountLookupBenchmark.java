@@ -0,0 +1,293 @@
+package com.sainik.bankingaccountapi.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingaccountgrpc.AccountId;
+import com.sainik.bankingaccountgrpc.AccountIds;
+import com.sainik.bankingaccountgrpc.AccountInternalGrpc;
+import com.sainik.bankingaccountgrpc.BatchGetReply;
+import com.sainik.bankingaccountgrpc.Direction;
+import com.sainik.bankingaccountgrpc.Posting;
+import com.sainik.bankingaccountgrpc.PostingReply;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.models.Money;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import net.devh.boot.grpc.server.event.GrpcServerStartedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The account lookups and postings another service makes, over the REST API (HTTP/1.1 keep-alive, JSON,
+ * GenericResponse envelope) and over the internal gRPC API (one HTTP/2 channel, protobuf), both with a
+ * bearer token that the service validates on every call, against an in-memory H2 database:
+ * <ul>
+ *   <li>{@code restGet} / {@code grpcGet} / {@code grpcExists}: one account</li>
+ *   <li>{@code restGetMany} / {@code grpcBatchGet}: {@code batchSize} accounts, as one GET each
+ *   (REST has no lookup by many ids) and as one BatchGet</li>
+ *   <li>{@code grpcPost} / {@code grpcPostStream}: {@code batchSize} postings as unary calls and on one stream</li>
+ * </ul>
+ * The warm-up is long because the whole request path (security, MVC or Netty, Hibernate) has to be compiled
+ * before the times settle; on one CPU that takes about a minute.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountLookupBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 12, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountLookupBenchmark {
+
+    private static final int ACCOUNTS = 1000;
+
+    private static final TypeReference<GenericResponse<AccountDTO>> RESPONSE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"50"})
+    public int batchSize;
+
+    private ConfigurableApplicationContext context;
+    // Each posting needs a new reference, or the account service would answer it from the first one
+    private final AtomicLong references = new AtomicLong();
+    private long[] accountIds;
+    private String authorization;
+
+    private HttpClient httpClient;
+    private String baseUrl;
+    private ObjectMapper objectMapper;
+
+    private ManagedChannel channel;
+    private AccountInternalGrpc.AccountInternalBlockingStub blockingStub;
+    private AccountInternalGrpc.AccountInternalStub asyncStub;
+
+    // Replaces the JwtDecoder, which would fetch keys from Keycloak, with one for a key generated here, and
+    // records the port the gRPC server was given
+    public static class BenchmarkSecurity {
+
+        static final KeyPair KEYS = generateKeys();
+
+        volatile int grpcPort;
+
+        @Bean
+        public JwtDecoder jwtDecoder() {
+            return NimbusJwtDecoder.withPublicKey((RSAPublicKey) KEYS.getPublic()).build();
+        }
+
+        @EventListener
+        public void grpcServerStarted(GrpcServerStartedEvent event) {
+            grpcPort = event.getPort();
+        }
+
+        private static KeyPair generateKeys() {
+            try {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                return generator.generateKeyPair();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start("lookups", List.of(BenchmarkSecurity.class));
+        objectMapper = context.getBean(ObjectMapper.class);
+        List<Account> accounts = new ArrayList<>(ACCOUNTS);
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts.add(new Account(null, "LOOKUP" + i, (long) i / 3, "Savings", Money.of("1000.00"),
+                    LocalDateTime.now(), null, null));
+        }
+        accountIds = context.getBean(AccountRepository.class).saveAll(accounts).stream()
+                .mapToLong(Account::getId).toArray();
+        authorization = "Bearer " + token();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://127.0.0.1:"
+                + ((WebServerApplicationContext) context).getWebServer().getPort() + "/accounts/v1.0/";
+
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER), authorization);
+        channel = Grpc.newChannelBuilderForAddress("127.0.0.1", context.getBean(BenchmarkSecurity.class).grpcPort,
+                InsecureChannelCredentials.create()).build();
+        blockingStub = AccountInternalGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        asyncStub = AccountInternalGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+
+        // Both paths must see the same account before anything is measured
+        long id = accountIds[0];
+        if (!restGet(id).getData().getAccountNumber().equals(grpcGet(id).getAccountNumber())) {
+            throw new IllegalStateException("REST and gRPC returned different accounts for " + id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    @Benchmark
+    public GenericResponse<AccountDTO> restGet() throws Exception {
+        return restGet(randomId());
+    }
+
+    @Benchmark
+    public boolean grpcExists() {
+        return blockingStub.exists(AccountId.newBuilder().setId(randomId()).build()).getExists();
+    }
+
+    @Benchmark
+    public com.sainik.bankingaccountgrpc.Account grpcGet() {
+        return grpcGet(randomId());
+    }
+
+    @Benchmark
+    public List<AccountDTO> restGetMany() throws Exception {
+        List<AccountDTO> accounts = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            accounts.add(restGet(randomId()).getData());
+        }
+        return accounts;
+    }
+
+    @Benchmark
+    public BatchGetReply grpcBatchGet() {
+        AccountIds.Builder ids = AccountIds.newBuilder();
+        for (int i = 0; i < batchSize; i++) {
+            ids.addIds(randomId());
+        }
+        return blockingStub.batchGet(ids.build());
+    }
+
+    // Credit then debit the same amount, so balances stay where they were
+    @Benchmark
+    public com.sainik.bankingaccountgrpc.Account grpcPost() {
+        com.sainik.bankingaccountgrpc.Account account = null;
+        for (int i = 0; i < batchSize; i++) {
+            account = blockingStub.post(posting(i));
+        }
+        return account;
+    }
+
+    @Benchmark
+    public int grpcPostStream() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        int[] replies = new int[1];
+        StreamObserver<Posting> postings = asyncStub.postStream(new StreamObserver<>() {
+
+            @Override
+            public void onNext(PostingReply reply) {
+                replies[0]++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                done.countDown();
+            }
+        });
+        for (int i = 0; i < batchSize; i++) {
+            postings.onNext(posting(i));
+        }
+        postings.onCompleted();
+        done.await();
+        if (replies[0] != batchSize) {
+            throw new IllegalStateException("Expected " + batchSize + " replies but got " + replies[0]);
+        }
+        return replies[0];
+    }
+
+    private GenericResponse<AccountDTO> restGet(long id) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + request.uri() + " returned " + response.statusCode());
+        }
+        return objectMapper.readValue(response.body(), RESPONSE_TYPE);
+    }
+
+    private com.sainik.bankingaccountgrpc.Account grpcGet(long id) {
+        return blockingStub.get(AccountId.newBuilder().setId(id).build());
+    }
+
+    private Posting posting(int i) {
+        return Posting.newBuilder()
+                .setAccountId(accountIds[i / 2 % accountIds.length])
+                .setDirection(i % 2 == 0 ? Direction.CREDIT : Direction.DEBIT)
+                .setAmountMinor(100)
+                .setReference("P" + references.incrementAndGet())
+                .build();
+    }
+
+    private long randomId() {
+        return accountIds[ThreadLocalRandom.current().nextInt(accountIds.length)];
+    }
+
+    private static String token() throws Exception {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("benchmark")
+                .claim("scope", "openid developer")
+                .issueTime(new Date())
+                .expirationTime(Date.from(Instant.now().plusSeconds(3600)))
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(BenchmarkSecurity.KEYS.getPrivate()));
+        return jwt.serialize();
+    }
+}
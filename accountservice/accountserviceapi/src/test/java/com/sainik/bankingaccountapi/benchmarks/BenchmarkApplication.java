@@ -0,0 +1,48 @@
+package com.sainik.bankingaccountapi.benchmarks;
+
+import com.sainik.bankingaccountapi.AccountserviceapiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the account service against an in-memory H2 database for benchmarks:
+ * no MySQL, Eureka or Flyway, quiet logging, random HTTP and gRPC ports. Extra configuration classes
+ * (plain classes with @Bean methods, so that component scanning leaves them out of other benchmarks)
+ * can replace beans such as the JwtDecoder.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... extraArgs) {
+        return start(database, List.of(), extraArgs);
+    }
+
+    static ConfigurableApplicationContext start(String database, List<Class<?>> configurations, String... extraArgs) {
+        // Passed as command line args so they override application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--grpc.server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--banking.vault.mysqlusername=sa",
+                "--banking.vault.mysqlpassword=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--eureka.client.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.sainik.bankingaccountapi=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(AccountserviceapiApplication.class)
+                .sources(configurations.toArray(Class<?>[]::new))
+                .run(args.toArray(String[]::new));
+    }
+}
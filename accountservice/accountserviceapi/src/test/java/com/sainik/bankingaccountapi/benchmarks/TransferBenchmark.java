@@ -0,0 +1,94 @@
+package com.sainik.bankingaccountapi.benchmarks;
+
+import com.sainik.bankingaccountapi.dtos.TransferDTO;
+import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingaccountapi.services.TransferService;
+import com.sainik.bankingcommon.models.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random transfers among a set of hot accounts from 8 threads, against the real
+ * TransferService and an in-memory H2 database. After each trial the sum of all balances
+ * must equal the seeded total, otherwise the trial fails.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransferBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Threads(8)
+@Fork(1)
+public class TransferBenchmark {
+
+    private static final Money OPENING_BALANCE = Money.of("1000000.00");
+
+    @Param({"2", "10", "1000"})
+    private int hotAccounts;
+
+    private ConfigurableApplicationContext context;
+    private TransferService transferService;
+    private AccountRepository accountRepository;
+    private long[] accountIds;
+    private Money expectedTotal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transfers");
+        transferService = context.getBean(TransferService.class);
+        accountRepository = context.getBean(AccountRepository.class);
+
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < hotAccounts; i++) {
+            accounts.add(new Account(null, "BENCH" + i, 1L, "Savings", OPENING_BALANCE, LocalDateTime.now(), null, null));
+        }
+        accountIds = accountRepository.saveAll(accounts).stream().mapToLong(Account::getId).toArray();
+        expectedTotal = OPENING_BALANCE.times(hotAccounts);
+    }
+
+    @TearDown(Level.Trial)
+    public void verifyAndClose() {
+        try {
+            Money total = Money.sum(accountRepository.findAll().stream().map(Account::getBalance).toList());
+            if (!total.equals(expectedTotal)) {
+                throw new IllegalStateException("Total balance not conserved: expected " + expectedTotal + " but was " + total);
+            }
+            System.out.println("Total balance conserved across " + hotAccounts + " accounts: " + total);
+        } finally {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public Object randomTransfer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int from = random.nextInt(accountIds.length);
+        int to = random.nextInt(accountIds.length - 1);
+        if (to >= from) {
+            to++;
+        }
+        Money amount = Money.ofMinor(1 + random.nextInt(10_000));
+        return transferService.transfer(new TransferDTO(accountIds[from], accountIds[to], amount));
+    }
+}
@@ -0,0 +1,184 @@
+package com.sainik.bankingaccountapi.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingcommon.configuration.ImportConfiguration;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.exceptions.ImportJobNotFoundException;
+import com.sainik.bankingcommon.exceptions.InvalidImportException;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountImportService Unit Tests")
+class AccountImportServiceTest {
+
+    private static final String CSV_HEADER = "accountNumber,customerId,type,balance\n";
+
+    @Spy
+    private ImportConfiguration importConfiguration = new ImportConfiguration();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountNumberFilter accountNumberFilter;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private AccountImportService accountImportService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        importConfiguration.setDirectory(directory.toString());
+        importConfiguration.setBatchSize(2);
+        importConfiguration.setWriterThreads(2);
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class))
+                .thenReturn(mock(SessionFactory.class, RETURNS_DEEP_STUBS));
+        accountImportService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountImportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit: should insert valid CSV rows in JDBC batches and report invalid ones")
+    void csv_validRowsBatched_invalidRowsReported() throws Exception {
+        String csv = CSV_HEADER
+                + "ACC001,10,Savings,5000.00\n"
+                + "ACC002,10,Current,0\n"
+                + "ACC003,11,Savings,-1.00\n"
+                + "ACC004,12,Savings,12.5\n"
+                + "ACC005,12,Current,99.99\n";
+
+        ImportJobDTO job = awaitFinished(accountImportService.submit(stream(csv), "text/csv"));
+
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.rowsRead()).isEqualTo(5);
+        assertThat(job.imported()).isEqualTo(4);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), eq(2), any());
+        verify(accountNumberFilter).added("ACC005");
+        assertThat(Files.readAllLines(accountImportService.getErrorReport(job.jobId())))
+                .containsExactly("record,field,message", "3,balance,Balance cannot be negative");
+    }
+
+    @Test
+    @DisplayName("submit: should reject NDJSON rows whose account number exists without attempting the insert")
+    void ndjson_existingAccountNumberRejected() throws Exception {
+        when(accountNumberFilter.mightExist("TAKEN1")).thenReturn(true);
+        when(accountRepository.findExistingAccountNumbers(List.of("TAKEN1"))).thenReturn(List.of("TAKEN1"));
+        String ndjson = """
+                {"accountNumber":"TAKEN1","customerId":10,"type":"Savings","balance":100.00}
+                {"accountNumber":"ACC002","customerId":10,"type":"Savings","balance":"250.00"}
+                """;
+
+        ImportJobDTO job = awaitFinished(accountImportService.submit(stream(ndjson), "application/x-ndjson"));
+
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(accountNumberFilter).added("ACC002");
+        verify(accountNumberFilter, never()).added("TAKEN1");
+    }
+
+    @Test
+    @DisplayName("submit: should retry a batch row by row when it hits the unique constraint")
+    void batchConstraintViolation_retriedRowByRow() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        accountImportService.shutdown();
+        importConfiguration.setWriterThreads(1);
+        accountImportService.init();
+        String csv = CSV_HEADER
+                + "ACC001,10,Savings,10.00\n"
+                + "acc001,10,Savings,10.00\n";
+
+        ImportJobDTO job = awaitFinished(accountImportService.submit(stream(csv), "text/csv"));
+
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("submit: should reject unsupported content types")
+    void unsupportedContentType_throwsException() {
+        assertThrows(InvalidImportException.class,
+                () -> accountImportService.submit(stream("{}"), "application/json"));
+    }
+
+    @Test
+    @DisplayName("getJob: should throw ImportJobNotFoundException for an unknown job id")
+    void getJob_unknown_throwsException() {
+        assertThrows(ImportJobNotFoundException.class, () -> accountImportService.getJob("missing"));
+    }
+
+    private ImportJobDTO awaitFinished(ImportJobDTO submitted) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            ImportJobDTO job = accountImportService.getJob(submitted.jobId());
+            if (job.finishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Import job did not finish: " + submitted.jobId());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
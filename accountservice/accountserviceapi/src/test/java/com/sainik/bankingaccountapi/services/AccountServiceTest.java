@@ -1,27 +1,47 @@
 package com.sainik.bankingaccountapi.services;
 
+import com.sainik.bankingaccountapi.configuration.ChangesConfiguration;
 import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.dtos.AccountSummary;
 import com.sainik.bankingaccountapi.exceptions.AccountAlreadyExistsException;
 import com.sainik.bankingaccountapi.exceptions.AccountNotFoundException;
 import com.sainik.bankingaccountapi.mappers.AccountMapper;
 import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.models.AccountTombstone;
 import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingaccountapi.repositories.AccountTombstoneRepository;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+import com.sainik.bankingcommon.models.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +54,15 @@ class AccountServiceTest {
     @Mock
     private AccountMapper accountMapper;
 
+    @Mock
+    private AccountNumberFilter accountNumberFilter;
+
+    @Mock
+    private AccountTombstoneRepository accountTombstoneRepository;
+
+    @Spy
+    private ChangesConfiguration changesConfiguration = new ChangesConfiguration();
+
     @InjectMocks
     private AccountService accountService;
 
@@ -42,19 +71,22 @@ class AccountServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Behaves like a filter that is not built yet: every number might exist
+        lenient().when(accountNumberFilter.mightExist(any())).thenReturn(true);
+
         account = new Account();
         account.setId(1L);
         account.setAccountNumber("ACC001");
         account.setCustomerId(10L);
         account.setType("Savings");
-        account.setBalance(new BigDecimal("5000.00"));
+        account.setBalance(Money.of("5000.00"));
         account.setCreatedAt(LocalDateTime.now());
 
         accountDTO = new AccountDTO();
         accountDTO.setAccountNumber("ACC001");
         accountDTO.setCustomerId(10L);
         accountDTO.setType("Savings");
-        accountDTO.setBalance(new BigDecimal("5000.00"));
+        accountDTO.setBalance(Money.of("5000.00"));
     }
 
     // ─── addAccount ──────────────────────────────────────────────────────────────
@@ -70,7 +102,7 @@ class AccountServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(result.getAccountNumber()).isEqualTo("ACC001");
-        assertThat(result.getBalance()).isEqualByComparingTo("5000.00");
+        assertThat(result.getBalance()).isEqualTo(Money.of("5000.00"));
         verify(accountRepository).save(any(Account.class));
     }
 
@@ -85,6 +117,32 @@ class AccountServiceTest {
         verify(accountRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("addAccount: should skip the lookup when the filter has never seen the number")
+    void addAccount_filterNegative_skipsLookup() {
+        when(accountNumberFilter.mightExist("ACC001")).thenReturn(false);
+        when(accountMapper.dtotoentity(accountDTO)).thenReturn(account);
+        when(accountRepository.save(any(Account.class))).thenReturn(account);
+
+        accountService.addAccount(accountDTO);
+
+        verify(accountRepository, never()).findByAccountNumber(any());
+        verify(accountNumberFilter).added("ACC001");
+    }
+
+    @Test
+    @DisplayName("addAccount: should report a unique constraint violation as AccountAlreadyExistsException")
+    void addAccount_uniqueConstraintViolation_throwsException() {
+        when(accountNumberFilter.mightExist("ACC001")).thenReturn(false);
+        when(accountMapper.dtotoentity(accountDTO)).thenReturn(account);
+        when(accountRepository.save(any(Account.class))).thenThrow(new DataIntegrityViolationException("uk_account_number"));
+
+        assertThrows(AccountAlreadyExistsException.class,
+                () -> accountService.addAccount(accountDTO));
+
+        verify(accountNumberFilter, never()).added(any());
+    }
+
     // ─── getAllAccounts ────────────────────────────────────────────────────────────
 
     @Test
@@ -113,6 +171,38 @@ class AccountServiceTest {
         assertThat(result).isEmpty();
     }
 
+    // ─── getAccountsPage ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getAccountsPage: should use the record projection and add id as sort tiebreaker")
+    void getAccountsPage_projection() {
+        AccountSummary summary = new AccountSummary(1L, "ACC001", 10L, "Savings", Money.of("5000.00"), null);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(accountRepository.findAllProjectedBy(pageable.capture()))
+                .thenAnswer(inv -> new PageImpl<>(List.of(summary), inv.getArgument(0), 1));
+
+        PageResponse<AccountSummary> result = accountService.getAccountsPage(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "balance")));
+
+        assertThat(result.getContent()).containsExactly(summary);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by(Sort.Direction.DESC, "balance").and(Sort.by("id")));
+        verify(accountRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getAccountsPage: should select only whitelisted fields, in request order")
+    void getAccountsPage_sparseFields() {
+        when(accountRepository.findPage(any(), any())).thenReturn(new PageImpl<>(List.of(Map.of("id", 1L))));
+
+        accountService.getAccountsPage(PageRequest.of(0, 20), List.of("balance", " id", "balance"));
+
+        verify(accountRepository).findPage(eq(new LinkedHashSet<>(List.of("balance", "id"))), any());
+        assertThrows(InvalidPageRequestException.class,
+                () -> accountService.getAccountsPage(PageRequest.of(0, 20), List.of("id", "password")));
+        assertThrows(InvalidPageRequestException.class,
+                () -> accountService.getAccountsPage(PageRequest.of(0, 20, Sort.by("customer.secret"))));
+    }
+
     // ─── getAccountById ───────────────────────────────────────────────────────────
 
     @Test
@@ -137,6 +227,28 @@ class AccountServiceTest {
         assertThat(ex.getMessage()).contains("99");
     }
 
+    @Test
+    @DisplayName("getAccountsByIds: should load the distinct ids with one query and leave missing ids out")
+    void getAccountsByIds_oneQuery() {
+        when(accountRepository.findAllById(any())).thenReturn(List.of(account));
+
+        Map<Long, Account> result = accountService.getAccountsByIds(List.of(1L, 99L, 1L));
+
+        assertThat(result).containsOnlyKeys(1L);
+        verify(accountRepository, times(1)).findAllById(eq(new LinkedHashSet<>(List.of(1L, 99L))));
+        assertThat(accountService.getAccountsByIds(List.of())).isEmpty();
+        verifyNoMoreInteractions(accountRepository);
+    }
+
+    @Test
+    @DisplayName("getAccountsByIds: should reject more ids than the configured maximum without querying")
+    void getAccountsByIds_tooManyIds() {
+        ReflectionTestUtils.setField(accountService, "maxAccountIds", 2);
+
+        assertThrows(InvalidPageRequestException.class, () -> accountService.getAccountsByIds(List.of(1L, 2L, 3L)));
+        verify(accountRepository, never()).findAllById(any());
+    }
+
     // ─── getAccountByNumber ───────────────────────────────────────────────────────
 
     @Test
@@ -158,6 +270,47 @@ class AccountServiceTest {
                 () -> accountService.getAccountByNumber("INVALID"));
     }
 
+    // ─── getAccountsByCustomerId ──────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getAccountsByCustomerId: should return the customer's accounts from the indexed query")
+    void getAccountsByCustomerId_success() {
+        when(accountRepository.findByCustomerId(10L)).thenReturn(List.of(account));
+
+        List<Account> result = accountService.getAccountsByCustomerId(10L);
+
+        assertThat(result).containsExactly(account);
+        verify(accountRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getAccountsByCustomerIds: should group one IN query by customer and keep customers without accounts")
+    void getAccountsByCustomerIds_groupsResults() {
+        Account other = new Account();
+        other.setId(2L);
+        other.setCustomerId(20L);
+        when(accountRepository.findByCustomerIdIn(any())).thenReturn(List.of(account, other));
+
+        Map<Long, List<Account>> result = accountService.getAccountsByCustomerIds(List.of(20L, 10L, 30L, 10L));
+
+        assertThat(result).containsOnlyKeys(20L, 10L, 30L);
+        assertThat(result.keySet()).containsExactly(20L, 10L, 30L);
+        assertThat(result.get(10L)).containsExactly(account);
+        assertThat(result.get(20L)).containsExactly(other);
+        assertThat(result.get(30L)).isEmpty();
+        verify(accountRepository, times(1)).findByCustomerIdIn(any());
+    }
+
+    @Test
+    @DisplayName("getAccountsByCustomerIds: should reject more ids than the configured maximum without querying")
+    void getAccountsByCustomerIds_tooManyIds() {
+        ReflectionTestUtils.setField(accountService, "maxCustomerIds", 2);
+
+        assertThrows(InvalidPageRequestException.class,
+                () -> accountService.getAccountsByCustomerIds(List.of(1L, 2L, 3L)));
+        verify(accountRepository, never()).findByCustomerIdIn(any());
+    }
+
     // ─── updateAccount ────────────────────────────────────────────────────────────
 
     @Test
@@ -167,7 +320,7 @@ class AccountServiceTest {
         updateDTO.setAccountNumber("ACC001-UPDATED");
         updateDTO.setCustomerId(10L);
         updateDTO.setType("Current");
-        updateDTO.setBalance(new BigDecimal("9999.00"));
+        updateDTO.setBalance(Money.of("9999.00"));
 
         when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
         when(accountRepository.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
@@ -176,7 +329,7 @@ class AccountServiceTest {
 
         assertThat(result.getAccountNumber()).isEqualTo("ACC001-UPDATED");
         assertThat(result.getType()).isEqualTo("Current");
-        assertThat(result.getBalance()).isEqualByComparingTo("9999.00");
+        assertThat(result.getBalance()).isEqualTo(Money.of("9999.00"));
         verify(accountRepository).save(account);
     }
 
@@ -201,6 +354,8 @@ class AccountServiceTest {
         accountService.deleteAccount(1L);
 
         verify(accountRepository).delete(account);
+        verify(accountTombstoneRepository).save(argThat(tombstone -> tombstone.getAccountId().equals(1L)));
+        verify(accountNumberFilter).removed("ACC001");
     }
 
     @Test
@@ -213,4 +368,55 @@ class AccountServiceTest {
 
         verify(accountRepository, never()).delete(any());
     }
+
+    // ─── getChanges ──────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getChanges: should merge writes and deletions in cursor order and stop at the limit")
+    void getChanges_mergesWritesAndDeletions() {
+        LocalDateTime t = LocalDateTime.of(2026, 10, 1, 12, 0);
+        Account first = changed(3L, t);
+        Account third = changed(2L, t.plusSeconds(2));
+        Account fourth = changed(5L, t.plusSeconds(2));
+        when(accountRepository.findChangedSince(any(), anyLong(), any(), eq(Limit.of(4))))
+                .thenReturn(List.of(first, third, fourth));
+        when(accountTombstoneRepository.findDeletedSince(any(), anyLong(), any(), eq(Limit.of(4))))
+                .thenReturn(List.of(new AccountTombstone(7L, t.plusSeconds(1)), new AccountTombstone(4L, t.plusSeconds(2))));
+        when(accountMapper.entitytodto(any(Account.class)))
+                .thenAnswer(inv -> new AccountDTO(inv.<Account>getArgument(0).getId(), null, null, null, null, null));
+
+        ChangeFeed<AccountDTO> feed = accountService.getChanges(null, null, 3);
+
+        assertThat(feed.changed()).extracting(AccountDTO::getId).containsExactly(3L, 2L);
+        assertThat(feed.deleted()).containsExactly(7L);
+        assertThat(feed.since()).isEqualTo(t.plusSeconds(2));
+        assertThat(feed.afterId()).isEqualTo(2L);
+        assertThat(feed.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getChanges: should continue from the cursor and hold back writes younger than the settle time")
+    void getChanges_fromCursor() {
+        LocalDateTime since = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(accountRepository.findChangedSince(eq(since), eq(42L), any(), any())).thenReturn(List.of());
+        when(accountTombstoneRepository.findDeletedSince(eq(since), eq(42L), any(), any())).thenReturn(List.of());
+
+        ChangeFeed<AccountDTO> feed = accountService.getChanges(since, 42L, 500);
+
+        ArgumentCaptor<LocalDateTime> upTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(accountRepository).findChangedSince(eq(since), eq(42L), upTo.capture(), eq(Limit.of(501)));
+        assertThat(upTo.getValue()).isBefore(LocalDateTime.now().minusSeconds(9));
+        assertThat(feed.changed()).isEmpty();
+        assertThat(feed.since()).isEqualTo(since);
+        assertThat(feed.afterId()).isEqualTo(42L);
+        assertThat(feed.hasMore()).isFalse();
+        assertThrows(InvalidPageRequestException.class, () -> accountService.getChanges(since, 42L, 5000));
+    }
+
+    private static Account changed(Long id, LocalDateTime updatedAt) {
+        Account changed = new Account();
+        changed.setId(id);
+        changed.setUpdatedAt(updatedAt);
+        return changed;
+    }
 }
@@ -0,0 +1,244 @@
+package com.sainik.bankingaccountapi.services;
+
+import com.sainik.bankingaccountapi.dtos.TransferDTO;
+import com.sainik.bankingaccountapi.dtos.TransferResultDTO;
+import com.sainik.bankingaccountapi.exceptions.AccountNotFoundException;
+import com.sainik.bankingaccountapi.exceptions.InsufficientBalanceException;
+import com.sainik.bankingaccountapi.exceptions.InvalidTransferException;
+import com.sainik.bankingaccountapi.exceptions.TransferConflictException;
+import com.sainik.bankingaccountapi.mappers.AccountMapper;
+import com.sainik.bankingaccountapi.dtos.AccountDTO;
+import com.sainik.bankingaccountapi.models.Account;
+import com.sainik.bankingaccountapi.models.AccountPosting;
+import com.sainik.bankingaccountapi.repositories.AccountPostingRepository;
+import com.sainik.bankingaccountapi.repositories.AccountRepository;
+import com.sainik.bankingcommon.models.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransferService Unit Tests")
+class TransferServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountMapper accountMapper;
+
+    @Mock
+    private AccountPostingRepository accountPostingRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private TransferService transferService;
+
+    private Account first;
+    private Account second;
+    private Account third;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(transferService, "backoffMillis", 0L);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        lenient().when(accountRepository.findExistingIds(any())).thenAnswer(inv ->
+                inv.<Collection<Long>>getArgument(0).stream().filter(id -> id <= 3).toList());
+
+        first = account(1L, "100.00");
+        second = account(2L, "50.00");
+        third = account(3L, "0.00");
+    }
+
+    // ─── transfer ────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("transfer: should debit source, credit target and lock in ascending id order")
+    void transfer_success() {
+        stubLocks(first, second);
+
+        TransferResultDTO result = transferService.transfer(new TransferDTO(2L, 1L, Money.of("20.00")));
+
+        assertThat(first.getBalance()).isEqualTo(Money.of("120.00"));
+        assertThat(second.getBalance()).isEqualTo(Money.of("30.00"));
+        assertThat(result.getTransfers()).isEqualTo(1);
+        assertThat(result.getNettedPairs()).isEqualTo(1);
+        InOrder inOrder = inOrder(accountRepository);
+        inOrder.verify(accountRepository).findByIdForUpdate(1L);
+        inOrder.verify(accountRepository).findByIdForUpdate(2L);
+    }
+
+    @Test
+    @DisplayName("transfer: should throw InsufficientBalanceException when source would go negative")
+    void transfer_insufficientBalance() {
+        stubLocks(first, second);
+
+        assertThrows(InsufficientBalanceException.class,
+                () -> transferService.transfer(new TransferDTO(2L, 1L, Money.of("50.01"))));
+    }
+
+    @Test
+    @DisplayName("transfer: should reject self transfers and unknown accounts")
+    void transfer_invalid() {
+        assertThrows(InvalidTransferException.class,
+                () -> transferService.transfer(new TransferDTO(1L, 1L, Money.of("1.00"))));
+
+        assertThrows(AccountNotFoundException.class,
+                () -> transferService.transfer(new TransferDTO(1L, 9L, Money.of("1.00"))));
+        verify(accountRepository, never()).findByIdForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("transfer: should retry on lock timeout and give up after max attempts")
+    void transfer_retriesLockTimeouts() {
+        doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .doAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        stubLocks(first, second);
+
+        transferService.transfer(new TransferDTO(1L, 2L, Money.of("10.00")));
+
+        assertThat(second.getBalance()).isEqualTo(Money.of("60.00"));
+        verify(transactionTemplate, times(2)).execute(any());
+
+        reset(transactionTemplate);
+        when(transactionTemplate.execute(any())).thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+        assertThrows(TransferConflictException.class,
+                () -> transferService.transfer(new TransferDTO(1L, 2L, Money.of("10.00"))));
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    // ─── transferAll ─────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("transferAll: should net transfers per account pair before applying them")
+    void transferAll_netsPairs() {
+        stubLocks(first, second, third);
+
+        TransferResultDTO result = transferService.transferAll(List.of(
+                new TransferDTO(1L, 2L, Money.of("30.00")),
+                new TransferDTO(2L, 1L, Money.of("10.00")),
+                new TransferDTO(2L, 3L, Money.of("5.00")),
+                new TransferDTO(3L, 2L, Money.of("5.00"))));
+
+        assertThat(result.getTransfers()).isEqualTo(4);
+        assertThat(result.getNettedPairs()).isEqualTo(1);
+        assertThat(first.getBalance()).isEqualTo(Money.of("80.00"));
+        assertThat(second.getBalance()).isEqualTo(Money.of("70.00"));
+        assertThat(third.getBalance()).isEqualTo(Money.of("0.00"));
+        verify(accountRepository, never()).findByIdForUpdate(3L);
+    }
+
+    @Test
+    @DisplayName("transferAll: should reject unknown accounts even when their transfers net to zero")
+    void transferAll_unknownAccountNettingToZero() {
+        stubLocks(first, second);
+
+        assertThrows(AccountNotFoundException.class, () -> transferService.transferAll(List.of(
+                new TransferDTO(1L, 2L, Money.of("5.00")),
+                new TransferDTO(1L, 9L, Money.of("5.00")),
+                new TransferDTO(9L, 1L, Money.of("5.00")))));
+
+        assertThat(first.getBalance()).isEqualTo(Money.of("100.00"));
+        verify(transactionTemplate, never()).execute(any());
+    }
+
+    // ─── post ────────────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("post: should debit or credit one locked account and reject zero amounts")
+    void post_singleAccount() {
+        stubLocks(second);
+        when(accountMapper.entitytodto(second)).thenAnswer(inv -> {
+            AccountDTO mapped = new AccountDTO();
+            mapped.setBalance(second.getBalance());
+            return mapped;
+        });
+
+        transferService.post("P1", 2L, -2_000);
+        transferService.post("P2", 2L, 500);
+
+        assertThat(second.getBalance()).isEqualTo(Money.of("35.00"));
+        assertThrows(InsufficientBalanceException.class, () -> transferService.post("P3", 2L, -3_501));
+        assertThrows(InvalidTransferException.class, () -> transferService.post("P4", 2L, 0));
+        assertThrows(InvalidTransferException.class, () -> transferService.post(" ", 2L, 100));
+        assertThat(second.getBalance()).isEqualTo(Money.of("35.00"));
+        verify(accountPostingRepository).saveAndFlush(argThat(posting ->
+                posting.getReference().equals("P1") && posting.getBalance().equals(Money.of("30.00"))));
+        verify(accountPostingRepository).saveAndFlush(argThat(posting -> posting.getReference().equals("P2")));
+        verify(accountPostingRepository, times(2)).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("post: should answer a repeated reference from its stored posting without applying it again")
+    void post_repeatedReference() {
+        AccountDTO mapped = new AccountDTO();
+        mapped.setId(2L);
+        when(accountMapper.entitytodto(second)).thenReturn(mapped);
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(second));
+        when(accountPostingRepository.findById("P1")).thenReturn(Optional.of(
+                new AccountPosting("P1", 2L, -2_000, Money.of("30.00"), LocalDateTime.now())));
+
+        AccountDTO repeated = transferService.post("P1", 2L, -2_000);
+
+        assertThat(repeated.getBalance()).isEqualTo(Money.of("30.00"));
+        assertThat(second.getBalance()).isEqualTo(Money.of("50.00"));
+        verify(accountRepository, never()).findByIdForUpdate(any());
+        verify(accountPostingRepository, never()).saveAndFlush(any());
+        assertThrows(InvalidTransferException.class, () -> transferService.post("P1", 2L, -1_000));
+    }
+
+    @Test
+    @DisplayName("post: should answer from the posting that won when the same reference was posted concurrently")
+    void post_concurrentReference() {
+        stubLocks(second);
+        AccountDTO mapped = new AccountDTO();
+        when(accountMapper.entitytodto(second)).thenReturn(mapped);
+        when(accountRepository.findById(2L)).thenReturn(Optional.of(second));
+        when(accountPostingRepository.saveAndFlush(any())).thenThrow(new DuplicateKeyException("Duplicate entry 'P1'"));
+        when(accountPostingRepository.findById("P1")).thenReturn(Optional.empty(),
+                Optional.of(new AccountPosting("P1", 2L, 500, Money.of("55.00"), LocalDateTime.now())));
+
+        AccountDTO result = transferService.post("P1", 2L, 500);
+
+        assertThat(result.getBalance()).isEqualTo(Money.of("55.00"));
+    }
+
+    private void stubLocks(Account... accounts) {
+        for (Account account : accounts) {
+            lenient().when(accountRepository.findByIdForUpdate(account.getId())).thenReturn(Optional.of(account));
+        }
+    }
+
+    private static Account account(Long id, String balance) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountNumber("ACC00" + id);
+        account.setBalance(Money.of(balance));
+        return account;
+    }
+}
@@ -0,0 +1,55 @@
+package com.sainik.bankingcommon.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// The services' DataSource: spring.datasource.url with the banking.vault credentials, and when
+// banking.datasource.replica.url is set, read-only transactions routed to the replica.
+// Pool settings come from spring.datasource.hikari.* and apply to the primary and the replica alike.
+@AutoConfiguration(beforeName = "org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration")
+@EnableConfigurationProperties({ VaultConfiguration.class, ReplicaConfiguration.class })
+public class DataSourceConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(DataSource.class)
+    public DataSource dataSource(VaultConfiguration vaultConfiguration, ReplicaConfiguration replicaConfiguration,
+                                 Environment environment,
+                                 @Value("${spring.datasource.url}") String url,
+                                 @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        DataSource primary = hikariDataSource(url, driverClassName, vaultConfiguration, environment);
+        if (!replicaConfiguration.isEnabled()) {
+            return primary;
+        }
+
+        // Lazy proxy: the route is chosen on first use, once the transaction's readOnly flag is set
+        DataSource replica = hikariDataSource(replicaConfiguration.getUrl(), driverClassName, vaultConfiguration,
+                environment);
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replica, replicaConfiguration, ReplicaLagProbe.mysql()));
+    }
+
+    private static HikariDataSource hikariDataSource(String url, String driverClassName,
+                                                     VaultConfiguration vaultConfiguration, Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(vaultConfiguration.getMysqlusername())
+                .password(vaultConfiguration.getMysqlpassword())
+                .driverClassName(driverClassName)
+                .build();
+        return Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource))
+                .orElse(dataSource);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sainik.bankingcommon.configuration;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// /actuator/hibernatecache for the services that turn on Hibernate's second-level cache
+@AutoConfiguration(afterName = "org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration")
+@ConditionalOnClass(name = "org.hibernate.SessionFactory")
+@ConditionalOnBean(EntityManagerFactory.class)
+@ConditionalOnProperty(name = "spring.jpa.properties.hibernate.cache.use_second_level_cache", havingValue = "true")
+public class HibernateCacheConfiguration {
+
+    @Bean
+    public HibernateCacheEndpoint hibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        return new HibernateCacheEndpoint(entityManagerFactory);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// /actuator/hibernatecache: per-region counters for the second-level and query caches.
+// Query regions are created on first use, so they are listed here rather than as hibernate.* meters.
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @ReadOperation
+    public Map<String, RegionStatistics> regions() {
+        Statistics statistics = statistics();
+        Map<String, RegionStatistics> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            regions.put(region, RegionStatistics.of(statistics.getCacheRegionStatistics(region)));
+        }
+        return regions;
+    }
+
+    @ReadOperation
+    public RegionStatistics region(@Selector String region) {
+        CacheRegionStatistics statistics = statistics().getCacheRegionStatistics(region);
+        return statistics == null ? null : RegionStatistics.of(statistics);
+    }
+
+    // Drops every entry of one region, e.g. after rows were changed behind Hibernate's back
+    @DeleteOperation
+    public void evict(@Selector String region) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictRegion(region);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record RegionStatistics(long hits, long misses, long puts, double hitRatio) {
+
+        static RegionStatistics of(CacheRegionStatistics statistics) {
+            long hits = statistics.getHitCount();
+            long misses = statistics.getMissCount();
+            long requests = hits + misses;
+            return new RegionStatistics(hits, misses, statistics.getPutCount(),
+                    requests == 0 ? 0 : (double) hits / requests);
+        }
+    }
+}
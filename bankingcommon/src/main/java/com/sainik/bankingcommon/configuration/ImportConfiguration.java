@@ -0,0 +1,31 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+// Enabled by each service's import service
+@Data
+@ConfigurationProperties(prefix = "banking.import")
+public class ImportConfiguration {
+
+    // Rows per JDBC batch (and per transaction)
+    private int batchSize = 1000;
+
+    // Threads writing batches for one job
+    private int writerThreads = 4;
+
+    // Parsed batches waiting for a writer; the parser blocks when the queue is full
+    private int queueCapacity = 8;
+
+    // Jobs parsed at the same time; further uploads queue up
+    private int maxConcurrentJobs = 2;
+
+    // Where uploads are spooled and error reports are kept; each service sets its own
+    private String directory = System.getProperty("java.io.tmpdir") + "/imports";
+
+    // Finished jobs and their error reports are dropped after this long
+    private Duration retention = Duration.ofHours(24);
+}
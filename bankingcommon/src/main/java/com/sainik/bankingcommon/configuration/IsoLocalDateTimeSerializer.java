@@ -0,0 +1,85 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+// LocalDateTime as ISO-8601 text, character for character what DateTimeFormatter.ISO_LOCAL_DATE_TIME prints
+// (2025-01-31T09:30:05, 2025-01-31T09:30:05.12), written from a per-thread char buffer instead of the
+// formatter's print context, builder and string per value. Every DTO carries a timestamp, so on list responses this is most of
+// the serialization garbage. Values with a @JsonFormat pattern or shape, timestamps and years outside 0000-9999
+// are left to LocalDateTimeSerializer.
+public class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    // The generator copies the characters, so a request thread can reuse its buffer for every value
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_LENGTH]);
+
+    public IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    protected IsoLocalDateTimeSerializer(IsoLocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds,
+                                         DateTimeFormatter formatter) {
+        super(base, useTimestamp, useNanoseconds, formatter);
+    }
+
+    // createContextual copies the serializer for every property; the copies must stay of this class
+    @Override
+    protected LocalDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter,
+                                                 JsonFormat.Shape shape) {
+        return new IsoLocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
+        return new IsoLocalDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (_formatter != null || year < 0 || year > 9999 || useTimestamp(provider)) {
+            super.serialize(value, generator, provider);
+            return;
+        }
+        char[] chars = BUFFER.get();
+        digits(chars, 0, year, 4);
+        chars[4] = '-';
+        digits(chars, 5, value.getMonthValue(), 2);
+        chars[7] = '-';
+        digits(chars, 8, value.getDayOfMonth(), 2);
+        chars[10] = 'T';
+        digits(chars, 11, value.getHour(), 2);
+        chars[13] = ':';
+        digits(chars, 14, value.getMinute(), 2);
+        chars[16] = ':';
+        digits(chars, 17, value.getSecond(), 2);
+        int length = 19;
+        int nano = value.getNano();
+        if (nano != 0) {
+            chars[19] = '.';
+            digits(chars, 20, nano, 9);
+            // The formatter prints the fraction without trailing zeros
+            length = MAX_LENGTH;
+            while (chars[length - 1] == '0') {
+                length--;
+            }
+        }
+        generator.writeString(chars, 0, length);
+    }
+
+    private static void digits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Logback turbo filter of the prod profile (logback-spring.xml): of the events the listed loggers and their
+// children would log below WARN, lets the first and then one in oneIn through, so a line logged on every request
+// costs a counter increment for the rest. Counted per message format, so a rare message is not crowded out by a
+// frequent one on the same logger; WARN and ERROR always pass.
+public class LogSamplingFilter extends TurboFilter {
+
+    // Past this many distinct formats (messages built by concatenation) they share one counter
+    private static final int MAX_COUNTERS = 1024;
+
+    private final Map<String, Boolean> sampledLoggers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final AtomicLong overflow = new AtomicLong();
+    private List<String> loggers = List.of();
+    private int oneIn = 100;
+
+    // Comma-separated logger names, e.g. org.hibernate.SQL,org.springframework.security
+    public void setLoggers(String loggers) {
+        this.loggers = loggers == null ? List.of() : List.of(loggers.split(",")).stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        sampledLoggers.clear();
+    }
+
+    public void setOneIn(int oneIn) {
+        this.oneIn = oneIn;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        // format is null for isDebugEnabled() and friends: guards are not sampled, the event they guard is
+        if (format == null || oneIn <= 1 || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+                || !sampledLoggers.computeIfAbsent(logger.getName(), this::isSampled)) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong counter = counters.size() < MAX_COUNTERS
+                ? counters.computeIfAbsent(format, key -> new AtomicLong())
+                : counters.getOrDefault(format, overflow);
+        return counter.getAndIncrement() % oneIn == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String name) {
+        return loggers.stream().anyMatch(logger -> name.equals(logger) || name.startsWith(logger + "."));
+    }
+}
@@ -0,0 +1,158 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.Advised;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+// One observation per call into a service, repository or mapper, with the class and method as low-cardinality
+// keys. Boot's meter handler turns each into a timer (banking.service, banking.repository, banking.mapper) whose
+// error tag separates the exception types, so a slow request can be split into business logic, mapping and
+// queries. Exceptions that GlobalException maps to a response are counted as banking.exceptions.handled.
+// Packages are switched on and off through ObservationConfiguration; a switched-off call only pays for the proxy.
+// Services and mappers are matched in any services or mappers package under com.sainik; the packages the switches
+// are relative to are the application's (@SpringBootApplication), passed in by ObservabilityConfiguration.
+@Aspect
+public class MethodObservationAspect {
+
+    static final String SERVICE_OBSERVATION = "banking.service";
+    static final String REPOSITORY_OBSERVATION = "banking.repository";
+    static final String MAPPER_OBSERVATION = "banking.mapper";
+    static final String HANDLED_EXCEPTIONS = "banking.exceptions.handled";
+
+    private final ObservationRegistry observationRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ObservationConfiguration observationConfiguration;
+    private final List<String> applicationPackages;
+
+    // Resolved once per target class: the name used in the keys and the packages that switch it
+    private final Map<Class<?>, ObservedType> types = new ConcurrentHashMap<>();
+
+    public MethodObservationAspect(ObservationRegistry observationRegistry, MeterRegistry meterRegistry,
+                                   ObservationConfiguration observationConfiguration,
+                                   List<String> applicationPackages) {
+        this.observationRegistry = observationRegistry;
+        this.meterRegistry = meterRegistry;
+        this.observationConfiguration = observationConfiguration;
+        this.applicationPackages = List.copyOf(applicationPackages);
+    }
+
+    @Around("execution(public * com.sainik..services..*.*(..))")
+    public Object observeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(SERVICE_OBSERVATION, joinPoint);
+    }
+
+    // Spring Data repositories are proxies of their interfaces, so they are matched by type rather than package
+    @Around("execution(public * *(..)) && (target(org.springframework.data.repository.Repository)"
+            + " || @within(org.springframework.stereotype.Repository))")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(REPOSITORY_OBSERVATION, joinPoint);
+    }
+
+    @Around("execution(public * com.sainik..mappers..*.*(..))")
+    public Object observeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observe(MAPPER_OBSERVATION, joinPoint);
+    }
+
+    @AfterReturning(pointcut = "@annotation(org.springframework.web.bind.annotation.ExceptionHandler)"
+            + " && args(exception)", returning = "response")
+    public void countHandledException(JoinPoint joinPoint, Exception exception, Object response) {
+        if (!type(joinPoint.getTarget()).observed(observationConfiguration.getPackages())) {
+            return;
+        }
+        String status = response instanceof ResponseEntity<?> entity
+                ? Integer.toString(entity.getStatusCode().value()) : "unknown";
+        Counter.builder(HANDLED_EXCEPTIONS)
+                .description("Exceptions mapped to an error response by GlobalException")
+                .tag("exception", exception.getClass().getSimpleName())
+                .tag("handler", joinPoint.getSignature().getName())
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Object observe(String name, ProceedingJoinPoint joinPoint) throws Throwable {
+        ObservedType type = type(joinPoint.getTarget());
+        if (!type.observed(observationConfiguration.getPackages())) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getName();
+        return Observation.createNotStarted(name, observationRegistry)
+                .contextualName(type.name() + "#" + method)
+                .lowCardinalityKeyValue("class", type.name())
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) joinPoint::proceed);
+    }
+
+    private ObservedType type(Object target) {
+        return types.computeIfAbsent(target.getClass(), targetClass -> {
+            Class<?> userType = userType(target);
+            return ObservedType.of(userType, applicationPackage(userType));
+        });
+    }
+
+    // The repository interface rather than the JDK proxy that implements it
+    private Class<?> userType(Object target) {
+        if (target instanceof Advised advised) {
+            for (Class<?> candidate : advised.getProxiedInterfaces()) {
+                if (applicationPackage(candidate) != null) {
+                    return candidate;
+                }
+            }
+        }
+        return ClassUtils.getUserClass(target);
+    }
+
+    // The application package the type is in, or null for a type from a library
+    private String applicationPackage(Class<?> type) {
+        for (String applicationPackage : applicationPackages) {
+            if (type.getName().startsWith(applicationPackage + ".")) {
+                return applicationPackage;
+            }
+        }
+        return null;
+    }
+
+    record ObservedType(String name, List<String> packages) {
+
+        // services.imports -> [services.imports, services], most specific first
+        static ObservedType of(Class<?> type, String applicationPackage) {
+            String packageName = type.getPackageName();
+            if (applicationPackage != null && packageName.startsWith(applicationPackage + ".")) {
+                packageName = packageName.substring(applicationPackage.length() + 1);
+            }
+            List<String> packages = new ArrayList<>();
+            for (String candidate = packageName; ; candidate = candidate.substring(0, candidate.lastIndexOf('.'))) {
+                packages.add(candidate);
+                if (candidate.indexOf('.') < 0) {
+                    break;
+                }
+            }
+            return new ObservedType(type.getSimpleName(), List.copyOf(packages));
+        }
+
+        boolean observed(Map<String, Boolean> switches) {
+            for (String candidate : packages) {
+                Boolean observed = switches.get(candidate);
+                if (observed != null) {
+                    return observed;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.List;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+// What the services see of themselves at run time:
+// - MethodObservationAspect: a timer per service, repository and mapper method, switched per package through
+//   banking.observation.packages.* and /actuator/observedpackages
+// - RecentSpansExporter and /actuator/spans: the last sampled spans in memory
+// - FileSpanExporter: every sampled span appended to banking.tracing.file, when it is set
+// LogSamplingFilter is not a bean; Logback creates it from the prod profile of each service's logback-spring.xml.
+@AutoConfiguration
+@EnableConfigurationProperties({ ObservationConfiguration.class, TracingConfiguration.class })
+public class ObservabilityConfiguration {
+
+    @Bean
+    public ObservedPackagesEndpoint observedPackagesEndpoint(ObservationConfiguration observationConfiguration) {
+        return new ObservedPackagesEndpoint(observationConfiguration);
+    }
+
+    // The package switches are relative to the application's packages, i.e. those of its @SpringBootApplication
+    @Bean
+    @ConditionalOnClass(name = "org.aspectj.weaver.Advice")
+    public MethodObservationAspect methodObservationAspect(ObservationRegistry observationRegistry,
+                                                           MeterRegistry meterRegistry,
+                                                           ObservationConfiguration observationConfiguration,
+                                                           BeanFactory beanFactory) {
+        List<String> applicationPackages = AutoConfigurationPackages.has(beanFactory)
+                ? AutoConfigurationPackages.get(beanFactory) : List.of();
+        return new MethodObservationAspect(observationRegistry, meterRegistry, observationConfiguration,
+                applicationPackages);
+    }
+
+    // Boot hands every SpanExporter bean to OpenTelemetry's batch span processor
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.opentelemetry.sdk.trace.export.SpanExporter")
+    static class SpanExportConfiguration {
+
+        @Bean
+        public RecentSpansExporter recentSpansExporter(TracingConfiguration tracingConfiguration) {
+            return new RecentSpansExporter(tracingConfiguration);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "banking.tracing", name = "file")
+        public FileSpanExporter fileSpanExporter(TracingConfiguration tracingConfiguration, ObjectMapper objectMapper) {
+            return new FileSpanExporter(tracingConfiguration, objectMapper);
+        }
+
+        @Bean
+        public SpansEndpoint spansEndpoint(RecentSpansExporter recentSpansExporter) {
+            return new SpansEndpoint(recentSpansExporter);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+// Enabled by ObservabilityConfiguration
+@Data
+@ConfigurationProperties(prefix = "banking.observation")
+public class ObservationConfiguration {
+
+    // Packages under the application package whose beans MethodObservationAspect observes; the most specific
+    // entry wins and packages without one are observed. Changed at runtime through /actuator/observedpackages.
+    private Map<String, Boolean> packages = new ConcurrentHashMap<>(Map.of(
+            "services", true,
+            "repositories", true,
+            "mappers", true,
+            "exceptions", true));
+}
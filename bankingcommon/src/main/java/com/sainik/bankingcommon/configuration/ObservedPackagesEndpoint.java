@@ -0,0 +1,31 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+// /actuator/observedpackages: which packages MethodObservationAspect observes.
+// POST {"observed": false} to /actuator/observedpackages/{package} (admin scope) switches one off until the next restart.
+@Endpoint(id = "observedpackages")
+public class ObservedPackagesEndpoint {
+
+    private final ObservationConfiguration observationConfiguration;
+
+    public ObservedPackagesEndpoint(ObservationConfiguration observationConfiguration) {
+        this.observationConfiguration = observationConfiguration;
+    }
+
+    @ReadOperation
+    public Map<String, Boolean> packages() {
+        return new TreeMap<>(observationConfiguration.getPackages());
+    }
+
+    @WriteOperation
+    public void observe(@Selector String packageName, boolean observed) {
+        observationConfiguration.getPackages().put(packageName, observed);
+    }
+}
@@ -0,0 +1,53 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+
+// Writes GenericResponse bodies with one ObjectWriter per declared response type, e.g. GenericResponse<AccountDTO>,
+// built when the application is ready (JacksonConfiguration) or on first use. Such a writer has its root serializer
+// resolved, with the declared type of data, instead of the converter building a writer and looking up the
+// serializer of the runtime class on every response. Other bodies, JSON views and filters take the usual path.
+public class PreparedWriterMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public PreparedWriterMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    // Builds the writer of a declared response body type; ignored unless the type is a GenericResponse
+    public void prepare(Type type) {
+        JavaType javaType = getJavaType(type, null);
+        if (isPrepared(javaType)) {
+            writers.computeIfAbsent(javaType, getObjectMapper()::writerFor);
+        }
+    }
+
+    int preparedWriters() {
+        return writers.size();
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+        if (javaType == null || !isPrepared(javaType)
+                || writer.getConfig().getActiveView() != null || writer.getConfig().getFilterProvider() != null
+                || (contentType != null && contentType.isCompatibleWith(MediaType.TEXT_EVENT_STREAM))) {
+            return writer;
+        }
+        ObjectWriter prepared = writers.get(javaType);
+        return prepared != null ? prepared : writers.computeIfAbsent(javaType, getObjectMapper()::writerFor);
+    }
+
+    private static boolean isPrepared(JavaType type) {
+        return type.hasRawClass(GenericResponse.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+// Keeps the last banking.tracing.recent-spans sampled spans in memory for /actuator/spans, so a slow request can
+// be taken apart without a collector on the network. Boot hands every SpanExporter bean to OpenTelemetry's batch
+// span processor, which exports on its own thread a few seconds after the spans end.
+public class RecentSpansExporter implements SpanExporter {
+
+    private final SpanData[] spans;
+    private int next;
+    private long exported;
+
+    public RecentSpansExporter(TracingConfiguration tracingConfiguration) {
+        this.spans = new SpanData[Math.max(1, tracingConfiguration.getRecentSpans())];
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            spans[next] = span;
+            next = (next + 1) % spans.length;
+        }
+        exported += batch.size();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    // Oldest first
+    public synchronized List<SpanData> recent() {
+        List<SpanData> recent = new ArrayList<>(spans.length);
+        for (int i = 0; i < spans.length; i++) {
+            SpanData span = spans[(next + i) % spans.length];
+            if (span != null) {
+                recent.add(span);
+            }
+        }
+        return recent;
+    }
+
+    // Spans received since startup, including those already overwritten
+    public synchronized long exported() {
+        return exported;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
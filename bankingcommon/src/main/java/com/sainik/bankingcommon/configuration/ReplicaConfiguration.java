@@ -0,0 +1,29 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+// Enabled by DataSourceConfiguration
+@Data
+@ConfigurationProperties(prefix = "banking.datasource.replica")
+public class ReplicaConfiguration {
+
+    // JDBC URL of the read replica (same credentials as the primary); routing is off when empty
+    private String url;
+
+    // Read-only transactions fall back to the primary while the replica lags more than this
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // How often the replica lag is measured; zero disables the check
+    private Duration lagCheckInterval = Duration.ofSeconds(10);
+
+    // After a write, reads by the same principal stay on the primary for this long
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    public boolean isEnabled() {
+        return url != null && !url.isBlank();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+// Measures how far a replica is behind its primary; null means unknown (e.g. replication stopped)
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    Duration measure(DataSource replica) throws SQLException;
+
+    // Seconds_Behind_Source from SHOW REPLICA STATUS (MySQL 8.0.22+; older servers report Seconds_Behind_Master)
+    static ReplicaLagProbe mysql() {
+        return replica -> {
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long seconds = rs.getLong(lagColumn(rs));
+                return rs.wasNull() ? null : Duration.ofSeconds(seconds);
+            }
+        };
+    }
+
+    private static String lagColumn(ResultSet rs) throws SQLException {
+        for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+            if (rs.getMetaData().getColumnLabel(i).equalsIgnoreCase("Seconds_Behind_Source")) {
+                return "Seconds_Behind_Source";
+            }
+        }
+        return "Seconds_Behind_Master";
+    }
+}
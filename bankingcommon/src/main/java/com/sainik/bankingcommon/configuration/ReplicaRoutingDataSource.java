@@ -0,0 +1,133 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ *
+ * A read-only transaction still goes to the primary when
+ * - the same principal wrote within the stickiness window (read-your-writes), or
+ * - the last lag measurement was above the tolerance, failed, or found replication stopped.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's readOnly flag is only
+ * known once the transaction has begun, i.e. when the first statement asks for a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource replica;
+    private final ReplicaLagProbe lagProbe;
+    private final LongSupplier nanoClock;
+    private final long maxLagNanos;
+    private final long lagCheckIntervalNanos;
+    private final long stickinessNanos;
+
+    private final Map<String, Long> lastWriteByPrincipal = new ConcurrentHashMap<>();
+    private final AtomicLong nextLagCheck;
+    private volatile boolean replicaInSync = true;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica,
+                                    ReplicaConfiguration configuration, ReplicaLagProbe lagProbe) {
+        this(primary, replica, configuration, lagProbe, System::nanoTime);
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaConfiguration configuration,
+                             ReplicaLagProbe lagProbe, LongSupplier nanoClock) {
+        this.replica = replica;
+        this.lagProbe = lagProbe;
+        this.nanoClock = nanoClock;
+        this.maxLagNanos = configuration.getMaxLag().toNanos();
+        this.lagCheckIntervalNanos = configuration.getLagCheckInterval().toNanos();
+        this.stickinessNanos = configuration.getStickiness().toNanos();
+        this.nextLagCheck = new AtomicLong(nanoClock.getAsLong());
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String principal = currentPrincipal();
+        long now = nanoClock.getAsLong();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                recordWrite(principal, now);
+                // Restart the window at commit, so long transactions stay sticky afterwards too
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        recordWrite(principal, nanoClock.getAsLong());
+                    }
+                });
+            }
+            return Route.PRIMARY;
+        }
+
+        Long lastWrite = lastWriteByPrincipal.get(principal);
+        if (lastWrite != null) {
+            if (now - lastWrite < stickinessNanos) {
+                return Route.PRIMARY;
+            }
+            lastWriteByPrincipal.remove(principal, lastWrite);
+        }
+        return isReplicaInSync(now) ? Route.REPLICA : Route.PRIMARY;
+    }
+
+    private void recordWrite(String principal, long now) {
+        if (stickinessNanos > 0) {
+            lastWriteByPrincipal.put(principal, now);
+        }
+    }
+
+    // Re-measures at most once per interval, on whichever request thread gets there first
+    private boolean isReplicaInSync(long now) {
+        if (lagCheckIntervalNanos <= 0) {
+            return true;
+        }
+        long next = nextLagCheck.get();
+        if (now - next >= 0 && nextLagCheck.compareAndSet(next, now + lagCheckIntervalNanos)) {
+            replicaInSync = measureLag();
+            lastWriteByPrincipal.values().removeIf(lastWrite -> now - lastWrite >= stickinessNanos);
+        }
+        return replicaInSync;
+    }
+
+    private boolean measureLag() {
+        try {
+            Duration lag = lagProbe.measure(replica);
+            boolean inSync = lag != null && lag.toNanos() <= maxLagNanos;
+            if (inSync != replicaInSync) {
+                log.warn("Replica lag is {}; read-only transactions now go to the {}", lag, inSync ? "replica" : "primary");
+            }
+            return inSync;
+        } catch (Exception e) {
+            if (replicaInSync) {
+                log.warn("Replica lag check failed, read-only transactions now go to the primary: {}", e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+}
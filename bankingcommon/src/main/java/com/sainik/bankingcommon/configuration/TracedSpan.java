@@ -0,0 +1,50 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+// A finished span as /actuator/spans shows it and FileSpanExporter writes it: one JSON object per span.
+// parentSpanId is null for the root of a trace; a request that came through the gateway has the gateway's span as
+// its parent, which is listed in the gateway's /actuator/spans.
+public record TracedSpan(String traceId, String spanId, String parentSpanId, String name, String kind,
+                         Instant start, long durationMicros, String status, Map<String, Object> attributes) {
+
+    // Full URLs: kept without their query string, which can carry ids, search terms or tokens
+    private static final Set<String> URL_ATTRIBUTES = Set.of("http.url", "http.uri", "url.full");
+
+    // Dropped: the query string on its own, SQL statements and their bound values, which can hold customer data
+    private static final List<String> DROPPED_ATTRIBUTE_PREFIXES = List.of("url.query", "jdbc.query", "jdbc.params");
+
+    static TracedSpan of(SpanData span) {
+        Map<String, Object> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> {
+            String name = key.getKey();
+            if (DROPPED_ATTRIBUTE_PREFIXES.stream().anyMatch(name::startsWith)) {
+                return;
+            }
+            attributes.put(name, URL_ATTRIBUTES.contains(name) ? withoutQuery(value) : value);
+        });
+        return new TracedSpan(
+                span.getTraceId(),
+                span.getSpanId(),
+                span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                span.getName(),
+                span.getKind().name(),
+                Instant.ofEpochSecond(0, span.getStartEpochNanos()),
+                TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                span.getStatus().getStatusCode().name(),
+                attributes);
+    }
+
+    private static Object withoutQuery(Object url) {
+        String text = url.toString();
+        int query = text.indexOf('?');
+        return query < 0 ? text : text.substring(0, query);
+    }
+}
@@ -1,11 +1,11 @@
-package com.sainik.bankingcustomer.configuration;
+package com.sainik.bankingcommon.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
+
 import lombok.Data;
 
+// Database credentials; enabled by DataSourceConfiguration
 @Data
-@Configuration
 @ConfigurationProperties(prefix = "banking.vault")
 public class VaultConfiguration {
 
@@ -0,0 +1,29 @@
+package com.sainik.bankingcommon.controllers;
+
+// Strong ETags derived from an entity's id and @Version, so a conditional GET never has to map or serialize
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(Long id, Long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    // If-None-Match uses the weak comparison: a W/ prefix is ignored and "*" matches any current representation
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
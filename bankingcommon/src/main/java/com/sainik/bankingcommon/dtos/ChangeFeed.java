@@ -0,0 +1,9 @@
+package com.sainik.bankingcommon.dtos;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// One page of a changes feed, oldest write first. since/afterId is the cursor for the next request;
+// hasMore = false means the client has caught up and can poll again later with the same cursor.
+public record ChangeFeed<T>(List<T> changed, List<Long> deleted, LocalDateTime since, Long afterId, boolean hasMore) {
+}
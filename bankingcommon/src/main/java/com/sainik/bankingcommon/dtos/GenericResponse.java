@@ -1,4 +1,4 @@
-package com.sainik.bankingcustomer.dtos;
+package com.sainik.bankingcommon.dtos;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
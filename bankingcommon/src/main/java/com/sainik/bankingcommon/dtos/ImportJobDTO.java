@@ -0,0 +1,16 @@
+package com.sainik.bankingcommon.dtos;
+
+import java.time.LocalDateTime;
+
+// Progress of a bulk import; rejected counts rows that failed validation or already existed
+public record ImportJobDTO(
+        String jobId,
+        String status,
+        String format,
+        long rowsRead,
+        long imported,
+        long rejected,
+        LocalDateTime submittedAt,
+        LocalDateTime finishedAt,
+        String message) {
+}
@@ -0,0 +1,26 @@
+package com.sainik.bankingcommon.dtos;
+
+import com.sainik.bankingcommon.models.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Lets the standard {@code @Min} constraint (in major units) apply to {@link Money} fields.
+ * Registered through META-INF/services/jakarta.validation.ConstraintValidator.
+ */
+public class MinMoneyValidator implements ConstraintValidator<Min, Money> {
+
+    private long minMinorUnits;
+
+    @Override
+    public void initialize(Min constraint) {
+        long min = constraint.value();
+        minMinorUnits = Math.abs(min) > Long.MAX_VALUE / 100 ? (min < 0 ? Long.MIN_VALUE : Long.MAX_VALUE) : min * 100;
+    }
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.minorUnits() >= minMinorUnits;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sainik.bankingcommon.dtos;
+
+import com.sainik.bankingcommon.models.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Lets the standard {@code @Positive} constraint apply to {@link Money} fields.
+ * Registered through META-INF/services/jakarta.validation.ConstraintValidator.
+ */
+public class PositiveMoneyValidator implements ConstraintValidator<Positive, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.isPositive();
+    }
+}
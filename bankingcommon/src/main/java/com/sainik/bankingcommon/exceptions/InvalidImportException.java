@@ -0,0 +1,8 @@
+package com.sainik.bankingcommon.exceptions;
+
+// An upload the bulk import endpoints cannot take at all, e.g. an unsupported Content-Type; answered with 400
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
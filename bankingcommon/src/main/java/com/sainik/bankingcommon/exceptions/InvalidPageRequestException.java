@@ -0,0 +1,7 @@
+package com.sainik.bankingcommon.exceptions;
+
+public class InvalidPageRequestException extends RuntimeException {
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
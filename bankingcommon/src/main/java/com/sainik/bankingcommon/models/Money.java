@@ -0,0 +1,204 @@
+package com.sainik.bankingcommon.models;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.CharBuffer;
+import java.util.Objects;
+
+/**
+ * Monetary amount held as a whole number of minor units (cents) plus an ISO 4217 currency code.
+ *
+ * Arithmetic is exact and fails with {@link ArithmeticException} on overflow instead of wrapping.
+ * On the wire an amount is a plain JSON decimal with two fraction digits ("250.00"), and in the
+ * database a BIGINT of minor units (see {@link MoneyConverter}). Every amount in the services is
+ * in {@link #DEFAULT_CURRENCY}; mixing currencies in arithmetic is rejected. Serializable because
+ * entities holding it are kept in the Hibernate second-level cache.
+ */
+@JsonSerialize(using = MoneyJsonSerializer.class)
+@JsonDeserialize(using = MoneyJsonDeserializer.class)
+@Schema(type = "number", format = "decimal", example = "250.00")
+public record Money(long minorUnits, String currency) implements Comparable<Money>, Serializable {
+
+    public static final String DEFAULT_CURRENCY = "EUR";
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0, DEFAULT_CURRENCY);
+
+    /** Longest output of {@link #format}: sign, 17 integer digits, '.', 2 fraction digits. */
+    static final int MAX_CHARS = 21;
+
+    public Money {
+        Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Parses a plain decimal such as "250", "-12.5" or "0.05". More than two
+     * non-zero fraction digits are rejected rather than rounded.
+     */
+    public static Money of(CharSequence decimal) {
+        return ofMinor(parseMinorUnits(decimal, 0, decimal.length()));
+    }
+
+    public static Money of(BigDecimal decimal) {
+        try {
+            return ofMinor(decimal.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount " + decimal + " is not representable in minor units");
+        }
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits), currency);
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor), currency);
+    }
+
+    public static Money sum(Iterable<Money> amounts) {
+        long total = 0;
+        String currency = null;
+        for (Money amount : amounts) {
+            if (currency == null) {
+                currency = amount.currency;
+            } else if (!currency.equals(amount.currency)) {
+                throw new IllegalArgumentException("Cannot sum " + currency + " and " + amount.currency);
+            }
+            total = Math.addExact(total, amount.minorUnits);
+        }
+        return currency == null ? ZERO : new Money(total, currency);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    /** Plain decimal with two fraction digits, e.g. "-12.50". */
+    @Override
+    public String toString() {
+        char[] buffer = new char[MAX_CHARS];
+        int length = format(minorUnits, buffer);
+        return new String(buffer, 0, length);
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+    // ─── allocation-free text conversion, shared with the JSON serializer/deserializer ───
+
+    /**
+     * Writes minor units as a plain decimal to the start of the buffer (at least
+     * {@link #MAX_CHARS} long) and returns the number of chars written.
+     */
+    static int format(long minorUnits, char[] buffer) {
+        // Work on the negative value so Long.MIN_VALUE needs no special case
+        long value = minorUnits > 0 ? -minorUnits : minorUnits;
+        int pos = MAX_CHARS;
+        for (int i = 0; i < SCALE; i++) {
+            buffer[--pos] = (char) ('0' - (value % 10));
+            value /= 10;
+        }
+        buffer[--pos] = '.';
+        do {
+            buffer[--pos] = (char) ('0' - (value % 10));
+            value /= 10;
+        } while (value != 0);
+        if (minorUnits < 0) {
+            buffer[--pos] = '-';
+        }
+        int length = MAX_CHARS - pos;
+        System.arraycopy(buffer, pos, buffer, 0, length);
+        return length;
+    }
+
+    static long parseMinorUnits(char[] text, int offset, int length) {
+        return parseMinorUnits(CharBuffer.wrap(text, offset, length), 0, length);
+    }
+
+    static long parseMinorUnits(CharSequence text, int start, int end) {
+        int i = start;
+        if (i == end) {
+            throw new NumberFormatException("Empty amount");
+        }
+        boolean negative = false;
+        char first = text.charAt(i);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i++;
+        }
+
+        // Accumulate negatively so the full long range parses without overflow
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c == 'e' || c == 'E') {
+                // Exponent notation is rare on the wire; let BigDecimal handle it
+                return of(new BigDecimal(text.subSequence(start, end).toString())).minorUnits();
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+            }
+            digits++;
+            if (fractionDigits >= 0 && ++fractionDigits > SCALE) {
+                if (c != '0') {
+                    throw new ArithmeticException("Amount has more than " + SCALE + " decimal places: "
+                            + text.subSequence(start, end));
+                }
+                continue;
+            }
+            value = Math.subtractExact(Math.multiplyExact(value, 10), c - '0');
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid amount: " + text.subSequence(start, end));
+        }
+        for (int scale = Math.max(fractionDigits, 0); scale < SCALE; scale++) {
+            value = Math.multiplyExact(value, 10);
+        }
+        return negative ? value : Math.negateExact(value);
+    }
+}
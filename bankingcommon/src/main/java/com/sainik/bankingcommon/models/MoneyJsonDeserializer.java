@@ -0,0 +1,42 @@
+package com.sainik.bankingcommon.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadCapability;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads {@link Money} from a JSON number (or numeric string) straight from the parser's
+ * character buffer, without going through BigDecimal. Amounts with more than two
+ * non-zero decimal places or outside the long range are rejected. Binary formats (CBOR) carry
+ * the decimal that {@link MoneyJsonSerializer} wrote, which is taken as it is.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        try {
+            if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+                return Money.ofMinor(Math.multiplyExact(p.getLongValue(), 100L));
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT && p.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+                return Money.ofMinor(p.getDecimalValue().movePointRight(2).longValueExact());
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT
+                    || token == JsonToken.VALUE_STRING) {
+                return Money.ofMinor(Money.parseMinorUnits(p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+            }
+        } catch (ArithmeticException | NumberFormatException e) {
+            return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), e.getMessage());
+        }
+        return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+    }
+}
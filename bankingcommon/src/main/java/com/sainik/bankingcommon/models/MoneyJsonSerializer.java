@@ -0,0 +1,27 @@
+package com.sainik.bankingcommon.models;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/** Writes {@link Money} as a JSON number with two fraction digits, without going through BigDecimal. */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!gen.canWriteFormattedNumbers()) {
+            // Binary formats have their own decimal encoding
+            gen.writeNumber(value.toBigDecimal());
+            return;
+        }
+        char[] buffer = new char[Money.MAX_CHARS];
+        int length = Money.format(value.minorUnits(), buffer);
+        gen.writeNumber(buffer, 0, length);
+    }
+}
@@ -0,0 +1,145 @@
+package com.sainik.bankingcommon.services;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counting Bloom filter over string keys.
+ *
+ * Each slot is a 4-bit counter (16 per long), so keys can be removed again. A counter that
+ * reaches 15 saturates and is never decremented, which can only cause extra positives.
+ * mightContain never returns false for a key that was added and not removed; it returns true
+ * for an absent key with roughly the configured false-positive rate while the filter holds no
+ * more than the expected number of keys.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final long MAX_COUNT = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long slots;
+    private final int hashes;
+    private final LongAdder entries = new LongAdder();
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        // Standard sizing: m = -n ln p / (ln 2)^2 slots, k = m/n ln 2 hash functions
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = Math.toIntExact(Math.max(1, (m + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+        this.words = new AtomicLongArray(words);
+        this.slots = (long) words * COUNTERS_PER_WORD;
+        this.hashes = Math.max(1, (int) Math.round((double) slots / expectedInsertions * Math.log(2)));
+    }
+
+    public boolean mightContain(CharSequence key) {
+        long h1 = hash(key);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashes; i++) {
+            long slot = Math.floorMod(h1 + i * h2, slots);
+            if (counter(words.get(word(slot)), slot) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void add(CharSequence key) {
+        long h1 = hash(key);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashes; i++) {
+            update(Math.floorMod(h1 + i * h2, slots), 1);
+        }
+        entries.increment();
+    }
+
+    /**
+     * Removes a key that was previously added. Removing a key that was never added can clear
+     * slots shared with other keys, i.e. introduce false negatives, so callers must tolerate those.
+     */
+    public void remove(CharSequence key) {
+        if (!mightContain(key)) {
+            return;
+        }
+        long h1 = hash(key);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashes; i++) {
+            update(Math.floorMod(h1 + i * h2, slots), -1);
+        }
+        entries.decrement();
+    }
+
+    public long entries() {
+        return Math.max(0, entries.sum());
+    }
+
+    // Probability that an absent key tests positive at the current fill: (1 - e^(-kn/m))^k
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashes * entries() / slots), hashes);
+    }
+
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    public int hashFunctions() {
+        return hashes;
+    }
+
+    private void update(long slot, int delta) {
+        int index = word(slot);
+        int shift = shift(slot);
+        long current;
+        long updated;
+        do {
+            current = words.get(index);
+            long count = (current >>> shift) & COUNTER_MASK;
+            if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                return;
+            }
+            updated = current + ((long) delta << shift);
+        } while (!words.compareAndSet(index, current, updated));
+    }
+
+    private static int word(long slot) {
+        return (int) (slot / COUNTERS_PER_WORD);
+    }
+
+    private static int shift(long slot) {
+        return (int) (slot % COUNTERS_PER_WORD) * 4;
+    }
+
+    private static long counter(long word, long slot) {
+        return (word >>> shift(slot)) & COUNTER_MASK;
+    }
+
+    // FNV-1a over the chars, finished with the murmur3 64-bit mixer
+    private static long hash(CharSequence key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return fmix64(h);
+    }
+
+    // Odd, so that h1 + i * h2 visits distinct slots (Kirsch-Mitzenmacher double hashing)
+    private static long secondHash(long h1) {
+        return fmix64(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
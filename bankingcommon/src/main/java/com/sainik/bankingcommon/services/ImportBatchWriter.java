@@ -0,0 +1,11 @@
+package com.sainik.bankingcommon.services;
+
+import java.util.List;
+
+// Stores one batch of an ImportPipeline job; called from several writer threads at once
+public interface ImportBatchWriter<T> {
+
+    // Rejects the rows that cannot be stored on the job and counts the others with ImportJob.rowImported.
+    // Any exception stops the job.
+    void write(ImportJob job, List<ImportRow<T>> batch);
+}
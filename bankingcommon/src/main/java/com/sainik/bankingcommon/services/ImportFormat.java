@@ -0,0 +1,32 @@
+package com.sainik.bankingcommon.services;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import com.sainik.bankingcommon.exceptions.InvalidImportException;
+
+// Upload formats accepted by the bulk import endpoints, chosen by Content-Type
+public enum ImportFormat {
+
+    CSV, NDJSON;
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    public static ImportFormat fromContentType(String contentType) {
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+                return CSV;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType(APPLICATION_NDJSON))
+                    || mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+                return NDJSON;
+            }
+        } catch (InvalidMediaTypeException e) {
+            // reported below like any other unsupported type
+        }
+        throw new InvalidImportException("Unsupported Content-Type " + contentType
+                + "; use " + TEXT_CSV + " or " + APPLICATION_NDJSON);
+    }
+}
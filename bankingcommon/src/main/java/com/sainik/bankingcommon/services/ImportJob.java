@@ -0,0 +1,133 @@
+package com.sainik.bankingcommon.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+
+// State of one bulk import. Rejected rows go to a CSV error report next to the spooled upload.
+public final class ImportJob {
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final ImportFormat format;
+    private final Path upload;
+    private final Path errorReport;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String message;
+    private final BufferedWriter errors;
+
+    public ImportJob(ImportFormat format, Path directory) throws IOException {
+        this.format = format;
+        this.upload = directory.resolve(id + ".upload");
+        this.errorReport = directory.resolve(id + "-errors.csv");
+        this.errors = Files.newBufferedWriter(errorReport, StandardCharsets.UTF_8);
+        errors.write("record,field,message\n");
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public ImportFormat format() {
+        return format;
+    }
+
+    public Path upload() {
+        return upload;
+    }
+
+    public Path errorReport() {
+        return errorReport;
+    }
+
+    public void start() {
+        status = Status.RUNNING;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public long rowsRead() {
+        return rowsRead.get();
+    }
+
+    public void rowImported() {
+        imported.incrementAndGet();
+    }
+
+    public void finish(Status outcome, String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = outcome;
+        closeErrors();
+    }
+
+    public boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    public LocalDateTime finishedAt() {
+        return finishedAt;
+    }
+
+    // record is the 1-based position of the row in the upload, header excluded
+    public synchronized void reject(long record, String field, String reason) {
+        rejected.incrementAndGet();
+        try {
+            errors.write(record + "," + csv(field) + "," + csv(reason) + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Makes the rejections so far visible to a download while the job is still running
+    public synchronized void flushErrors() {
+        try {
+            if (!isFinished()) {
+                errors.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ImportJobDTO toDTO() {
+        return new ImportJobDTO(id, status.name(), format.name(), rowsRead.get(), imported.get(), rejected.get(),
+                submittedAt, finishedAt, message);
+    }
+
+    private synchronized void closeErrors() {
+        try {
+            errors.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,287 @@
+package com.sainik.bankingcommon.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.sainik.bankingcommon.configuration.ImportConfiguration;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.exceptions.ImportJobNotFoundException;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk import of CSV (with a header row) or NDJSON uploads; the ImportBatchWriter decides how rows are stored.
+ *
+ * The upload is spooled to disk as it arrives and then runs as a background job:
+ * - One parser thread reads the file row by row and validates each row against the row type.
+ * - It hands batches to writer threads through a bounded queue, so memory stays flat.
+ * - Writers pass each batch to the ImportBatchWriter; the first exception fails the job.
+ * Jobs live in memory only, so they are lost on restart.
+ */
+public class ImportPipeline<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportPipeline.class);
+
+    // Tells a writer that the parser is done; compared by identity
+    private final List<ImportRow<T>> endOfInput = new ArrayList<>();
+
+    private final String name;
+    private final ImportConfiguration importConfiguration;
+    private final Validator validator;
+    private final ImportBatchWriter<T> writer;
+
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final Path directory;
+    private final ExecutorService parsers;
+    private final ExecutorService writers;
+    private final ObjectReader ndjsonReader;
+    private final ObjectReader csvReader;
+
+    // name ("account") labels the threads and log lines; files left in the directory by an earlier run are deleted
+    public ImportPipeline(String name, Class<T> rowType, ImportConfiguration importConfiguration,
+            ObjectMapper objectMapper, Validator validator, ImportBatchWriter<T> writer) throws IOException {
+        this.name = name;
+        this.importConfiguration = importConfiguration;
+        this.validator = validator;
+        this.writer = writer;
+
+        directory = Files.createDirectories(Path.of(importConfiguration.getDirectory()));
+        try (Stream<Path> leftovers = Files.list(directory)) {
+            for (Path file : leftovers.toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+        parsers = Executors.newFixedThreadPool(importConfiguration.getMaxConcurrentJobs(),
+                Thread.ofPlatform().name(name + "-import-", 0).daemon().factory());
+        writers = Executors.newFixedThreadPool(importConfiguration.getMaxConcurrentJobs() * importConfiguration.getWriterThreads(),
+                Thread.ofPlatform().name(name + "-import-writer-", 0).daemon().factory());
+
+        ndjsonReader = objectMapper.readerFor(rowType);
+        CsvMapper csvMapper = CsvMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .build();
+        csvReader = csvMapper.readerFor(rowType).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    public void shutdown() {
+        parsers.shutdownNow();
+        writers.shutdownNow();
+    }
+
+    // Copies the body to disk in small chunks (never held in memory) and queues the job
+    public ImportJobDTO submit(InputStream body, String contentType) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+        purgeExpiredJobs();
+
+        ImportJob job = new ImportJob(format, directory);
+        try {
+            Files.copy(body, job.upload(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            job.finish(ImportJob.Status.FAILED, "Upload interrupted: " + e.getMessage());
+            Files.deleteIfExists(job.upload());
+            Files.deleteIfExists(job.errorReport());
+            throw e;
+        }
+        jobs.put(job.id(), job);
+        parsers.execute(() -> run(job));
+        log.info("Queued {} import {} ({}, {} bytes)", name, job.id(), format, Files.size(job.upload()));
+        return job.toDTO();
+    }
+
+    public ImportJobDTO getJob(String jobId) {
+        return find(jobId).toDTO();
+    }
+
+    public Path getErrorReport(String jobId) {
+        ImportJob job = find(jobId);
+        job.flushErrors();
+        return job.errorReport();
+    }
+
+    private ImportJob find(String jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job not found with id: " + jobId);
+        }
+        return job;
+    }
+
+    private void run(ImportJob job) {
+        job.start();
+        BlockingQueue<List<ImportRow<T>>> queue = new ArrayBlockingQueue<>(importConfiguration.getQueueCapacity());
+        WriteFailure failure = new WriteFailure();
+        List<Future<?>> writerTasks = new ArrayList<>();
+        for (int i = 0; i < importConfiguration.getWriterThreads(); i++) {
+            writerTasks.add(writers.submit(() -> drain(job, queue, failure)));
+        }
+
+        ImportJob.Status outcome = ImportJob.Status.COMPLETED;
+        String message = null;
+        try {
+            parse(job, queue, failure);
+        } catch (IOException | RuntimeException e) {
+            outcome = ImportJob.Status.FAILED;
+            message = "Import stopped after " + job.rowsRead() + " rows: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcome = ImportJob.Status.FAILED;
+            message = "Import interrupted";
+        } finally {
+            try {
+                for (int i = 0; i < writerTasks.size(); i++) {
+                    queue.put(endOfInput);
+                }
+                for (Future<?> task : writerTasks) {
+                    task.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                failure.set(e.getCause());
+            }
+            if (failure.get() != null) {
+                outcome = ImportJob.Status.FAILED;
+                message = "Database write failed: " + failure.get().getMessage();
+            }
+            try {
+                Files.deleteIfExists(job.upload());
+            } catch (IOException e) {
+                log.warn("Could not delete spooled upload {}", job.upload(), e);
+            }
+            job.finish(outcome, message);
+            log.info("Finished {} import {} {}: {}", name, job.id(), outcome, job.toDTO());
+        }
+    }
+
+    private void parse(ImportJob job, BlockingQueue<List<ImportRow<T>>> queue, WriteFailure failure)
+            throws IOException, InterruptedException {
+        ObjectReader reader = job.format() == ImportFormat.CSV ? csvReader : ndjsonReader;
+        int batchSize = importConfiguration.getBatchSize();
+        List<ImportRow<T>> batch = new ArrayList<>(batchSize);
+        long record = 0;
+
+        try (MappingIterator<T> rows = reader.readValues(job.upload().toFile())) {
+            while (rows.hasNextValue()) {
+                record++;
+                job.rowRead();
+                T row;
+                try {
+                    row = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    // Bad value in one row (e.g. wrong type); the iterator skips to the next row
+                    job.reject(record, fieldOf(e), e.getOriginalMessage());
+                    continue;
+                }
+
+                Set<ConstraintViolation<T>> violations = validator.validate(row);
+                if (!violations.isEmpty()) {
+                    job.reject(record,
+                            violations.stream().map(v -> v.getPropertyPath().toString()).sorted().collect(Collectors.joining(";")),
+                            violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining("; ")));
+                    continue;
+                }
+
+                batch.add(new ImportRow<>(record, row));
+                if (batch.size() == batchSize) {
+                    if (failure.get() != null) {
+                        return;
+                    }
+                    queue.put(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            queue.put(batch);
+        }
+    }
+
+    private void drain(ImportJob job, BlockingQueue<List<ImportRow<T>>> queue, WriteFailure failure) {
+        try {
+            List<ImportRow<T>> batch;
+            while ((batch = queue.take()) != endOfInput) {
+                // After a failure keep taking batches so the parser never blocks, but drop them
+                if (failure.get() != null) {
+                    continue;
+                }
+                try {
+                    writer.write(job, batch);
+                } catch (RuntimeException e) {
+                    log.error("Failed to write a batch of {} import {}", name, job.id(), e);
+                    failure.set(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(importConfiguration.getRetention());
+        jobs.values().removeIf(job -> {
+            if (!job.isFinished() || job.finishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            try {
+                Files.deleteIfExists(job.errorReport());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+    }
+
+    private static String fieldOf(JsonMappingException e) {
+        List<JsonMappingException.Reference> path = e.getPath();
+        return path.isEmpty() ? "" : path.get(path.size() - 1).getFieldName();
+    }
+
+    // First error raised by a writer; stops the job
+    private static final class WriteFailure {
+
+        private volatile Throwable cause;
+
+        Throwable get() {
+            return cause;
+        }
+
+        synchronized void set(Throwable cause) {
+            if (this.cause == null) {
+                this.cause = cause;
+            }
+        }
+    }
+}
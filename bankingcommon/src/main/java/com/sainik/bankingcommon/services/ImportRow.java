@@ -0,0 +1,5 @@
+package com.sainik.bankingcommon.services;
+
+// A parsed, valid row of an upload; record is its 1-based position, header excluded
+public record ImportRow<T>(long record, T value) {
+}
@@ -0,0 +1,12 @@
+package com.sainik.bankingcommon.services;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// Binds one row to the parameters of a JdbcImportBatchWriter's INSERT; now is the same for the whole batch
+@FunctionalInterface
+public interface ImportRowMapper<T> {
+
+    void bind(PreparedStatement ps, T row, Timestamp now) throws SQLException;
+}
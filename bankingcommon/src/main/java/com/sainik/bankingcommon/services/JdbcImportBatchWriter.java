@@ -0,0 +1,77 @@
+package com.sainik.bankingcommon.services;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inserts each batch of an import as one JDBC batch in its own transaction.
+ *
+ * Rows whose unique key is already stored are rejected up front by withoutExisting. A batch that still
+ * hits the unique constraint (a duplicate inside the upload or a concurrent insert) is retried row by row,
+ * so only the clashing rows end up in the job's error report.
+ */
+public abstract class JdbcImportBatchWriter<T> implements ImportBatchWriter<T> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String insertSql;
+    private final String keyField;
+    private final ImportRowMapper<T> rowMapper;
+
+    // keyField names the field behind the unique constraint in the error report
+    protected JdbcImportBatchWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            String insertSql, String keyField, ImportRowMapper<T> rowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.insertSql = insertSql;
+        this.keyField = keyField;
+        this.rowMapper = rowMapper;
+    }
+
+    @Override
+    public void write(ImportJob job, List<ImportRow<T>> batch) {
+        List<ImportRow<T>> fresh = withoutExisting(job, batch);
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(insertSql, fresh, fresh.size(), (ps, row) -> rowMapper.bind(ps, row.value(), now)));
+            fresh.forEach(row -> imported(job, row));
+        } catch (DataIntegrityViolationException e) {
+            for (ImportRow<T> row : fresh) {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            jdbcTemplate.update(insertSql, ps -> rowMapper.bind(ps, row.value(), now)));
+                    imported(job, row);
+                } catch (DataIntegrityViolationException rowError) {
+                    job.reject(row.record(), keyField, "Rejected by the database: " + rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        afterBatch();
+    }
+
+    // Rejects the rows whose unique key already exists and returns the others
+    protected abstract List<ImportRow<T>> withoutExisting(ImportJob job, List<ImportRow<T>> batch);
+
+    // Called once per inserted row
+    protected void imported(T row) {
+    }
+
+    // Called after each batch that reached the database, e.g. to evict caches the JDBC insert bypassed
+    protected void afterBatch() {
+    }
+
+    private void imported(ImportJob job, ImportRow<T> row) {
+        job.rowImported();
+        imported(row.value());
+    }
+}
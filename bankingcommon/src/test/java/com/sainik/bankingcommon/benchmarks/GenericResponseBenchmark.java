@@ -0,0 +1,126 @@
+package com.sainik.bankingcommon.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sainik.bankingcommon.configuration.JacksonConfiguration;
+import com.sainik.bankingcommon.configuration.PreparedWriterMessageConverter;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A GenericResponse body written by the HTTP message converter, as a controller returns it:
+ * <ul>
+ *   <li>{@code default}: Boot's ObjectMapper settings and converter</li>
+ *   <li>{@code customizer}: plus JacksonConfiguration's ObjectMapper customizer (Blackbird,
+ *   IsoLocalDateTimeSerializer, no flush per value)</li>
+ *   <li>{@code prepared}: plus PreparedWriterMessageConverter, i.e. what the services run</li>
+ * </ul>
+ * Run with the GC profiler to see allocation per response:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="GenericResponseBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GenericResponseBenchmark {
+
+    private static final Type RESPONSE_TYPE = new ParameterizedTypeReference<GenericResponse<List<Row>>>() {
+    }.getType();
+
+    @Param({"default", "customizer", "prepared"})
+    public String setup;
+
+    @Param({"1", "100"})
+    public int listSize;
+
+    private MappingJackson2HttpMessageConverter converter;
+    private GenericResponse<List<Row>> response;
+    private final ReusableOutputMessage output = new ReusableOutputMessage();
+
+    // Shaped like the services' DTOs: Lombok accessors, ids, strings, an amount and timestamps
+    @Data
+    @AllArgsConstructor
+    public static class Row {
+        private Long id;
+        private String number;
+        private Long ownerId;
+        private String type;
+        private BigDecimal amount;
+        private String status;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to its ObjectMapper: java.time values as ISO strings
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (!setup.equals("default")) {
+            new JacksonConfiguration().bankingObjectMapperCustomizer().customize(builder);
+        }
+        ObjectMapper objectMapper = builder.build();
+        converter = setup.equals("prepared")
+                ? new PreparedWriterMessageConverter(objectMapper)
+                : new MappingJackson2HttpMessageConverter(objectMapper);
+
+        List<Row> rows = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            rows.add(new Row((long) i + 1, "ACC" + (100000 + i), (long) i / 3, i % 2 == 0 ? "Savings" : "Current",
+                    BigDecimal.valueOf(i * 7919L % 10_000_000, 2), "ACTIVE", LocalDateTime.now(), LocalDateTime.now()));
+        }
+        response = GenericResponse.success("Accounts retrieved successfully", rows);
+    }
+
+    @Benchmark
+    public int writeResponse() throws Exception {
+        output.body.reset();
+        converter.write(response, RESPONSE_TYPE, MediaType.APPLICATION_JSON, output);
+        return output.body.size();
+    }
+
+    // Keeps its buffer between calls, like the servlet container's response buffer, so only the writing allocates
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+
+        @Override
+        public ByteArrayOutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
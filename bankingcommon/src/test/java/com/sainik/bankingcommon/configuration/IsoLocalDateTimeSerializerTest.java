@@ -0,0 +1,81 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("IsoLocalDateTimeSerializer Tests")
+class IsoLocalDateTimeSerializerTest {
+
+    // Boot's settings plus the services' customizer
+    private final ObjectMapper objectMapper = objectMapper(true);
+
+    record Stamped(@JsonFormat(pattern = "dd/MM/yyyy HH:mm") LocalDateTime formatted, LocalDateTime plain) {
+    }
+
+    @Test
+    @DisplayName("should write what ISO_LOCAL_DATE_TIME prints")
+    void isoText() throws Exception {
+        List<LocalDateTime> values = List.of(
+                LocalDateTime.of(2025, 1, 31, 9, 30),
+                LocalDateTime.of(2025, 12, 1, 23, 59, 59),
+                LocalDateTime.of(2025, 6, 15, 0, 0, 5, 120_000_000),
+                LocalDateTime.of(2025, 6, 15, 12, 0, 0, 123_456_789),
+                LocalDateTime.of(2025, 6, 15, 12, 0, 0, 1),
+                LocalDateTime.of(0, 1, 1, 0, 0),
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999_999_999),
+                LocalDateTime.of(10_000, 1, 1, 0, 0),
+                LocalDateTime.of(-1, 1, 1, 0, 0));
+
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(LocalDateTime.class))
+                .isInstanceOf(IsoLocalDateTimeSerializer.class);
+        for (LocalDateTime value : values) {
+            assertThat(objectMapper.writeValueAsString(value))
+                    .isEqualTo('"' + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value) + '"');
+        }
+    }
+
+    @Test
+    @DisplayName("should stay in use for bean properties")
+    void beanProperties() throws Exception {
+        JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(Stamped.class);
+
+        assertThat(serializer.properties()).toIterable()
+                .allSatisfy(property -> assertThat(((BeanPropertyWriter) property).getSerializer())
+                        .isInstanceOf(IsoLocalDateTimeSerializer.class));
+    }
+
+    @Test
+    @DisplayName("should leave @JsonFormat fields and timestamps to LocalDateTimeSerializer")
+    void otherFormats() throws Exception {
+        Stamped stamped = new Stamped(LocalDateTime.of(2025, 1, 31, 9, 30), LocalDateTime.of(2025, 1, 31, 9, 30, 15));
+
+        assertThat(objectMapper.writeValueAsString(stamped))
+                .isEqualTo("{\"formatted\":\"31/01/2025 09:30\",\"plain\":\"2025-01-31T09:30:15\"}");
+        assertThat(objectMapper.writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .writeValueAsString(stamped.plain()))
+                .isEqualTo(objectMapper(false).writer().with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .writeValueAsString(stamped.plain()));
+    }
+
+    private static ObjectMapper objectMapper(boolean customized) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (customized) {
+            new JacksonConfiguration().bankingObjectMapperCustomizer().customize(builder);
+        }
+        return builder.build();
+    }
+}
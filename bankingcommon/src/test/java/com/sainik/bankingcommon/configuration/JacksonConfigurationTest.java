@@ -0,0 +1,103 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JacksonConfiguration Tests")
+class JacksonConfigurationTest {
+
+    private static final Type ITEMS = new ParameterizedTypeReference<GenericResponse<List<Item>>>() {
+    }.getType();
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class,
+                    HttpMessageConvertersAutoConfiguration.class, JacksonConfiguration.class));
+
+    record Item(String name, long amount, LocalDateTime createdAt) {
+    }
+
+    @Test
+    @DisplayName("should write GenericResponse bodies with a prepared writer and unchanged JSON")
+    void preparedWriter() {
+        contextRunner.run(context -> {
+            PreparedWriterMessageConverter converter = (PreparedWriterMessageConverter) context
+                    .getBean(MappingJackson2HttpMessageConverter.class);
+            GenericResponse<List<Item>> response = GenericResponse.success("Items retrieved successfully",
+                    List.of(new Item("first", 100, null), new Item("second", 250, null)));
+
+            converter.prepare(ITEMS);
+            converter.prepare(Item.class);
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(response, ITEMS, MediaType.APPLICATION_JSON, output);
+
+            assertThat(converter.preparedWriters()).isEqualTo(1);
+            assertThat(output.getBodyAsString(StandardCharsets.UTF_8))
+                    .isEqualTo(new ObjectMapper().writeValueAsString(response));
+        });
+    }
+
+    @Test
+    @DisplayName("should register Blackbird and leave spring.jackson properties in charge")
+    void objectMapper() {
+        contextRunner.run(context -> {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+
+            assertThat(objectMapper.getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+            assertThat(objectMapper.isEnabled(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)).isFalse();
+        });
+        contextRunner.withPropertyValues("spring.jackson.serialization.flush-after-write-value=true")
+                .run(context -> assertThat(context.getBean(ObjectMapper.class)
+                        .isEnabled(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)).isTrue());
+    }
+
+    @Test
+    @DisplayName("should negotiate CBOR with the same mapper settings as JSON")
+    void cbor() {
+        contextRunner.run(context -> {
+            // Boot keeps Spring MVC's own CBOR converter behind the replacement, so the first one must be ours
+            MappingJackson2CborHttpMessageConverter converter = context.getBean(HttpMessageConverters.class)
+                    .getConverters().stream()
+                    .filter(MappingJackson2CborHttpMessageConverter.class::isInstance)
+                    .map(MappingJackson2CborHttpMessageConverter.class::cast)
+                    .findFirst().orElseThrow();
+            GenericResponse<List<Item>> response = GenericResponse.success("Items retrieved successfully",
+                    List.of(new Item("first", 100, LocalDateTime.of(2025, 1, 31, 9, 30, 5, 120_000_000)),
+                            new Item("second", 250, LocalDateTime.of(2025, 2, 1, 0, 0))));
+
+            assertThat(converter).isSameAs(context.getBean(MappingJackson2CborHttpMessageConverter.class));
+            assertThat(converter.getObjectMapper().getRegisteredModuleIds()).contains(new BlackbirdModule().getTypeId());
+            MockHttpOutputMessage output = new MockHttpOutputMessage();
+            converter.write(response, ITEMS, MediaType.APPLICATION_CBOR, output);
+
+            assertThat(new CBORMapper().readTree(output.getBodyAsBytes()).at("/data/0/createdAt").isArray()).isTrue();
+            assertThat(converter.read(ITEMS, null, new MockHttpInputMessage(output.getBodyAsBytes())))
+                    .isEqualTo(response);
+            assertThat(output.getBodyAsBytes().length)
+                    .isLessThan(context.getBean(ObjectMapper.class).writeValueAsBytes(response).length);
+        });
+    }
+}
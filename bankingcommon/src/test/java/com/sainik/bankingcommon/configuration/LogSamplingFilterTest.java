@@ -0,0 +1,68 @@
+package com.sainik.bankingcommon.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LogSamplingFilter Tests")
+class LogSamplingFilterTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setContext(context);
+        filter.setLoggers("org.hibernate.SQL, org.springframework.security");
+        filter.setOneIn(10);
+        filter.start();
+        context.addTurboFilter(filter);
+        appender.setContext(context);
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.DEBUG);
+        root.addAppender(appender);
+    }
+
+    @Test
+    @DisplayName("should keep the first and then one in N lines of each message")
+    void sampled() {
+        Logger sql = context.getLogger("org.hibernate.SQL");
+
+        for (int i = 0; i < 25; i++) {
+            sql.debug("select a1_0.id from accounts a1_0 where a1_0.id=?", i);
+        }
+        sql.debug("insert into accounts (account_number) values (?)");
+
+        assertThat(appender.list).hasSize(4);
+        assertThat(appender.list.get(3).getMessage()).startsWith("insert");
+    }
+
+    @Test
+    @DisplayName("should sample child loggers but pass warnings, other loggers and level checks")
+    void passedThrough() {
+        Logger security = context.getLogger("org.springframework.security.web.FilterChainProxy");
+        Logger service = context.getLogger("com.sainik.bankingaccountapi.services.AccountService");
+
+        for (int i = 0; i < 10; i++) {
+            security.debug("Securing GET /accounts/v1.0/{}", i);
+            security.warn("Denied GET /accounts/v1.0/{}", i);
+            service.debug("Fetching account {}", i);
+        }
+
+        assertThat(security.isDebugEnabled()).isTrue();
+        assertThat(appender.list).filteredOn(event -> event.getLevel() == Level.DEBUG
+                && event.getLoggerName().startsWith("org.springframework.security")).hasSize(1);
+        assertThat(appender.list).filteredOn(event -> event.getLevel() == Level.WARN).hasSize(10);
+        assertThat(appender.list).filteredOn(event -> event.getLoggerName().contains("AccountService")).hasSize(10);
+    }
+}
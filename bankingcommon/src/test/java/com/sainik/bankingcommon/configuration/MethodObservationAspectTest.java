@@ -0,0 +1,127 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.List;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.Repository;
+
+import com.sainik.bankingcommon.exceptions.CommonExceptionHandler;
+import com.sainik.bankingcommon.exceptions.InvalidImportException;
+import com.sainik.bankingcommon.services.CountingBloomFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("MethodObservationAspect Tests")
+class MethodObservationAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObservationConfiguration observationConfiguration = new ObservationConfiguration();
+    private MethodObservationAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        aspect = new MethodObservationAspect(observationRegistry, meterRegistry, observationConfiguration,
+                List.of("com.sainik.bankingcommon"));
+    }
+
+    @Test
+    @DisplayName("should time service methods per class and method")
+    void serviceMethods() {
+        CountingBloomFilter filter = proxy(new CountingBloomFilter(100, 0.01));
+
+        filter.add("ACC1");
+        filter.mightContain("ACC1");
+        filter.mightContain("ACC2");
+
+        assertThat(meterRegistry.get(MethodObservationAspect.SERVICE_OBSERVATION)
+                .tags("class", "CountingBloomFilter", "method", "mightContain", "error", "none").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should name repository timers after the interface and tag failures with the exception type")
+    void repositoryCalls() {
+        AuditRepository repository = proxy(repository());
+
+        repository.count();
+        assertThrows(IllegalStateException.class, repository::deleteAll);
+
+        assertThat(meterRegistry.get(MethodObservationAspect.REPOSITORY_OBSERVATION)
+                .tags("class", "AuditRepository", "method", "count", "error", "none").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(MethodObservationAspect.REPOSITORY_OBSERVATION)
+                .tags("method", "deleteAll", "error", "IllegalStateException").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should count handled exceptions per type, handler and status")
+    void handledExceptions() {
+        GlobalException handler = proxy(new GlobalException());
+
+        handler.handleInvalidImportException(new InvalidImportException("no header row"));
+
+        assertThat(meterRegistry.get(MethodObservationAspect.HANDLED_EXCEPTIONS)
+                .tags("exception", "InvalidImportException", "handler", "handleInvalidImportException",
+                        "status", "400")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should stop observing a package switched off at runtime")
+    void switchedOffPackage() {
+        CountingBloomFilter filter = proxy(new CountingBloomFilter(100, 0.01));
+        AuditRepository repository = proxy(repository());
+
+        observationConfiguration.getPackages().put("services", false);
+        filter.mightContain("ACC1");
+        repository.count();
+
+        assertThat(meterRegistry.find(MethodObservationAspect.SERVICE_OBSERVATION).timers()).isEmpty();
+        assertThat(meterRegistry.find(MethodObservationAspect.REPOSITORY_OBSERVATION).timers()).hasSize(1);
+    }
+
+    private <T> T proxy(Object target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(!(target instanceof AuditRepository));
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    // Stands in for the Spring Data proxy: an AOP proxy of the repository interface
+    private static AuditRepository repository() {
+        ProxyFactory factory = new ProxyFactory();
+        factory.addInterface(AuditRepository.class);
+        factory.addAdvice((MethodInterceptor) invocation -> {
+            if (invocation.getMethod().getName().equals("deleteAll")) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return 0L;
+        });
+        return (AuditRepository) factory.getProxy();
+    }
+
+    interface AuditRepository extends Repository<Object, Long> {
+
+        long count();
+
+        void deleteAll();
+    }
+
+    // A service's handler: the application's subclass of CommonExceptionHandler
+    static class GlobalException extends CommonExceptionHandler {
+    }
+}
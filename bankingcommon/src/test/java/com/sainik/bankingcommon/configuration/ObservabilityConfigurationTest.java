@@ -0,0 +1,56 @@
+package com.sainik.bankingcommon.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import com.sainik.bankingcommon.services.CountingBloomFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ObservabilityConfiguration Tests")
+class ObservabilityConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class, JacksonAutoConfiguration.class,
+                    ObservabilityConfiguration.class))
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(ObservationRegistry.class, ObservationRegistry::create)
+            .withBean(CountingBloomFilter.class, () -> new CountingBloomFilter(100, 0.01));
+
+    @Test
+    @DisplayName("should time the beans of services packages and register the endpoints")
+    void observedServices() {
+        contextRunner.run(context -> {
+            context.getBean(ObservationRegistry.class).observationConfig()
+                    .observationHandler(new DefaultMeterObservationHandler(context.getBean(MeterRegistry.class)));
+            CountingBloomFilter filter = context.getBean(CountingBloomFilter.class);
+
+            filter.mightContain("ACC1");
+
+            assertThat(AopUtils.isAopProxy(filter)).isTrue();
+            assertThat(context.getBean(MeterRegistry.class).get(MethodObservationAspect.SERVICE_OBSERVATION)
+                    .tags("class", "CountingBloomFilter", "method", "mightContain").timer().count()).isEqualTo(1);
+            assertThat(context).hasSingleBean(ObservedPackagesEndpoint.class)
+                    .hasSingleBean(SpansEndpoint.class)
+                    .hasSingleBean(RecentSpansExporter.class)
+                    .doesNotHaveBean(FileSpanExporter.class);
+        });
+    }
+
+    @Test
+    @DisplayName("should write spans to a file only when banking.tracing.file is set")
+    void fileSpanExporter() {
+        contextRunner.withPropertyValues("banking.tracing.file=target/spans/test.ndjson")
+                .run(context -> assertThat(context).hasSingleBean(FileSpanExporter.class));
+    }
+}
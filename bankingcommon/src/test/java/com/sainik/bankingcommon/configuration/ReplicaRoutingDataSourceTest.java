@@ -0,0 +1,131 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicReference<Duration> replicaLag = new AtomicReference<>(Duration.ZERO);
+    private final AtomicInteger lagChecks = new AtomicInteger();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        ReplicaConfiguration configuration = new ReplicaConfiguration();
+        configuration.setMaxLag(Duration.ofSeconds(5));
+        configuration.setLagCheckInterval(Duration.ofSeconds(10));
+        configuration.setStickiness(Duration.ofSeconds(5));
+
+        ReplicaLagProbe probe = replica -> {
+            lagChecks.incrementAndGet();
+            return replicaLag.get();
+        };
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                database("primary"), database("replica"), configuration, probe, nanos::get));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        signIn("alice");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("should send read-only transactions to the replica and writes to the primary")
+    void routesByReadOnlyFlag() {
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(writeNode()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("should keep a principal's reads on the primary for the stickiness window after a write")
+    void readYourWrites() {
+        writeNode();
+        advance(Duration.ofSeconds(4));
+        assertThat(readNode()).isEqualTo("primary");
+
+        signIn("bob");
+        assertThat(readNode()).isEqualTo("replica");
+
+        signIn("alice");
+        advance(Duration.ofSeconds(2));
+        assertThat(readNode()).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("should fall back to the primary while the replica lags too far, re-checking once per interval")
+    void lagTolerance() {
+        replicaLag.set(Duration.ofSeconds(30));
+        assertThat(readNode()).isEqualTo("primary");
+        assertThat(readNode()).isEqualTo("primary");
+        assertThat(lagChecks.get()).isEqualTo(1);
+
+        replicaLag.set(Duration.ofSeconds(1));
+        advance(Duration.ofSeconds(10));
+        assertThat(readNode()).isEqualTo("replica");
+        assertThat(lagChecks.get()).isEqualTo(2);
+
+        // Unknown lag (replication stopped) counts as out of sync
+        replicaLag.set(null);
+        advance(Duration.ofSeconds(10));
+        assertThat(readNode()).isEqualTo("primary");
+    }
+
+    private String readNode() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String writeNode() {
+        return readWrite.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+        });
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+    }
+
+    private static void signIn(String name) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(name, null));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + System.nanoTime() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(16))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sainik.bankingcommon.configuration;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpansEndpoint Tests")
+class SpansEndpointTest {
+
+    private RecentSpansExporter exporter;
+    private SpansEndpoint endpoint;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        TracingConfiguration tracingConfiguration = new TracingConfiguration();
+        tracingConfiguration.setRecentSpans(4);
+        exporter = new RecentSpansExporter(tracingConfiguration);
+        endpoint = new SpansEndpoint(exporter);
+        tracer = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build()
+                .get("test");
+    }
+
+    @Test
+    @DisplayName("should group spans by trace and name the trace after its root")
+    void traces() {
+        Span root = tracer.spanBuilder("http get /accounts/v1.0/{id}").startSpan();
+        try (Scope scope = root.makeCurrent()) {
+            tracer.spanBuilder("AccountService#getAccountById").startSpan()
+                    .setStatus(StatusCode.ERROR)
+                    .end();
+        }
+        root.end();
+
+        SpansEndpoint.TraceSummary summary = endpoint.traces().traces().get(0);
+        assertThat(summary.root()).isEqualTo("http get /accounts/v1.0/{id}");
+        assertThat(summary.spans()).isEqualTo(2);
+        assertThat(summary.error()).isTrue();
+
+        List<TracedSpan> spans = endpoint.trace(summary.traceId());
+        assertThat(spans).extracting(TracedSpan::name)
+                .containsExactly("http get /accounts/v1.0/{id}", "AccountService#getAccountById");
+        assertThat(spans.get(0).parentSpanId()).isNull();
+        assertThat(spans.get(1).parentSpanId()).isEqualTo(spans.get(0).spanId());
+    }
+
+    @Test
+    @DisplayName("should strip query strings and drop SQL statements from the span attributes")
+    void sanitizedAttributes() {
+        tracer.spanBuilder("http get /customers/v1.0/search")
+                .setAttribute("http.url", "http://localhost:8082/customers/v1.0/search?q=jane.doe@example.com")
+                .setAttribute("uri", "/customers/v1.0/search")
+                .startSpan().end();
+        tracer.spanBuilder("query")
+                .setAttribute("jdbc.query[0]", "select * from customers where email = 'jane.doe@example.com'")
+                .setAttribute("jdbc.params[0]", "(jane.doe@example.com)")
+                .setAttribute("jdbc.row-count", 1L)
+                .startSpan().end();
+
+        List<TracedSpan> spans = endpoint.traces().traces().stream()
+                .flatMap(summary -> endpoint.trace(summary.traceId()).stream())
+                .toList();
+
+        assertThat(spans).filteredOn(span -> span.name().startsWith("http")).singleElement()
+                .extracting(TracedSpan::attributes)
+                .isEqualTo(Map.of("http.url", "http://localhost:8082/customers/v1.0/search", "uri", "/customers/v1.0/search"));
+        assertThat(spans).filteredOn(span -> span.name().equals("query")).singleElement()
+                .extracting(TracedSpan::attributes)
+                .isEqualTo(Map.of("jdbc.row-count", 1L));
+    }
+
+    @Test
+    @DisplayName("should keep only the most recent spans")
+    void ringBuffer() {
+        for (int i = 0; i < 6; i++) {
+            tracer.spanBuilder("span " + i).startSpan().end();
+        }
+
+        SpansEndpoint.RecentTraces recent = endpoint.traces();
+        assertThat(recent.exported()).isEqualTo(6);
+        assertThat(recent.buffered()).isEqualTo(4);
+        assertThat(recent.traces()).extracting(SpansEndpoint.TraceSummary::root)
+                .containsExactlyInAnyOrder("span 2", "span 3", "span 4", "span 5");
+    }
+}
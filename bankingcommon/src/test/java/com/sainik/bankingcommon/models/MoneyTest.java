@@ -0,0 +1,88 @@
+package com.sainik.bankingcommon.models;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Money Unit Tests")
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("of: should parse plain decimals into minor units")
+    void of_parsesDecimals() {
+        assertThat(Money.of("250").minorUnits()).isEqualTo(25000);
+        assertThat(Money.of("250.5").minorUnits()).isEqualTo(25050);
+        assertThat(Money.of("-0.05").minorUnits()).isEqualTo(-5);
+        assertThat(Money.of("1.200").minorUnits()).isEqualTo(120);
+        assertThat(Money.of("2.5E2").minorUnits()).isEqualTo(25000);
+    }
+
+    @Test
+    @DisplayName("of: should reject sub-cent precision and garbage instead of rounding")
+    void of_rejectsInvalid() {
+        assertThrows(ArithmeticException.class, () -> Money.of("1.005"));
+        assertThrows(NumberFormatException.class, () -> Money.of("12a"));
+        assertThrows(NumberFormatException.class, () -> Money.of("-"));
+    }
+
+    @Test
+    @DisplayName("toString: should format with exactly two fraction digits over the full long range")
+    void toString_formats() {
+        assertThat(Money.ofMinor(25000)).hasToString("250.00");
+        assertThat(Money.ofMinor(-5)).hasToString("-0.05");
+        assertThat(Money.ofMinor(Long.MIN_VALUE)).hasToString(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString());
+        assertThat(Money.of(Money.ofMinor(Long.MAX_VALUE).toString()).minorUnits()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("arithmetic: should be exact and fail on overflow")
+    void arithmetic_detectsOverflow() {
+        assertThat(Money.of("0.10").plus(Money.of("0.20"))).isEqualTo(Money.of("0.30"));
+        assertThat(Money.of("5").minus(Money.of("7.5"))).isEqualTo(Money.of("-2.50"));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MIN_VALUE).negate());
+        assertThrows(IllegalArgumentException.class, () -> Money.ZERO.plus(new Money(1, "USD")));
+    }
+
+    @Test
+    @DisplayName("json: should round-trip as a plain number and accept legacy decimals")
+    void json_roundTrip() throws Exception {
+        String json = objectMapper.writeValueAsString(new Amount(Money.of("250.00")));
+
+        assertThat(json).contains("\"amount\":250.00");
+        assertThat(objectMapper.readValue(json, Amount.class).amount()).isEqualTo(Money.of("250"));
+        assertThat(objectMapper.readValue("{\"amount\":42}", Amount.class).amount()).isEqualTo(Money.of("42"));
+        assertThat(objectMapper.readValue("{\"amount\":\"0.5\"}", Amount.class).amount()).isEqualTo(Money.of("0.50"));
+        assertThrows(InvalidFormatException.class,
+                () -> objectMapper.readValue("{\"amount\":1.001}", Amount.class));
+    }
+
+    @Test
+    @DisplayName("cbor: should round-trip as a decimal and reject more than two decimal places")
+    void cbor_roundTrip() throws Exception {
+        CBORMapper cborMapper = new CBORMapper();
+
+        byte[] cbor = cborMapper.writeValueAsBytes(new Amount(Money.of("1234.50")));
+
+        assertThat(cborMapper.readValue(cbor, Amount.class).amount()).isEqualTo(Money.of("1234.5"));
+        assertThat(cborMapper.readValue(cborMapper.writeValueAsBytes(new AmountOnly(new BigDecimal("7.100"))),
+                Amount.class).amount()).isEqualTo(Money.of("7.10"));
+        assertThrows(InvalidFormatException.class, () -> cborMapper.readValue(
+                cborMapper.writeValueAsBytes(new AmountOnly(new BigDecimal("1.001"))), Amount.class));
+    }
+
+    record Amount(Money amount) {
+    }
+
+    record AmountOnly(BigDecimal amount) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.sainik.bankingcommon.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CountingBloomFilter Unit Tests")
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("should never report an added key as absent")
+    void noFalseNegatives() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("key" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("key" + i)).isTrue();
+        }
+        assertThat(filter.entries()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("should stay close to the configured false-positive rate at capacity")
+    void falsePositiveRate() {
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("key" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+        // 4 bits per slot, ~9.6 slots per key at 1 %
+        assertThat(filter.memoryBytes()).isBetween(40_000L, 60_000L);
+    }
+
+    @Test
+    @DisplayName("should forget removed keys without affecting the others")
+    void remove() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("key" + i);
+        }
+        for (int i = 0; i < 500; i++) {
+            filter.remove("key" + i);
+        }
+
+        for (int i = 500; i < 1_000; i++) {
+            assertThat(filter.mightContain("key" + i)).isTrue();
+        }
+        long stillPositive = IntStream.range(0, 500).filter(i -> filter.mightContain("key" + i)).count();
+        assertThat(stillPositive).isLessThan(25);
+        assertThat(filter.entries()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("should reject nonsensical sizing")
+    void invalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new CountingBloomFilter(100, 1.0));
+    }
+}
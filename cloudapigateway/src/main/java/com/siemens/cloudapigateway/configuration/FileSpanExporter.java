@@ -0,0 +1,112 @@
+package com.siemens.cloudapigateway.configuration;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+// Appends every sampled span to banking.tracing.file as one line of JSON (TracedSpan), for traces that must
+// outlive the ring buffer, e.g. a whole load-test run. Writes happen on the batch span processor's thread, never
+// on a request thread; the file is rolled over to <file>.1 once it reaches banking.tracing.file-max-size.
+@Component
+@ConditionalOnProperty(prefix = "banking.tracing", name = "file")
+public class FileSpanExporter implements SpanExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    @Autowired
+    private TracingConfiguration tracingConfiguration;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private OutputStream output;
+    private long written;
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                byte[] line = objectMapper.writeValueAsBytes(TracedSpan.of(span));
+                if (output == null || written + line.length + 1 > tracingConfiguration.getFileMaxSize().toBytes()) {
+                    open();
+                }
+                output.write(line);
+                output.write('\n');
+                written += line.length + 1;
+            }
+            output.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("Could not write {} spans to {}: {}", spans.size(), tracingConfiguration.getFile(),
+                    e.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    // Appends to the file left by the last run; rolls it over when it is full
+    private void open() throws IOException {
+        Path file = Path.of(tracingConfiguration.getFile());
+        if (output == null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            written = Files.exists(file) ? Files.size(file) : 0;
+            if (written < tracingConfiguration.getFileMaxSize().toBytes()) {
+                output = newOutput(file);
+                return;
+            }
+        } else {
+            output.close();
+        }
+        Files.move(file, file.resolveSibling(file.getFileName() + ".1"), StandardCopyOption.REPLACE_EXISTING);
+        written = 0;
+        output = newOutput(file);
+    }
+
+    private static OutputStream newOutput(Path file) throws IOException {
+        return new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            if (output != null) {
+                output.flush();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            if (output != null) {
+                output.close();
+                output = null;
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
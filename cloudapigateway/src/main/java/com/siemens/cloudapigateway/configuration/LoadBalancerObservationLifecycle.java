@@ -0,0 +1,91 @@
+package com.siemens.cloudapigateway.configuration;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import reactor.util.context.ContextView;
+
+// Times the choice of a service instance for lb:// routes as its own observation (gateway.loadbalancer): a span
+// between the gateway's request span and the proxied call, and a timer tagged with the service and the outcome.
+// Spring Cloud LoadBalancer reports the start and the choice through this lifecycle, with the exchange attributes
+// in the request; the observation is parked there in between.
+@Component
+public class LoadBalancerObservationLifecycle
+        implements LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    static final String OBSERVATION_NAME = "gateway.loadbalancer";
+
+    private static final String OBSERVATION_ATTRIBUTE = LoadBalancerObservationLifecycle.class.getName();
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+        Map<String, Object> attributes = attributes(request);
+        URI route = (URI) attributes.get(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        String service = route == null ? "unknown" : route.getHost();
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("load-balance " + service)
+                .lowCardinalityKeyValue("service", service)
+                .parentObservation(requestObservation(attributes))
+                .start();
+        attributes.put(OBSERVATION_ATTRIBUTE, observation);
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        Observation observation = (Observation) attributes(request).remove(OBSERVATION_ATTRIBUTE);
+        if (observation != null) {
+            ServiceInstance instance = lbResponse.getServer();
+            observation.lowCardinalityKeyValue("outcome", "chosen")
+                    .highCardinalityKeyValue("instance", instance.getHost() + ":" + instance.getPort())
+                    .stop();
+        }
+    }
+
+    // Without an instance there is no onStartRequest: the choice ends here, as a discard
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Observation observation = (Observation) attributes(completionContext.getLoadBalancerRequest())
+                .remove(OBSERVATION_ATTRIBUTE);
+        if (observation != null) {
+            if (completionContext.getThrowable() != null) {
+                observation.error(completionContext.getThrowable());
+            }
+            observation.lowCardinalityKeyValue("outcome", completionContext.status().name().toLowerCase())
+                    .stop();
+        }
+    }
+
+    private static Map<String, Object> attributes(Request<RequestDataContext> request) {
+        return request.getContext().getClientRequest().getAttributes();
+    }
+
+    // The gateway's server observation, from the Reactor context the route handler saved on the exchange
+    private static Observation requestObservation(Map<String, Object> attributes) {
+        ContextView context = (ContextView) attributes.get(ServerWebExchangeUtils.GATEWAY_REACTOR_CONTEXT_ATTR);
+        return context == null ? null : context.getOrDefault(ObservationThreadLocalAccessor.KEY, null);
+    }
+}
@@ -0,0 +1,73 @@
+package com.siemens.cloudapigateway.configuration;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+// /actuator/spans: the traces held by RecentSpansExporter, newest first, one line each.
+// /actuator/spans/{traceId} lists that trace's spans in start order; the services the request was routed to
+// list the rest of the trace under the same id in their own /actuator/spans.
+@Component
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    @Autowired
+    private RecentSpansExporter recentSpansExporter;
+
+    @ReadOperation
+    public RecentTraces traces() {
+        List<TracedSpan> spans = recentSpansExporter.recent().stream().map(TracedSpan::of).toList();
+        Map<String, List<TracedSpan>> byTrace = spans.stream()
+                .collect(Collectors.groupingBy(TracedSpan::traceId, LinkedHashMap::new, Collectors.toList()));
+        List<TraceSummary> traces = byTrace.values().stream()
+                .map(TraceSummary::of)
+                .sorted(Comparator.comparing(TraceSummary::start).reversed())
+                .toList();
+        return new RecentTraces(recentSpansExporter.exported(), spans.size(), traces);
+    }
+
+    @ReadOperation
+    public List<TracedSpan> trace(@Selector String traceId) {
+        return recentSpansExporter.recent().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .map(TracedSpan::of)
+                .sorted(Comparator.comparing(TracedSpan::start))
+                .toList();
+    }
+
+    public record RecentTraces(long exported, int buffered, List<TraceSummary> traces) {
+    }
+
+    // root is the earliest span whose parent is not in the gateway: the incoming request, in practice
+    public record TraceSummary(String traceId, String root, Instant start, double durationMillis, int spans,
+                               boolean error) {
+
+        static TraceSummary of(List<TracedSpan> spans) {
+            Set<String> ids = spans.stream().map(TracedSpan::spanId).collect(Collectors.toSet());
+            TracedSpan root = spans.stream()
+                    .filter(span -> span.parentSpanId() == null || !ids.contains(span.parentSpanId()))
+                    .min(Comparator.comparing(TracedSpan::start))
+                    .orElse(spans.get(0));
+            Instant start = spans.stream().map(TracedSpan::start).min(Comparator.naturalOrder()).orElseThrow();
+            long endMicros = spans.stream()
+                    .mapToLong(span -> micros(span.start()) + span.durationMicros())
+                    .max().orElseThrow();
+            return new TraceSummary(root.traceId(), root.name(), start, (endMicros - micros(start)) / 1000.0,
+                    spans.size(), spans.stream().anyMatch(span -> span.status().equals("ERROR")));
+        }
+
+        private static long micros(Instant instant) {
+            return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1000;
+        }
+    }
+}
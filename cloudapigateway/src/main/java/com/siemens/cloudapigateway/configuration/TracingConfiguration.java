@@ -0,0 +1,22 @@
+package com.siemens.cloudapigateway.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "banking.tracing")
+public class TracingConfiguration {
+
+    // Finished spans kept in memory for /actuator/spans (RecentSpansExporter); the oldest are overwritten
+    private int recentSpans = 2048;
+
+    // Newline-delimited JSON file that FileSpanExporter appends every sampled span to; unset, nothing is written
+    private String file;
+
+    // Size at which the file is rolled over to <file>.1, replacing the previous one
+    private DataSize fileMaxSize = DataSize.ofMegabytes(64);
+}
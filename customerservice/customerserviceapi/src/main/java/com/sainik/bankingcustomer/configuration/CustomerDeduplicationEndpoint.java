@@ -0,0 +1,34 @@
+package com.sainik.bankingcustomer.configuration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.sainik.bankingcustomer.services.CustomerDeduplicationJob;
+
+// /actuator/customerdedup: outcome of the last deduplication run, and POST (admin scope) to start one
+@Component
+@Endpoint(id = "customerdedup")
+public class CustomerDeduplicationEndpoint {
+
+    @Autowired
+    private CustomerDeduplicationJob customerDeduplicationJob;
+
+    @ReadOperation
+    public JobStatus status() {
+        return new JobStatus(customerDeduplicationJob.isRunning(), customerDeduplicationJob.lastResult());
+    }
+
+    // Returns at once (202); 409 if a run is already in progress
+    @WriteOperation
+    public WebEndpointResponse<JobStatus> start() {
+        boolean started = customerDeduplicationJob.start();
+        return new WebEndpointResponse<>(new JobStatus(true, customerDeduplicationJob.lastResult()), started ? 202 : 409);
+    }
+
+    public record JobStatus(boolean running, CustomerDeduplicationJob.DeduplicationResult lastResult) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.sainik.bankingcustomer.configuration;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.sainik.bankingcustomer.services.CustomerSearchIndex;
+
+// /actuator/customersearch: index size, and POST to rebuild it from the database (admin scope, see SecurityConfiguration)
+@Component
+@Endpoint(id = "customersearch")
+public class CustomerSearchEndpoint {
+
+    @Autowired
+    private CustomerSearchIndex customerSearchIndex;
+
+    @ReadOperation
+    public IndexStatus status() {
+        return new IndexStatus(customerSearchIndex.documents(), customerSearchIndex.isRebuilding());
+    }
+
+    // Blocks until the new index is live; 409 if a rebuild is already running
+    @WriteOperation
+    public WebEndpointResponse<CustomerSearchIndex.RebuildResult> rebuild() throws IOException {
+        CustomerSearchIndex.RebuildResult result = customerSearchIndex.rebuild();
+        return result == null
+                ? new WebEndpointResponse<>(409)
+                : new WebEndpointResponse<>(result);
+    }
+
+    public record IndexStatus(long documents, boolean rebuilding) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.sainik.bankingcustomer.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "banking.dedup")
+public class DeduplicationConfiguration {
+
+    // Spill files of a run live here and are deleted when it ends
+    private String directory = System.getProperty("java.io.tmpdir") + "/customer-dedup";
+
+    // Spill files per run; one is loaded at a time, so memory is roughly 2 x customers / partitions records
+    private int partitions = 256;
+
+    // Rows per keyset page while streaming customers
+    private int scanBatchSize = 10000;
+
+    // Blocks (customers sharing a phone or name key) larger than this are skipped, e.g. a shared switchboard number
+    private int maxBlockSize = 200;
+
+    // Pairs scoring at least this (0..1) are written as merge suggestions
+    private double threshold = 0.85;
+
+    // Fork/join threads scoring pairs
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    // Rows per JDBC batch when writing suggestions
+    private int insertBatchSize = 1000;
+}
@@ -0,0 +1,23 @@
+package com.sainik.bankingcustomer.configuration;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// With the faststart profile every bean is lazy (spring.main.lazy-initialization) except the ones this
+// filter keeps eager: this service's controllers, services and repositories, so everything a request
+// needs is ready by the time the service registers. Swagger and OpenAPISecurityConfig stay lazy.
+@Configuration
+@Profile("faststart")
+public class FastStartConfiguration {
+
+    private static final String APPLICATION_PACKAGE = "com.sainik.bankingcustomer.";
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerApplicationBeans() {
+        return (beanName, beanDefinition, beanType) -> beanType.getName().startsWith(APPLICATION_PACKAGE)
+                && !OpenAPISecurityConfig.class.isAssignableFrom(beanType)
+                && !SwaggerConfiguration.class.isAssignableFrom(beanType);
+    }
+}
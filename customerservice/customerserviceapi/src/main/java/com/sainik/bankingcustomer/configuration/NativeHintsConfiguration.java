@@ -0,0 +1,63 @@
+package com.sainik.bankingcustomer.configuration;
+
+import java.util.List;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.sainik.bankingcommon.configuration.LogSamplingFilter;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcustomer.dtos.CustomerDTO;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.dtos.MergeSuggestionDTO;
+
+// Reachability metadata for the native image (mvn -Pnative native:compile) that AOT cannot derive from the bean
+// definitions. Entities, repositories, controllers and the MapStruct mapper (a Spring bean) are covered by AOT and
+// the libraries by the GraalVM reachability metadata repository; what is left is what this service reaches by
+// name or through reflection: the JSON bodies, whose binding hints cover the Lombok accessors and the fields that
+// Hibernate Validator and springdoc read, and the files and classes named in application.properties.
+// Lucene's MMapDirectory looks up its MemorySegment provider by name; it is left out on purpose, so the search
+// index falls back to mapped byte buffers instead of pulling the preview foreign-memory API into the image.
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfiguration.ApplicationRuntimeHints.class)
+@RegisterReflectionForBinding({ ChangeFeed.class, CustomerDTO.class, CustomerSearchHit.class, CustomerSummary.class,
+        GenericResponse.class, ImportJobDTO.class, MergeSuggestionDTO.class, PageResponse.class })
+public class NativeHintsConfiguration {
+
+    private static final List<String> DIALECTS = List.of(
+            "org.hibernate.dialect.MySQLDialect",
+            "org.hibernate.dialect.H2Dialect");
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Flyway resolves classpath:db/migration/{vendor} at runtime; Boot only registers db/migration/*
+            hints.resources().registerPattern("db/migration/*/*.sql");
+            // JCache regions of the second-level cache (hibernate.javax.cache.uri)
+            hints.resources().registerPattern("hibernate-cache.conf");
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            // Chosen by name in hibernate.dialect: MySQL in production, H2 for the smoke test
+            for (String dialect : DIALECTS) {
+                hints.reflection().registerTypeIfPresent(classLoader, dialect,
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            // The prod profile's appender and filter, built by Logback from logback-spring.xml through setters
+            hints.resources().registerPattern("logback-spring.xml");
+            hints.reflection().registerType(LogSamplingFilter.class,
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerTypeIfPresent(classLoader, "ch.qos.logback.classic.AsyncAppender",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sainik.bankingcustomer.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import lombok.Data;
+
+@Data
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "banking.search")
+public class SearchConfiguration {
+
+    // Holds one index generation (gen-<millis>) at a time; a rebuild writes the next one beside it
+    private String directory = System.getProperty("java.io.tmpdir") + "/customer-search";
+
+    // Upper bound on how long a committed write stays invisible to searches
+    private Duration refreshInterval = Duration.ofSeconds(1);
+
+    // How often pending index changes are fsynced; a crash loses at most this much (rebuilt on startup anyway)
+    private Duration commitInterval = Duration.ofMinutes(1);
+
+    // How often customers written or deleted outside this instance (other instances, bulk imports) are picked up
+    private Duration catchUpInterval = Duration.ofSeconds(30);
+
+    // How far each catch-up reaches back before the previous one. updated_at is set before commit and by
+    // each instance's clock, so keep it above the longest write transaction plus clock skew, like
+    // banking.changes.settle-time
+    private Duration catchUpOverlap = Duration.ofSeconds(10);
+
+    // Rebuild from the database at startup even when a complete generation is on disk (catch-up brings that one
+    // up to date). Without one the index is always rebuilt, in the background, and searches find nothing until then
+    private boolean rebuildOnStartup = false;
+
+    // Id ranges scanned at the same time during a rebuild
+    private int rebuildThreads = 4;
+
+    // Rows per keyset page during rebuilds and catch-up
+    private int rebuildBatchSize = 5000;
+
+    // Deepest hit a search can page to (page * size + size)
+    private int maxResults = 1000;
+}
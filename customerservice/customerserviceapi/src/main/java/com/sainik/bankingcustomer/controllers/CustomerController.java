@@ -1,18 +1,37 @@
 package com.sainik.bankingcustomer.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import com.sainik.bankingcommon.controllers.ETags;
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.dtos.PageResponse;
 import com.sainik.bankingcustomer.dtos.CustomerDTO;
-import com.sainik.bankingcustomer.dtos.GenericResponse;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.MergeSuggestionDTO;
 import com.sainik.bankingcustomer.mappers.CustomerMapper;
 import com.sainik.bankingcustomer.models.Customer;
+import com.sainik.bankingcustomer.services.CustomerImportService;
 import com.sainik.bankingcustomer.services.CustomerService;
 
 @RestController
@@ -26,6 +45,9 @@ public class CustomerController {
     @Autowired
     private CustomerMapper customerMapper;
 
+    @Autowired
+    private CustomerImportService customerImportService;
+
     @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
     @PostMapping("/v1.0")
     public ResponseEntity<GenericResponse<CustomerDTO>> addCustomer(@Valid @RequestBody CustomerDTO customerDTO) {
@@ -35,6 +57,34 @@ public class CustomerController {
                 .body(GenericResponse.success("Customer created successfully", savedDTO));
     }
 
+    // Body is the raw file: text/csv with a header row, or application/x-ndjson with one customer per line
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @PostMapping(value = "/v1.0/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<GenericResponse<ImportJobDTO>> importCustomers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        ImportJobDTO job = customerImportService.submit(body, contentType);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/customers/v1.0/import/" + job.jobId())
+                .body(GenericResponse.success("Import started", job));
+    }
+
+    @GetMapping("/v1.0/import/{jobId}")
+    public ResponseEntity<GenericResponse<ImportJobDTO>> getImportJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(GenericResponse.success("Import job retrieved successfully",
+                customerImportService.getJob(jobId)));
+    }
+
+    // CSV of rejected rows (record,field,message); grows while the job runs
+    @GetMapping("/v1.0/import/{jobId}/errors")
+    public ResponseEntity<Resource> getImportErrors(@PathVariable("jobId") String jobId) {
+        Resource report = new FileSystemResource(customerImportService.getErrorReport(jobId));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("customer-import-" + jobId + "-errors.csv").build().toString())
+                .body(report);
+    }
+
     @GetMapping("/v1.0")
     public ResponseEntity<GenericResponse<List<CustomerDTO>>> getAllCustomers() {
         List<Customer> customers = customerService.getAllCustomers();
@@ -42,18 +92,71 @@ public class CustomerController {
         return ResponseEntity.ok(GenericResponse.success("Customers retrieved successfully", customerDTOs));
     }
 
+    // e.g. /customers/v1.0/page?page=0&size=50&sort=lastName&fields=id,firstName,lastName
+    @GetMapping("/v1.0/page")
+    public ResponseEntity<GenericResponse<PageResponse<?>>> getCustomersPage(
+            @PageableDefault(size = 50, sort = "id") Pageable pageable,
+            @RequestParam(value = "fields", required = false) List<String> fields) {
+        PageResponse<?> page = fields == null || fields.isEmpty()
+                ? customerService.getCustomersPage(pageable)
+                : customerService.getCustomersPage(pageable, fields);
+        return ResponseEntity.ok(GenericResponse.success("Customers retrieved successfully", page));
+    }
+
+    // e.g. /customers/v1.0/search?q=jord lee&page=0&size=20; ranked by relevance, not sortable
+    @GetMapping("/v1.0/search")
+    public ResponseEntity<GenericResponse<PageResponse<CustomerSearchHit>>> searchCustomers(
+            @RequestParam("q") String query,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(GenericResponse.success("Customers retrieved successfully",
+                customerService.searchCustomers(query, pageable)));
+    }
+
+    // Output of the deduplication job (see /actuator/customerdedup), highest score first
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @GetMapping("/v1.0/merge-suggestions")
+    public ResponseEntity<GenericResponse<PageResponse<MergeSuggestionDTO>>> getMergeSuggestions(
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(GenericResponse.success("Merge suggestions retrieved successfully",
+                customerService.getMergeSuggestions(pageable)));
+    }
+
+    // e.g. /customers/v1.0/changes?since=2026-10-18T09:30:00.123456&afterId=42&limit=500
+    // Without since the feed starts from the beginning; pass since/afterId from each response to get the next page.
+    @GetMapping("/v1.0/changes")
+    public ResponseEntity<GenericResponse<ChangeFeed<CustomerDTO>>> getCustomerChanges(
+            @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(value = "afterId", required = false) Long afterId,
+            @RequestParam(value = "limit", defaultValue = "500") int limit) {
+        return ResponseEntity.ok(GenericResponse.success("Customer changes retrieved successfully",
+                customerService.getChanges(since, afterId, limit)));
+    }
+
     @GetMapping("/v1.0/{id}")
-    public ResponseEntity<GenericResponse<CustomerDTO>> getCustomerById(@PathVariable("id") Long id) {
-        Customer customer = customerService.getCustomerById(id);
-        CustomerDTO customerDTO = customerMapper.entitytodto(customer);
-        return ResponseEntity.ok(GenericResponse.success("Customer retrieved successfully", customerDTO));
+    public ResponseEntity<GenericResponse<CustomerDTO>> getCustomerById(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(customerService.getCustomerById(id), ifNoneMatch);
     }
 
     @GetMapping("/v1.0/email/{email}")
-    public ResponseEntity<GenericResponse<CustomerDTO>> getCustomerByEmail(@PathVariable("email") String email) {
-        Customer customer = customerService.getCustomerByEmail(email);
+    public ResponseEntity<GenericResponse<CustomerDTO>> getCustomerByEmail(
+            @PathVariable("email") String email,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return conditional(customerService.getCustomerByEmail(email), ifNoneMatch);
+    }
+
+    // 304 straight from the (second-level cached) entity's version, before anything is mapped or serialized.
+    // no-cache: clients may store the response but must revalidate it with If-None-Match.
+    private ResponseEntity<GenericResponse<CustomerDTO>> conditional(Customer customer, String ifNoneMatch) {
+        String eTag = ETags.of(customer.getId(), customer.getVersion());
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
         CustomerDTO customerDTO = customerMapper.entitytodto(customer);
-        return ResponseEntity.ok(GenericResponse.success("Customer retrieved successfully", customerDTO));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl)
+                .body(GenericResponse.success("Customer retrieved successfully", customerDTO));
     }
 
     @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
@@ -0,0 +1,6 @@
+package com.sainik.bankingcustomer.dtos;
+
+// One search result, read from the index's stored fields without touching the database
+public record CustomerSearchHit(Long id, String firstName, String lastName, String email,
+                                String phone, float score) {
+}
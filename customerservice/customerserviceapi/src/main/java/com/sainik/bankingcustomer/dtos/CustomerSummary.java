@@ -0,0 +1,8 @@
+package com.sainik.bankingcustomer.dtos;
+
+import java.time.LocalDateTime;
+
+// Read-only projection for listings: selected as a constructor expression, never a managed entity
+public record CustomerSummary(Long id, String firstName, String lastName, String email,
+                              String phone, String address, LocalDateTime createdAt) {
+}
@@ -0,0 +1,8 @@
+package com.sainik.bankingcustomer.dtos;
+
+import java.time.LocalDateTime;
+
+// Read-only projection of a merge suggestion, selected as a constructor expression
+public record MergeSuggestionDTO(Long customerId, Long candidateId, Double score, String matchedOn,
+                                 LocalDateTime createdAt) {
+}
@@ -1,19 +1,17 @@
 package com.sainik.bankingcustomer.exceptions;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import com.sainik.bankingcustomer.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.exceptions.CommonExceptionHandler;
 
+// Validation, malformed bodies, bad page requests, import errors and anything unexpected go to CommonExceptionHandler
 @RestControllerAdvice
-public class GlobalException {
+public class GlobalException extends CommonExceptionHandler {
 
     @ExceptionHandler(CustomerNotFoundException.class)
     public ResponseEntity<GenericResponse<Object>> handleCustomerNotFoundException(CustomerNotFoundException ex) {
@@ -27,21 +25,10 @@ public class GlobalException {
                 .body(GenericResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<GenericResponse<Map<String, String>>> handleValidationErrors(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String message = error.getDefaultMessage();
-            errors.put(fieldName, message);
-        });
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(new GenericResponse<>("Validation failed", errors, false));
-    }
-
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<GenericResponse<Object>> handleException(Exception ex) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(GenericResponse.error("An unexpected error occurred: " + ex.getMessage()));
+    // Another request updated the customer between our read and write
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<GenericResponse<Object>> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(GenericResponse.error("Customer was modified concurrently, please retry"));
     }
 }
@@ -3,6 +3,7 @@ package com.sainik.bankingcustomer.mappers;
 import java.util.List;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import com.sainik.bankingcustomer.dtos.CustomerDTO;
 import com.sainik.bankingcustomer.models.Customer;
@@ -10,6 +11,9 @@ import com.sainik.bankingcustomer.models.Customer;
 @Mapper(componentModel = "spring")
 public interface CustomerMapper {
 
+    // version and updatedAt are maintained by Hibernate, never taken from a request
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Customer dtotoentity(CustomerDTO customerDTO);
 
     CustomerDTO entitytodto(Customer customer);
@@ -1,13 +1,21 @@
 package com.sainik.bankingcustomer.models;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -15,7 +23,11 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "customers")
+@Table(name = "customers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customers_email", columnNames = "email"),
+        indexes = @Index(name = "idx_customers_updated_at_id", columnList = "updated_at, id"))
 public class Customer {
 
     @Id
@@ -28,4 +40,14 @@ public class Customer {
     private String phone;
     private String address;
     private LocalDateTime createdAt;
+
+    // Bumped by every update; also the ETag of GET /customers/v1.0/{id}
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Set on every insert and update; GET /customers/v1.0/changes pages on (updated_at, id)
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
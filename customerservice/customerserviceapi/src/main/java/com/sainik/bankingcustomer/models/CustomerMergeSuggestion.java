@@ -0,0 +1,38 @@
+package com.sainik.bankingcustomer.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// A likely duplicate pair found by CustomerDeduplicationJob; customerId is always the lower id.
+// Rows are written with JDBC batches, one runId per job run; a successful run replaces the previous one.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "customer_merge_suggestions",
+        indexes = @Index(name = "idx_merge_suggestions_run_score", columnList = "runId, score"))
+public class CustomerMergeSuggestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long runId;
+    private Long customerId;
+    private Long candidateId;
+    private Double score;
+
+    // Comma-separated fields that agreed: name, phone, address, email
+    private String matchedOn;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,25 @@
+package com.sainik.bankingcustomer.models;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Left behind by a deleted customer so that GET /customers/v1.0/changes can report the deletion
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "customer_tombstones", indexes = @Index(name = "idx_customer_tombstones_deleted_at_id", columnList = "deleted_at, customer_id"))
+public class CustomerTombstone {
+
+    @Id
+    private Long customerId;
+
+    private LocalDateTime deletedAt;
+}
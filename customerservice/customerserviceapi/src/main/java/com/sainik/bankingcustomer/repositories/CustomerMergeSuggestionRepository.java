@@ -0,0 +1,21 @@
+package com.sainik.bankingcustomer.repositories;
+
+import com.sainik.bankingcustomer.dtos.MergeSuggestionDTO;
+import com.sainik.bankingcustomer.models.CustomerMergeSuggestion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CustomerMergeSuggestionRepository extends JpaRepository<CustomerMergeSuggestion, Long> {
+
+    // The oldest run present is the last complete one: a newer run replaces it only once it has finished
+    @Query(value = "select new com.sainik.bankingcustomer.dtos.MergeSuggestionDTO(s.customerId, s.candidateId, "
+            + "s.score, s.matchedOn, s.createdAt) from CustomerMergeSuggestion s "
+            + "where s.runId = (select min(r.runId) from CustomerMergeSuggestion r)",
+            countQuery = "select count(s) from CustomerMergeSuggestion s "
+                    + "where s.runId = (select min(r.runId) from CustomerMergeSuggestion r)")
+    Page<MergeSuggestionDTO> findLatestRun(Pageable pageable);
+}
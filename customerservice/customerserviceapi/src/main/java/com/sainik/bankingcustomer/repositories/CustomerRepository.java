@@ -1,13 +1,58 @@
 package com.sainik.bankingcustomer.repositories;
 
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
 import com.sainik.bankingcustomer.models.Customer;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, CustomerListingRepository {
 
+    // The result (the id) is query-cached, the entity itself comes from the "customers" region.
+    // Any write to the customers table invalidates the whole query region.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "customers-by-email")
+    })
     Optional<Customer> findByEmail(String email);
+
+    // Keyset scan over uk_customers_email; feeds CustomerEmailFilter
+    @Query("select c.email from Customer c where c.email > :after order by c.email")
+    List<String> findEmailsAfter(@Param("after") String after, Limit limit);
+
+    // Which of the given emails are taken; one IN query per import batch
+    @Query("select c.email from Customer c where c.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Keyset scan over one id range; feeds CustomerSearchIndex rebuilds
+    @Query("select new com.sainik.bankingcustomer.dtos.CustomerSummary(c.id, c.firstName, c.lastName, c.email, "
+            + "c.phone, c.address, c.createdAt) from Customer c where c.id > :after and c.id <= :upTo order by c.id")
+    List<CustomerSummary> findSummariesBetween(@Param("after") long after, @Param("upTo") long upTo, Limit limit);
+
+    @Query("select coalesce(max(c.id), 0) from Customer c")
+    long findMaxId();
+
+    // Keyset page over idx_customers_updated_at_id: rows written after the (since, afterId) cursor, up to upTo;
+    // feeds GET /customers/v1.0/changes and CustomerSearchIndex catch-up
+    @Query("select c from Customer c where c.updatedAt <= :upTo "
+            + "and (c.updatedAt > :since or (c.updatedAt = :since and c.id > :afterId)) "
+            + "order by c.updatedAt, c.id")
+    List<Customer> findChangedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+                                    @Param("upTo") LocalDateTime upTo, Limit limit);
+
+    // DTO projection: selects the listed columns straight into records
+    Page<CustomerSummary> findAllProjectedBy(Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.sainik.bankingcustomer.repositories;
+
+import com.sainik.bankingcustomer.models.CustomerTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CustomerTombstoneRepository extends JpaRepository<CustomerTombstone, Long> {
+
+    // Keyset page over idx_customer_tombstones_deleted_at_id, same cursor as CustomerRepository.findChangedSince
+    @Query("select t from CustomerTombstone t where t.deletedAt <= :upTo "
+            + "and (t.deletedAt > :since or (t.deletedAt = :since and t.customerId > :afterId)) "
+            + "order by t.deletedAt, t.customerId")
+    List<CustomerTombstone> findDeletedSince(@Param("since") LocalDateTime since, @Param("afterId") long afterId,
+                                            @Param("upTo") LocalDateTime upTo, Limit limit);
+}
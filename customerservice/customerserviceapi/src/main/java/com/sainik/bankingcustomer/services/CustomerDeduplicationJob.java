@@ -0,0 +1,426 @@
+package com.sainik.bankingcustomer.services;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sainik.bankingcustomer.configuration.DeduplicationConfiguration;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import com.sainik.bankingcustomer.services.CustomerMatcher.MatchRecord;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// Finds likely duplicate customers and writes them to customer_merge_suggestions.
+//
+// 1. Stream every customer by keyset pages and append it, once per blocking key (phone, full name),
+//    to the spill file its key hashes to. Memory stays at one page of customers.
+// 2. Load one spill file at a time, group it into blocks of customers sharing a key, and score every
+//    pair within a block on a fork/join pool. Memory stays at one spill file.
+// 3. Write pairs above the threshold in JDBC batches under a new run id, then drop the older runs.
+//
+// A MySQL advisory lock keeps runs on different instances apart. It sits on a connection of its own for
+// the whole run, so the pool needs one connection more than the run itself uses.
+@Service
+public class CustomerDeduplicationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerDeduplicationJob.class);
+
+    private static final String LOCK_NAME = "banking.customer.dedup";
+
+    private static final String INSERT_SQL = "INSERT INTO customer_merge_suggestions "
+            + "(run_id, customer_id, candidate_id, score, matched_on, created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Fork/join leaves score about this many pairs
+    private static final long LEAF_PAIRS = 8192;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DeduplicationConfiguration deduplicationConfiguration;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile DeduplicationResult lastResult;
+    private ExecutorService background;
+
+    @PostConstruct
+    void init() throws IOException {
+        background = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "customer-dedup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Spill files of a run that died with the previous process
+        Path root = Path.of(deduplicationConfiguration.getDirectory());
+        if (Files.isDirectory(root)) {
+            try (Stream<Path> children = Files.list(root)) {
+                for (Path run : children.filter(p -> p.getFileName().toString().startsWith("run-")).toList()) {
+                    deleteRecursively(run);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        background.shutdownNow();
+    }
+
+    // Off by default (cron "-"); e.g. banking.dedup.cron=0 0 3 * * SUN
+    @Scheduled(cron = "${banking.dedup.cron:-}")
+    public void runScheduled() {
+        run();
+    }
+
+    // Runs in the background; false if a run is already in progress on this instance
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            background.execute(() -> {
+                try {
+                    runLocked();
+                } catch (RuntimeException e) {
+                    // already logged by the run
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return true;
+    }
+
+    public DeduplicationResult lastResult() {
+        return lastResult;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // Null if another run is in progress, here or on another instance
+    public DeduplicationResult run() {
+        if (!running.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            return runLocked();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private DeduplicationResult runLocked() {
+        return jdbcTemplate.execute((ConnectionCallback<DeduplicationResult>) connection -> {
+            if (!lockFunction(connection, "SELECT GET_LOCK(?, 0)")) {
+                log.info("Customer deduplication is already running on another instance, skipping");
+                return null;
+            }
+            try {
+                return deduplicate();
+            } finally {
+                if (!lockFunction(connection, "SELECT RELEASE_LOCK(?)")) {
+                    log.warn("Advisory lock {} was not held at release", LOCK_NAME);
+                }
+            }
+        });
+    }
+
+    // GET_LOCK / RELEASE_LOCK return 1 on success, 0 on timeout (or not owned), NULL on error
+    private static boolean lockFunction(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, LOCK_NAME);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private DeduplicationResult deduplicate() {
+        long runId = System.currentTimeMillis();
+        Path workDirectory = Path.of(deduplicationConfiguration.getDirectory(), "run-" + runId);
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(workDirectory);
+            long customers = spill(workDirectory);
+            Stats stats = new Stats();
+            for (int partition = 0; partition < deduplicationConfiguration.getPartitions(); partition++) {
+                Path file = spillFile(workDirectory, partition);
+                if (Files.exists(file)) {
+                    List<Suggestion> suggestions = scorePartition(file, stats);
+                    Files.delete(file);
+                    insert(runId, suggestions);
+                    stats.suggestions += suggestions.size();
+                }
+            }
+            // Readers see the oldest run present, so the new one becomes visible only here; a later run's rows stay
+            jdbcTemplate.update("DELETE FROM customer_merge_suggestions WHERE run_id < ?", runId);
+
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            DeduplicationResult result = new DeduplicationResult(runId, customers, stats.blocks, stats.skippedBlocks,
+                    stats.pairs.sum(), stats.suggestions, millis, millis == 0 ? customers : customers * 1000.0 / millis);
+            lastResult = result;
+            log.info("Customer deduplication run {}: {} customers, {} blocks ({} skipped), {} pairs scored, "
+                            + "{} suggestions in {} ms ({} customers/s)", runId, customers, result.blocks(),
+                    result.skippedBlocks(), result.pairsScored(), result.suggestions(), millis,
+                    Math.round(result.customersPerSecond()));
+            return result;
+        } catch (IOException | RuntimeException e) {
+            log.error("Customer deduplication run {} failed", runId, e);
+            jdbcTemplate.update("DELETE FROM customer_merge_suggestions WHERE run_id = ?", runId);
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        } finally {
+            try {
+                deleteRecursively(workDirectory);
+            } catch (IOException e) {
+                log.warn("Could not delete deduplication spill files in {}", workDirectory, e);
+            }
+        }
+    }
+
+    // ─── 1. spill ───
+
+    private long spill(Path workDirectory) throws IOException {
+        int partitions = deduplicationConfiguration.getPartitions();
+        int batchSize = deduplicationConfiguration.getScanBatchSize();
+        BufferedWriter[] writers = new BufferedWriter[partitions];
+        long count = 0;
+        try {
+            long after = 0;
+            List<CustomerSummary> batch;
+            do {
+                batch = customerRepository.findSummariesBetween(after, Long.MAX_VALUE, Limit.of(batchSize));
+                for (CustomerSummary customer : batch) {
+                    MatchRecord record = CustomerMatcher.normalize(customer);
+                    String line = encode(record);
+                    for (String key : record.keys()) {
+                        int partition = Math.floorMod(key.hashCode(), partitions);
+                        if (writers[partition] == null) {
+                            writers[partition] = Files.newBufferedWriter(spillFile(workDirectory, partition), StandardCharsets.UTF_8);
+                        }
+                        writers[partition].append(key).append('\t').append(line).append('\n');
+                    }
+                    after = customer.id();
+                }
+                count += batch.size();
+            } while (batch.size() == batchSize);
+        } finally {
+            for (BufferedWriter writer : writers) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+        return count;
+    }
+
+    private static Path spillFile(Path workDirectory, int partition) {
+        return workDirectory.resolve("partition-" + partition + ".tsv");
+    }
+
+    // Normalized values hold only [a-z0-9 ], so tabs and commas are safe separators
+    static String encode(MatchRecord record) {
+        return record.id() + "\t" + record.firstName() + "\t" + record.lastName() + "\t" + record.phone() + "\t"
+                + record.emailLocal() + "\t" + String.join(" ", record.addressTokens()) + "\t"
+                + String.join(",", record.keys());
+    }
+
+    static MatchRecord decode(String[] fields, int offset) {
+        String address = fields[offset + 5];
+        String keys = fields[offset + 6];
+        return new MatchRecord(Long.parseLong(fields[offset]), fields[offset + 1], fields[offset + 2],
+                fields[offset + 3], fields[offset + 4],
+                address.isEmpty() ? new String[0] : address.split(" "),
+                keys.isEmpty() ? new String[0] : keys.split(","));
+    }
+
+    // ─── 2. block and score ───
+
+    private List<Suggestion> scorePartition(Path file, Stats stats) throws IOException {
+        Map<String, List<MatchRecord>> blocksByKey = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                blocksByKey.computeIfAbsent(fields[0], k -> new ArrayList<>(2)).add(decode(fields, 1));
+            }
+        }
+
+        List<Block> blocks = new ArrayList<>();
+        for (Map.Entry<String, List<MatchRecord>> entry : blocksByKey.entrySet()) {
+            int size = entry.getValue().size();
+            if (size < 2) {
+                continue;
+            }
+            if (size > deduplicationConfiguration.getMaxBlockSize()) {
+                stats.skippedBlocks++;
+                log.debug("Skipping deduplication block {} with {} customers", entry.getKey(), size);
+                continue;
+            }
+            blocks.add(new Block(entry.getKey(), entry.getValue()));
+        }
+        blocksByKey = null; // only the blocks are needed while scoring
+        stats.blocks += blocks.size();
+        if (blocks.isEmpty()) {
+            return List.of();
+        }
+
+        // Prefix sums of pair counts, so fork/join splits by work rather than by block count
+        long[] pairsBefore = new long[blocks.size() + 1];
+        for (int i = 0; i < blocks.size(); i++) {
+            long n = blocks.get(i).records().size();
+            pairsBefore[i + 1] = pairsBefore[i] + n * (n - 1) / 2;
+        }
+        Queue<Suggestion> sink = new ConcurrentLinkedQueue<>();
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, deduplicationConfiguration.getParallelism()));
+        try {
+            pool.invoke(new ScoreBlocks(blocks, pairsBefore, 0, blocks.size(), sink, stats.pairs,
+                    deduplicationConfiguration.getThreshold()));
+        } finally {
+            pool.shutdown();
+        }
+        return new ArrayList<>(sink);
+    }
+
+    private record Block(String key, List<MatchRecord> records) {
+    }
+
+    private static final class ScoreBlocks extends RecursiveAction {
+
+        private final List<Block> blocks;
+        private final long[] pairsBefore;
+        private final int from;
+        private final int to;
+        private final Queue<Suggestion> sink;
+        private final LongAdder pairs;
+        private final double threshold;
+
+        ScoreBlocks(List<Block> blocks, long[] pairsBefore, int from, int to, Queue<Suggestion> sink,
+                    LongAdder pairs, double threshold) {
+            this.blocks = blocks;
+            this.pairsBefore = pairsBefore;
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+            this.pairs = pairs;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1 && pairsBefore[to] - pairsBefore[from] > LEAF_PAIRS) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScoreBlocks(blocks, pairsBefore, from, middle, sink, pairs, threshold),
+                        new ScoreBlocks(blocks, pairsBefore, middle, to, sink, pairs, threshold));
+                return;
+            }
+            long scored = 0;
+            for (int b = from; b < to; b++) {
+                Block block = blocks.get(b);
+                List<MatchRecord> records = block.records();
+                for (int i = 0; i < records.size(); i++) {
+                    MatchRecord a = records.get(i);
+                    for (int j = i + 1; j < records.size(); j++) {
+                        MatchRecord other = records.get(j);
+                        if (!CustomerMatcher.isFirstSharedKey(a, other, block.key())) {
+                            continue;
+                        }
+                        scored++;
+                        double score = CustomerMatcher.score(a, other);
+                        if (score >= threshold) {
+                            sink.add(a.id() < other.id()
+                                    ? new Suggestion(a.id(), other.id(), score, CustomerMatcher.matchedOn(a, other))
+                                    : new Suggestion(other.id(), a.id(), score, CustomerMatcher.matchedOn(a, other)));
+                        }
+                    }
+                }
+            }
+            pairs.add(scored);
+        }
+    }
+
+    // ─── 3. write ───
+
+    private void insert(long runId, List<Suggestion> suggestions) {
+        if (suggestions.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, suggestions, deduplicationConfiguration.getInsertBatchSize(), (ps, s) -> {
+            ps.setLong(1, runId);
+            ps.setLong(2, s.customerId());
+            ps.setLong(3, s.candidateId());
+            ps.setDouble(4, Math.round(s.score() * 10_000) / 10_000.0);
+            ps.setString(5, s.matchedOn());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    record Suggestion(long customerId, long candidateId, double score, String matchedOn) {
+    }
+
+    private static final class Stats {
+        long blocks;
+        long skippedBlocks;
+        long suggestions;
+        final LongAdder pairs = new LongAdder();
+    }
+
+    public record DeduplicationResult(long runId, long customers, long blocks, long skippedBlocks, long pairsScored,
+                                      long suggestions, long millis, double customersPerSecond) {
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
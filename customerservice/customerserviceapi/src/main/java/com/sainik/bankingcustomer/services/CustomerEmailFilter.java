@@ -0,0 +1,138 @@
+package com.sainik.bankingcustomer.services;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.sainik.bankingcommon.services.CountingBloomFilter;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+// In-memory Bloom filter of the customer emails in use, so that creating a customer with a
+// new email does not need a lookup first. Until it is built every email "might exist".
+@Service
+public class CustomerEmailFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerEmailFilter.class);
+
+    private static final String FILTER_TAG = "customer-email";
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${banking.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${banking.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${banking.bloom.build-batch-size:10000}")
+    private int buildBatchSize;
+
+    private CountingBloomFilter filter;
+    private volatile boolean ready;
+
+    private Counter skippedLookups;
+    private Counter confirmedLookups;
+    private Counter falsePositives;
+
+    @PostConstruct
+    void init() {
+        filter = new CountingBloomFilter(expectedInsertions, falsePositiveRate);
+        Gauge.builder("banking.bloom.filter.false.positive.rate", filter, CountingBloomFilter::expectedFalsePositiveRate)
+                .description("Expected false-positive rate at the current fill")
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        Gauge.builder("banking.bloom.filter.memory", filter, CountingBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        Gauge.builder("banking.bloom.filter.entries", filter, CountingBloomFilter::entries)
+                .tag("filter", FILTER_TAG)
+                .register(meterRegistry);
+        skippedLookups = lookups("skipped");
+        confirmedLookups = lookups("confirmed");
+        falsePositives = lookups("false_positive");
+    }
+
+    // Scans all emails in index order; emails registered meanwhile are added as they come
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.nanoTime();
+        long count = 0;
+        String after = "";
+        List<String> batch;
+        do {
+            batch = customerRepository.findEmailsAfter(after, Limit.of(buildBatchSize));
+            for (String email : batch) {
+                // Only safe while the unique constraint backs up every negative answer
+                if (email.equalsIgnoreCase(after)) {
+                    log.warn("Duplicate email {} found; duplicate checks keep querying the database", email);
+                    return;
+                }
+                filter.add(key(email));
+                after = email;
+            }
+            count += batch.size();
+        } while (batch.size() == buildBatchSize);
+
+        ready = true;
+        log.info("Customer email filter built from {} customers in {} ms ({} bytes, {} hash functions)",
+                count, (System.nanoTime() - start) / 1_000_000, filter.memoryBytes(), filter.hashFunctions());
+    }
+
+    // False means the email is certainly unused; true means the database has to be asked
+    public boolean mightExist(String email) {
+        if (!ready) {
+            return true;
+        }
+        if (filter.mightContain(key(email))) {
+            return true;
+        }
+        skippedLookups.increment();
+        return false;
+    }
+
+    // Outcome of the database lookup after a positive answer
+    public void recordLookup(boolean found) {
+        if (ready) {
+            (found ? confirmedLookups : falsePositives).increment();
+        }
+    }
+
+    public void added(String email) {
+        filter.add(key(email));
+    }
+
+    public void removed(String email) {
+        filter.remove(key(email));
+    }
+
+    // MySQL compares with a case-insensitive collation, so the filter must too
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private Counter lookups(String result) {
+        return Counter.builder("banking.bloom.filter.lookups")
+                .description("Duplicate checks by outcome: skipped (filter negative), confirmed or false_positive")
+                .tag("filter", FILTER_TAG)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,159 @@
+package com.sainik.bankingcustomer.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sainik.bankingcommon.configuration.ImportConfiguration;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.services.ImportJob;
+import com.sainik.bankingcommon.services.ImportPipeline;
+import com.sainik.bankingcommon.services.ImportRow;
+import com.sainik.bankingcommon.services.JdbcImportBatchWriter;
+import com.sainik.bankingcustomer.dtos.CustomerDTO;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+
+/**
+ * Bulk customer onboarding from CSV (with a header row) or NDJSON uploads.
+ *
+ * Parsing, validation and the job bookkeeping are ImportPipeline's; this class supplies the customer side:
+ * - Rows are validated against CustomerDTO.
+ * - Emails the filter has seen are checked with one IN query per batch and rejected if taken.
+ * - The rest are inserted with one JDBC batch per transaction; a batch that hits the unique email
+ *   constraint is retried row by row, so only the clashing rows end up in the job's error report.
+ */
+@Service
+@EnableConfigurationProperties(ImportConfiguration.class)
+public class CustomerImportService {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO customers (first_name, last_name, email, phone, address, created_at, version, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0, ?)";
+
+    @Autowired
+    private ImportConfiguration importConfiguration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerEmailFilter customerEmailFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    private ImportPipeline<CustomerDTO> pipeline;
+
+    @PostConstruct
+    void init() throws IOException {
+        pipeline = new ImportPipeline<>("customer", CustomerDTO.class, importConfiguration, objectMapper, validator,
+                new CustomerBatchWriter());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pipeline.shutdown();
+    }
+
+    public ImportJobDTO submit(InputStream body, String contentType) throws IOException {
+        return pipeline.submit(body, contentType);
+    }
+
+    public ImportJobDTO getJob(String jobId) {
+        return pipeline.getJob(jobId);
+    }
+
+    public Path getErrorReport(String jobId) {
+        return pipeline.getErrorReport(jobId);
+    }
+
+    private static void bind(PreparedStatement ps, CustomerDTO customer, Timestamp createdAt) throws SQLException {
+        ps.setString(1, customer.getFirstName());
+        ps.setString(2, customer.getLastName());
+        ps.setString(3, customer.getEmail());
+        ps.setString(4, customer.getPhone());
+        ps.setString(5, customer.getAddress());
+        ps.setTimestamp(6, createdAt);
+        ps.setTimestamp(7, createdAt);
+    }
+
+    // Same normalization as CustomerEmailFilter: MySQL compares emails case-insensitively
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private final class CustomerBatchWriter extends JdbcImportBatchWriter<CustomerDTO> {
+
+        CustomerBatchWriter() {
+            super(jdbcTemplate, transactionTemplate, INSERT_SQL, "email", CustomerImportService::bind);
+        }
+
+        @Override
+        protected List<ImportRow<CustomerDTO>> withoutExisting(ImportJob job, List<ImportRow<CustomerDTO>> batch) {
+            // Emails the filter has seen are checked with one IN query; all others go straight to the insert
+            List<String> candidates = batch.stream()
+                    .map(row -> row.value().getEmail())
+                    .filter(customerEmailFilter::mightExist)
+                    .toList();
+            Set<String> existing = new HashSet<>();
+            if (!candidates.isEmpty()) {
+                customerRepository.findExistingEmails(candidates).forEach(email -> existing.add(key(email)));
+                candidates.forEach(email -> customerEmailFilter.recordLookup(existing.contains(key(email))));
+            }
+
+            List<ImportRow<CustomerDTO>> fresh = new ArrayList<>(batch.size());
+            for (ImportRow<CustomerDTO> row : batch) {
+                if (existing.contains(key(row.value().getEmail()))) {
+                    job.reject(row.record(), "email", "Customer with email " + row.value().getEmail() + " already exists");
+                } else {
+                    fresh.add(row);
+                }
+            }
+            return fresh;
+        }
+
+        @Override
+        protected void imported(CustomerDTO customer) {
+            customerEmailFilter.added(customer.getEmail());
+        }
+
+        @Override
+        protected void afterBatch() {
+            // Rows inserted over JDBC are invisible to Hibernate, so cached "no such email" results must go
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.sainik.bankingcustomer.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+
+// Normalization, blocking keys and pair scoring for CustomerDeduplicationJob. Stateless and allocation-light:
+// scoring runs for every candidate pair, millions of times per job.
+public final class CustomerMatcher {
+
+    // Weights of the field similarities in a pair score; they add up to 1
+    static final double NAME_WEIGHT = 0.4;
+    static final double PHONE_WEIGHT = 0.3;
+    static final double ADDRESS_WEIGHT = 0.2;
+    static final double EMAIL_WEIGHT = 0.1;
+
+    // A field counts towards matchedOn from this similarity up
+    private static final double FIELD_MATCH = 0.9;
+
+    // Numbers are compared on their last digits so "+31 6 ..." and "06 ..." agree
+    private static final int PHONE_DIGITS = 9;
+    private static final int MIN_PHONE_DIGITS = 7;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final String[] NO_TOKENS = new String[0];
+
+    private CustomerMatcher() {
+    }
+
+    // Normalized form of a customer; keys are its blocking keys in ascending order
+    public record MatchRecord(long id, String firstName, String lastName, String phone, String emailLocal,
+                              String[] addressTokens, String[] keys) {
+    }
+
+    public static MatchRecord normalize(CustomerSummary customer) {
+        String firstName = text(customer.firstName());
+        String lastName = text(customer.lastName());
+        String phone = phone(customer.phone());
+        String email = customer.email() == null ? "" : customer.email();
+        int at = email.indexOf('@');
+        String emailLocal = text(at < 0 ? email : email.substring(0, at));
+        return new MatchRecord(customer.id(), firstName, lastName, phone, emailLocal,
+                tokens(customer.address()), keys(firstName, lastName, phone));
+    }
+
+    // Candidate pairs are only scored within a block: same phone, or same full name
+    private static String[] keys(String firstName, String lastName, String phone) {
+        List<String> keys = new ArrayList<>(2);
+        if (!firstName.isEmpty() && !lastName.isEmpty()) {
+            keys.add("n:" + lastName + "|" + firstName);
+        }
+        if (!phone.isEmpty()) {
+            keys.add("p:" + phone);
+        }
+        String[] sorted = keys.toArray(NO_TOKENS);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // A pair sharing several keys meets in several blocks; it is scored only in the first of them
+    public static boolean isFirstSharedKey(MatchRecord a, MatchRecord b, String key) {
+        for (String candidate : a.keys()) {
+            for (String other : b.keys()) {
+                if (candidate.equals(other)) {
+                    return candidate.equals(key);
+                }
+            }
+        }
+        return false;
+    }
+
+    public static double score(MatchRecord a, MatchRecord b) {
+        double name = 0.5 * jaroWinkler(a.firstName(), b.firstName()) + 0.5 * jaroWinkler(a.lastName(), b.lastName());
+        double phone = !a.phone().isEmpty() && a.phone().equals(b.phone()) ? 1 : 0;
+        return NAME_WEIGHT * name
+                + PHONE_WEIGHT * phone
+                + ADDRESS_WEIGHT * jaccard(a.addressTokens(), b.addressTokens())
+                + EMAIL_WEIGHT * jaroWinkler(a.emailLocal(), b.emailLocal());
+    }
+
+    // Only computed for pairs above the threshold
+    public static String matchedOn(MatchRecord a, MatchRecord b) {
+        List<String> fields = new ArrayList<>(4);
+        if (0.5 * jaroWinkler(a.firstName(), b.firstName()) + 0.5 * jaroWinkler(a.lastName(), b.lastName()) >= FIELD_MATCH) {
+            fields.add("name");
+        }
+        if (!a.phone().isEmpty() && a.phone().equals(b.phone())) {
+            fields.add("phone");
+        }
+        if (jaccard(a.addressTokens(), b.addressTokens()) >= FIELD_MATCH) {
+            fields.add("address");
+        }
+        if (jaroWinkler(a.emailLocal(), b.emailLocal()) >= FIELD_MATCH) {
+            fields.add("email");
+        }
+        return String.join(",", fields);
+    }
+
+    // ─── normalization ───
+
+    // Accent-folded, lower-case letters and digits separated by single spaces: "Zoë  O'Neil" -> "zoe o neil"
+    static String text(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        // Decomposing and stripping accents is the expensive part; most names do not need it
+        String source = isAscii(value)
+                ? value
+                : MARKS.matcher(Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        StringBuilder normalized = new StringBuilder(source.length());
+        boolean separator = false;
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (separator && normalized.length() > 0) {
+                    normalized.append(' ');
+                }
+                normalized.append(c);
+                separator = false;
+            } else {
+                separator = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String phone(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.length() < MIN_PHONE_DIGITS) {
+            return "";
+        }
+        return digits.length() > PHONE_DIGITS ? digits.substring(digits.length() - PHONE_DIGITS) : digits.toString();
+    }
+
+    // Distinct address words in sorted order, for a merge-style Jaccard
+    static String[] tokens(String value) {
+        String normalized = text(value);
+        if (normalized.isEmpty()) {
+            return NO_TOKENS;
+        }
+        String[] tokens = normalized.split(" ");
+        Arrays.sort(tokens);
+        int distinct = 1;
+        for (int i = 1; i < tokens.length; i++) {
+            if (!tokens[i].equals(tokens[distinct - 1])) {
+                tokens[distinct++] = tokens[i];
+            }
+        }
+        return distinct == tokens.length ? tokens : Arrays.copyOf(tokens, distinct);
+    }
+
+    // ─── similarity ───
+
+    static double jaccard(String[] a, String[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return 0;
+        }
+        int i = 0;
+        int j = 0;
+        int common = 0;
+        while (i < a.length && j < b.length) {
+            int order = a[i].compareTo(b[j]);
+            if (order == 0) {
+                common++;
+                i++;
+                j++;
+            } else if (order < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (a.length + b.length - common);
+    }
+
+    // 0 when either side is missing: an unknown value is no evidence either way
+    static double jaroWinkler(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        if (a.equals(b)) {
+            return 1;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        long matchedA = 0;
+        long matchedB = 0;
+        boolean[] flagsA = a.length() > 64 ? new boolean[a.length()] : null;
+        boolean[] flagsB = b.length() > 64 ? new boolean[b.length()] : null;
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(b.length() - 1, i + window);
+            for (int j = from; j <= to; j++) {
+                if (isSet(matchedB, flagsB, j) || a.charAt(i) != b.charAt(j)) {
+                    continue;
+                }
+                matchedA = set(matchedA, flagsA, i);
+                matchedB = set(matchedB, flagsB, j);
+                matches++;
+                break;
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (!isSet(matchedA, flagsA, i)) {
+                continue;
+            }
+            while (!isSet(matchedB, flagsB, j)) {
+                j++;
+            }
+            if (a.charAt(i) != b.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(a.length(), b.length())) && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+
+    // Match flags live in a long for the usual short strings and in an array beyond 64 chars
+    private static boolean isSet(long bits, boolean[] flags, int index) {
+        return flags == null ? (bits & (1L << index)) != 0 : flags[index];
+    }
+
+    private static long set(long bits, boolean[] flags, int index) {
+        if (flags == null) {
+            return bits | (1L << index);
+        }
+        flags[index] = true;
+        return bits;
+    }
+}
@@ -0,0 +1,748 @@
+package com.sainik.bankingcustomer.services;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+import com.sainik.bankingcustomer.configuration.SearchConfiguration;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.models.Customer;
+import com.sainik.bankingcustomer.models.CustomerTombstone;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import com.sainik.bankingcustomer.repositories.CustomerTombstoneRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+// In-process Lucene index of customer names, emails and phone numbers for type-ahead search.
+// Writes through CustomerService are applied after commit and become searchable within
+// refresh-interval; writes made elsewhere are picked up from updated_at and customer_tombstones on
+// catch-up, and a rebuild re-reads the whole table into a fresh index generation that replaces the
+// live one at the end.
+@Service
+public class CustomerSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerSearchIndex.class);
+
+    // Indexed fields
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String NAME_PREFIX = "name_prefix";
+    private static final String EMAIL = "email_key";
+    private static final String PHONE = "phone_digits";
+    private static final String PHONE_SUFFIX = "phone_suffix";
+
+    // Stored fields, returned with each hit
+    private static final String FIRST_NAME = "firstName";
+    private static final String LAST_NAME = "lastName";
+    private static final String EMAIL_VALUE = "email";
+    private static final String PHONE_VALUE = "phone";
+
+    private static final String GENERATION_PREFIX = "gen-";
+    // Commit user data of a generation whose rebuild finished
+    private static final String COMPLETE = "complete";
+    // Commit user data: catch-up position (updated_at / deleted_at) the committed documents reflect
+    private static final String CHANGES_SINCE = "changes_since";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MAX_PREFIX_LENGTH = 20;
+    private static final Pattern PHONE_QUERY = Pattern.compile("[+\\d\\s().-]*\\d{3}[+\\d\\s().-]*");
+
+    // Word tokens, lower-cased and accent-folded: "Zoë O'Neil" matches "zoe o'neil"
+    static final Analyzer NAME_ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source, stream);
+        }
+    };
+
+    // Every leading slice of each word ("j", "jo", ... "jordan"), so a typed prefix is a single term
+    // lookup instead of a scan over all words that start with it. Index-time only.
+    private static final Analyzer NAME_PREFIX_ANALYZER = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer source = new StandardTokenizer();
+            TokenStream stream = new ASCIIFoldingFilter(new LowerCaseFilter(source));
+            return new TokenStreamComponents(source,
+                    new EdgeNGramTokenFilter(stream, 1, MAX_PREFIX_LENGTH, true));
+        }
+    };
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerTombstoneRepository customerTombstoneRepository;
+
+    @Autowired
+    private SearchConfiguration searchConfiguration;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Live generation; replaced (under the write lock) only when a rebuild completes
+    private volatile Generation current;
+
+    // Ids written while a rebuild runs, re-read into the new generation before it goes live
+    private volatile Set<Long> touchedDuringRebuild;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // Held by a rebuild or a catch-up, which never run at the same time
+    private final ReentrantLock scanLock = new ReentrantLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    // Writes made elsewhere up to this time are in the live generation, less those still uncommitted then
+    private volatile LocalDateTime changesSince = BEGINNING;
+    // Whether open() found a generation whose rebuild finished
+    private boolean openedComplete;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    void open() throws IOException {
+        Path root = Path.of(searchConfiguration.getDirectory());
+        Files.createDirectories(root);
+        List<Path> generations;
+        try (Stream<Path> children = Files.list(root)) {
+            generations = children.filter(p -> p.getFileName().toString().startsWith(GENERATION_PREFIX))
+                    .sorted(Comparator.comparing(p -> Long.parseLong(p.getFileName().toString().substring(GENERATION_PREFIX.length()))))
+                    .toList();
+        }
+        // Keep the newest finished generation; the rest are leftovers of an interrupted rebuild or swap
+        Path latest = null;
+        for (Path generation : generations) {
+            if (isComplete(generation)) {
+                latest = generation;
+            }
+        }
+        openedComplete = latest != null;
+        if (latest == null) {
+            latest = newGenerationPath();
+        }
+        for (Path stale : generations) {
+            if (!stale.equals(latest)) {
+                deleteRecursively(stale);
+            }
+        }
+        current = Generation.open(latest, searchConfiguration);
+        changesSince = current.changesSince();
+
+        searchTimer = Timer.builder("banking.customer.search")
+                .description("Customer search latency, excluding HTTP and serialization")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("banking.customer.search.documents", this, CustomerSearchIndex::documents)
+                .description("Customers in the live search index")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        current.close();
+    }
+
+    // Runs on a thread of its own, so a rebuild over millions of customers does not hold up startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!searchConfiguration.isRebuildOnStartup() && openedComplete) {
+            log.info("Customer search index opened with {} documents", documents());
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (IOException | RuntimeException e) {
+                log.error("Customer search index rebuild failed; searching the previous index", e);
+            }
+        }, "customer-search-startup-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // ─── Writes ───────────────────────────────────────────────────────────────────
+
+    // Called by CustomerService inside its transaction; applied only if that commits
+    public void update(Customer customer) {
+        Document document = document(customer);
+        afterCommit(() -> apply(customer.getId(), document));
+    }
+
+    public void delete(Long id) {
+        afterCommit(() -> apply(id, null));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+
+    // A null document deletes. Index failures are logged, never thrown: the database write has committed
+    private void apply(long id, Document document) {
+        swapLock.readLock().lock();
+        try {
+            Set<Long> touched = touchedDuringRebuild;
+            if (touched != null) {
+                touched.add(id);
+            }
+            if (document == null) {
+                current.writer.deleteDocuments(idTerm(id));
+            } else {
+                current.writer.updateDocument(idTerm(id), document);
+            }
+        } catch (IOException e) {
+            log.warn("Could not index customer {}; search is stale for it until the next rebuild", id, e);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // Picks up customers inserted, updated or deleted by bulk imports and other instances. updated_at
+    // and deleted_at are set before commit, so each pass re-reads catch-up-overlap before the
+    // previous one: a write that committed late is still seen as long as it committed within that.
+    @Scheduled(fixedDelayString = "${banking.search.catch-up-interval:30s}",
+            initialDelayString = "${banking.search.catch-up-interval:30s}")
+    public void catchUp() {
+        if (!scanLock.tryLock()) {
+            return;
+        }
+        try {
+            catchUpLocked();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    private void catchUpLocked() {
+        Limit batch = Limit.of(searchConfiguration.getRebuildBatchSize());
+        LocalDateTime upTo = LocalDateTime.now();
+        LocalDateTime from = changesSince.minus(searchConfiguration.getCatchUpOverlap());
+
+        long updated = 0;
+        LocalDateTime cursorTime = from;
+        long cursorId = 0;
+        List<Customer> written;
+        do {
+            written = customerRepository.findChangedSince(cursorTime, cursorId, upTo, batch);
+            for (Customer customer : written) {
+                apply(customer.getId(), document(customer));
+                cursorTime = customer.getUpdatedAt();
+                cursorId = customer.getId();
+            }
+            updated += written.size();
+        } while (written.size() == batch.max());
+
+        long deleted = 0;
+        cursorTime = from;
+        cursorId = 0;
+        List<CustomerTombstone> tombstones;
+        do {
+            tombstones = customerTombstoneRepository.findDeletedSince(cursorTime, cursorId, upTo, batch);
+            for (CustomerTombstone tombstone : tombstones) {
+                apply(tombstone.getCustomerId(), null);
+                cursorTime = tombstone.getDeletedAt();
+                cursorId = tombstone.getCustomerId();
+            }
+            deleted += tombstones.size();
+        } while (tombstones.size() == batch.max());
+
+        changesSince = upTo;
+        if (updated + deleted > 0) {
+            log.debug("Customer search index caught up {} written and {} deleted customers since {}", updated, deleted, from);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${banking.search.commit-interval:1m}",
+            initialDelayString = "${banking.search.commit-interval:1m}")
+    public void commit() throws IOException {
+        swapLock.readLock().lock();
+        try {
+            if (current.writer.hasUncommittedChanges()) {
+                // Conservative: documents applied after changesSince was read are simply re-read after a restart
+                Map<String, String> data = new HashMap<>();
+                current.writer.getLiveCommitData().forEach(entry -> data.put(entry.getKey(), entry.getValue()));
+                data.put(CHANGES_SINCE, changesSince.toString());
+                current.writer.setLiveCommitData(data.entrySet());
+                current.writer.commit();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // ─── Rebuild ──────────────────────────────────────────────────────────────────
+
+    // Re-reads every customer into a new index generation, scanning rebuild-threads id ranges in
+    // parallel, then swaps it in; searches use the old generation until then. Null if already running
+    public RebuildResult rebuild() throws IOException {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return null;
+        }
+        // Waits for a running catch-up, whose writes would otherwise all count as concurrent changes
+        scanLock.lock();
+        long start = System.nanoTime();
+        // Rows written after this are re-read by the next catch-up, or by reconcile if written here
+        LocalDateTime scanStart = LocalDateTime.now();
+        Generation next = Generation.open(newGenerationPath(), searchConfiguration);
+        try {
+            touchedDuringRebuild = ConcurrentHashMap.newKeySet();
+            long maxId = customerRepository.findMaxId();
+            long indexed = scanInParallel(next, maxId);
+            next.writer.setLiveCommitData(Map.of(COMPLETE, "true", CHANGES_SINCE, scanStart.toString()).entrySet());
+            next.writer.commit();
+            next.searchers.maybeRefreshBlocking();
+
+            Generation previous;
+            swapLock.writeLock().lock();
+            try {
+                Set<Long> touched = touchedDuringRebuild;
+                touchedDuringRebuild = null;
+                reconcile(next, touched);
+                next.searchers.maybeRefreshBlocking();
+                previous = current;
+                current = next;
+                changesSince = scanStart;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            previous.close();
+            deleteRecursively(previous.path);
+
+            RebuildResult result = new RebuildResult(indexed, (System.nanoTime() - start) / 1_000_000);
+            log.info("Customer search index rebuilt: {} customers in {} ms with {} threads",
+                    result.documents(), result.millis(), searchConfiguration.getRebuildThreads());
+            return result;
+        } catch (IOException | RuntimeException e) {
+            touchedDuringRebuild = null;
+            next.close();
+            deleteRecursively(next.path);
+            throw e;
+        } finally {
+            scanLock.unlock();
+            rebuilding.set(false);
+        }
+    }
+
+    private long scanInParallel(Generation next, long maxId) throws IOException {
+        int threads = Math.max(1, searchConfiguration.getRebuildThreads());
+        long sliceSize = maxId / threads + 1;
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                r -> new Thread(r, "customer-search-rebuild-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<Long>> slices = new ArrayList<>();
+            for (long from = 0; from < maxId; from += sliceSize) {
+                long after = from;
+                long upTo = Math.min(maxId, from + sliceSize);
+                slices.add(pool.submit(() -> scanSlice(next, after, upTo)));
+            }
+            long indexed = 0;
+            for (Future<Long> slice : slices) {
+                indexed += slice.get();
+            }
+            return indexed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while rebuilding the customer search index", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Ids in (after, upTo], each added exactly once: no update-by-term lookups needed
+    private long scanSlice(Generation next, long after, long upTo) {
+        int batchSize = searchConfiguration.getRebuildBatchSize();
+        long count = 0;
+        List<CustomerSummary> batch;
+        do {
+            batch = customerRepository.findSummariesBetween(after, upTo, Limit.of(batchSize));
+            for (CustomerSummary customer : batch) {
+                try {
+                    next.writer.addDocument(document(customer));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                after = customer.id();
+            }
+            count += batch.size();
+        } while (batch.size() == batchSize);
+        return count;
+    }
+
+    // The scan may have read a row before a concurrent write changed it: take the database's word
+    private void reconcile(Generation next, Set<Long> touched) throws IOException {
+        if (touched.isEmpty()) {
+            return;
+        }
+        Set<Long> missing = new HashSet<>(touched);
+        List<Long> ids = List.copyOf(touched);
+        int chunkSize = searchConfiguration.getRebuildBatchSize();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            for (Customer customer : customerRepository.findAllById(ids.subList(from, Math.min(ids.size(), from + chunkSize)))) {
+                missing.remove(customer.getId());
+                next.writer.updateDocument(idTerm(customer.getId()), document(customer));
+            }
+        }
+        for (Long id : missing) {
+            next.writer.deleteDocuments(idTerm(id));
+        }
+    }
+
+    // ─── Search ───────────────────────────────────────────────────────────────────
+
+    // Ranked: exact word > word prefix; every query word must match. Only if nothing matches is the
+    // query repeated with typo tolerance (1 edit from 4 letters, 2 from 8), which costs far more.
+    public PageResponse<CustomerSearchHit> search(String text, int page, int size) throws IOException {
+        if (size < 1 || (long) (page + 1) * size > searchConfiguration.getMaxResults()) {
+            throw new InvalidPageRequestException("Search results are limited to the first "
+                    + searchConfiguration.getMaxResults() + "; refine the query instead of paging further");
+        }
+        Query query = buildQuery(text, false);
+        if (query == null) {
+            return new PageResponse<>(List.of(), page, size, 0, 0);
+        }
+
+        long start = System.nanoTime();
+        swapLock.readLock().lock();
+        try {
+            IndexSearcher searcher = current.searchers.acquire();
+            try {
+                // Plain relevance order lets Lucene skip blocks that cannot reach the top hits;
+                // ties fall back to index order, which is stable for one searcher
+                TopDocs top = searcher.search(query, (page + 1) * size);
+                if (top.totalHits.value == 0) {
+                    top = searcher.search(buildQuery(text, true), (page + 1) * size);
+                }
+                StoredFields stored = searcher.storedFields();
+                List<CustomerSearchHit> hits = new ArrayList<>(size);
+                for (int i = page * size; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    Document document = stored.document(scoreDoc.doc);
+                    hits.add(new CustomerSearchHit(Long.valueOf(document.get(ID)), document.get(FIRST_NAME),
+                            document.get(LAST_NAME), document.get(EMAIL_VALUE), document.get(PHONE_VALUE), scoreDoc.score));
+                }
+                // Exact up to a thousand hits; beyond that Lucene stops counting and this is a lower bound
+                long total = top.totalHits.value;
+                return new PageResponse<>(hits, page, size, total, (int) ((total + size - 1) / size));
+            } finally {
+                current.searchers.release(searcher);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    static Query buildQuery(String text, boolean fuzzy) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        // "+31 6 9000 0001" is one phone number, not four words
+        String[] tokens = PHONE_QUERY.matcher(text).matches()
+                ? new String[]{text}
+                : text.trim().split("\\s+");
+        BooleanQuery.Builder all = new BooleanQuery.Builder();
+        int terms = 0;
+        for (String token : tokens) {
+            Query any = tokenQuery(token, fuzzy);
+            if (any == null) {
+                continue;
+            }
+            if (terms++ == MAX_QUERY_TERMS) {
+                break;
+            }
+            all.add(any, BooleanClause.Occur.MUST);
+        }
+        return terms == 0 ? null : all.build();
+    }
+
+    private static Query tokenQuery(String token, boolean fuzzy) {
+        BooleanQuery.Builder any = new BooleanQuery.Builder();
+        for (String term : analyze(token)) {
+            any.add(boost(new TermQuery(new Term(NAME, term)), 4), BooleanClause.Occur.SHOULD);
+            String prefix = term.length() > MAX_PREFIX_LENGTH ? term.substring(0, MAX_PREFIX_LENGTH) : term;
+            any.add(boost(new TermQuery(new Term(NAME_PREFIX, prefix)), 2), BooleanClause.Occur.SHOULD);
+            int maxEdits = term.length() < 4 ? 0 : term.length() < 8 ? 1 : 2;
+            if (fuzzy && maxEdits > 0) {
+                // First letter must match, which keeps the automaton small
+                any.add(new FuzzyQuery(new Term(NAME, term), maxEdits, 1), BooleanClause.Occur.SHOULD);
+            }
+        }
+        String email = token.toLowerCase(Locale.ROOT);
+        if (email.length() >= 2) {
+            any.add(boost(new TermQuery(new Term(EMAIL, email)), 8), BooleanClause.Occur.SHOULD);
+            any.add(boost(new PrefixQuery(new Term(EMAIL, email)), 3), BooleanClause.Occur.SHOULD);
+        }
+        String digits = digits(token);
+        if (PHONE_QUERY.matcher(token).matches()) {
+            any.add(boost(new TermQuery(new Term(PHONE, digits)), 6), BooleanClause.Occur.SHOULD);
+            any.add(boost(new PrefixQuery(new Term(PHONE, digits)), 3), BooleanClause.Occur.SHOULD);
+            // Support desks usually have the last digits of a number
+            any.add(boost(new PrefixQuery(new Term(PHONE_SUFFIX, reverse(digits))), 2), BooleanClause.Occur.SHOULD);
+        }
+        BooleanQuery query = any.build();
+        return query.clauses().isEmpty() ? null : query;
+    }
+
+    private static Query boost(Query query, float boost) {
+        return new BoostQuery(query, boost);
+    }
+
+    private static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = NAME_ANALYZER.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return terms;
+    }
+
+    // ─── Documents ────────────────────────────────────────────────────────────────
+
+    private static Document document(CustomerSummary customer) {
+        return document(customer.id(), customer.firstName(), customer.lastName(), customer.email(), customer.phone());
+    }
+
+    private static Document document(Customer customer) {
+        return document(customer.getId(), customer.getFirstName(), customer.getLastName(), customer.getEmail(), customer.getPhone());
+    }
+
+    private static Document document(long id, String firstName, String lastName, String email, String phone) {
+        Document document = new Document();
+        document.add(new StringField(ID, Long.toString(id), Field.Store.YES));
+        String name = nullToEmpty(firstName) + " " + nullToEmpty(lastName);
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        document.add(new TextField(NAME_PREFIX, name, Field.Store.NO));
+        if (email != null) {
+            document.add(new StringField(EMAIL, email.toLowerCase(Locale.ROOT), Field.Store.NO));
+            document.add(new StoredField(EMAIL_VALUE, email));
+        }
+        if (phone != null) {
+            String digits = digits(phone);
+            document.add(new StringField(PHONE, digits, Field.Store.NO));
+            document.add(new StringField(PHONE_SUFFIX, reverse(digits), Field.Store.NO));
+            document.add(new StoredField(PHONE_VALUE, phone));
+        }
+        if (firstName != null) {
+            document.add(new StoredField(FIRST_NAME, firstName));
+        }
+        if (lastName != null) {
+            document.add(new StoredField(LAST_NAME, lastName));
+        }
+        return document;
+    }
+
+    private static Term idTerm(long id) {
+        return new Term(ID, Long.toString(id));
+    }
+
+    private static String digits(String text) {
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    private static String reverse(String text) {
+        return new StringBuilder(text).reverse().toString();
+    }
+
+    private static String nullToEmpty(String text) {
+        return text == null ? "" : text;
+    }
+
+    // ─── State ────────────────────────────────────────────────────────────────────
+
+    public long documents() {
+        return current.writer.getDocStats().numDocs;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    LocalDateTime changesSince() {
+        return changesSince;
+    }
+
+    // Makes every applied write visible now instead of within refresh-interval
+    void refresh() throws IOException {
+        current.searchers.maybeRefreshBlocking();
+    }
+
+    private Path newGenerationPath() {
+        return Path.of(searchConfiguration.getDirectory(), GENERATION_PREFIX + System.currentTimeMillis());
+    }
+
+    private static boolean isComplete(Path generation) throws IOException {
+        try (Directory directory = FSDirectory.open(generation)) {
+            return DirectoryReader.indexExists(directory)
+                    && "true".equals(SegmentInfos.readLatestCommit(directory).getUserData().get(COMPLETE));
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    public record RebuildResult(long documents, long millis) {
+    }
+
+    // One on-disk index with its writer and near-real-time searchers
+    private static final class Generation implements Closeable {
+
+        final Path path;
+        final Directory directory;
+        final IndexWriter writer;
+        final SearcherManager searchers;
+        final ControlledRealTimeReopenThread<IndexSearcher> reopener;
+
+        private Generation(Path path, Directory directory, IndexWriter writer, SearcherManager searchers,
+                           ControlledRealTimeReopenThread<IndexSearcher> reopener) {
+            this.path = path;
+            this.directory = directory;
+            this.writer = writer;
+            this.searchers = searchers;
+            this.reopener = reopener;
+        }
+
+        static Generation open(Path path, SearchConfiguration configuration) throws IOException {
+            Directory directory = FSDirectory.open(path);
+            IndexWriterConfig config = new IndexWriterConfig(
+                    new PerFieldAnalyzerWrapper(NAME_ANALYZER, Map.of(NAME_PREFIX, NAME_PREFIX_ANALYZER)))
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                    .setRAMBufferSizeMB(64);
+            IndexWriter writer = new IndexWriter(directory, config);
+            SearcherManager searchers = new SearcherManager(writer, null);
+            double refreshSeconds = configuration.getRefreshInterval().toMillis() / 1000.0;
+            ControlledRealTimeReopenThread<IndexSearcher> reopener =
+                    new ControlledRealTimeReopenThread<>(writer, searchers, refreshSeconds, 0);
+            reopener.setName("customer-search-refresh-" + path.getFileName());
+            reopener.setDaemon(true);
+            reopener.start();
+            return new Generation(path, directory, writer, searchers, reopener);
+        }
+
+        // Where catch-up resumes after a restart; from the beginning if this generation never recorded it
+        LocalDateTime changesSince() {
+            for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+                if (CHANGES_SINCE.equals(entry.getKey())) {
+                    return LocalDateTime.parse(entry.getValue());
+                }
+            }
+            return BEGINNING;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reopener.close();
+            searchers.close();
+            writer.close();
+            directory.close();
+        }
+    }
+}
@@ -1,71 +1,255 @@
 package com.sainik.bankingcustomer.services;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+import com.sainik.bankingcustomer.configuration.ChangesConfiguration;
 import com.sainik.bankingcustomer.dtos.CustomerDTO;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.dtos.MergeSuggestionDTO;
 import com.sainik.bankingcustomer.exceptions.CustomerAlreadyExistsException;
 import com.sainik.bankingcustomer.exceptions.CustomerNotFoundException;
 import com.sainik.bankingcustomer.mappers.CustomerMapper;
 import com.sainik.bankingcustomer.models.Customer;
+import com.sainik.bankingcustomer.models.CustomerTombstone;
+import com.sainik.bankingcustomer.repositories.CustomerMergeSuggestionRepository;
 import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import com.sainik.bankingcustomer.repositories.CustomerTombstoneRepository;
 
 @Service
 public class CustomerService {
 
+    // Columns that listings may select (?fields=) and sort on
+    private static final Set<String> LISTING_FIELDS =
+            Set.of("id", "firstName", "lastName", "email", "phone", "address", "createdAt");
+
+    // Cursor of a client that has never synced: everything is newer
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     @Autowired
     private CustomerRepository customerRepository;
 
     @Autowired
     private CustomerMapper customerMapper;
 
+    @Autowired
+    private CustomerEmailFilter customerEmailFilter;
+
+    @Autowired
+    private CustomerSearchIndex customerSearchIndex;
+
+    @Autowired
+    private CustomerMergeSuggestionRepository customerMergeSuggestionRepository;
+
+    @Autowired
+    private CustomerTombstoneRepository customerTombstoneRepository;
+
+    @Autowired
+    private ChangesConfiguration changesConfiguration;
+
     // Create
+    @Transactional
     public Customer addCustomer(CustomerDTO customerDTO) {
-        customerRepository.findByEmail(customerDTO.getEmail())
-                .ifPresent(existing -> {
-                    throw new CustomerAlreadyExistsException(
-                            "Customer with email " + customerDTO.getEmail() + " already exists");
-                });
+        // Emails the filter has never seen skip the lookup; uk_customers_email still catches races
+        if (customerEmailFilter.mightExist(customerDTO.getEmail())) {
+            boolean exists = customerRepository.findByEmail(customerDTO.getEmail()).isPresent();
+            customerEmailFilter.recordLookup(exists);
+            if (exists) {
+                throw alreadyExists(customerDTO.getEmail());
+            }
+        }
 
         Customer customer = customerMapper.dtotoentity(customerDTO);
         customer.setCreatedAt(LocalDateTime.now());
-        return customerRepository.save(customer);
+        Customer saved;
+        try {
+            saved = customerRepository.save(customer);
+        } catch (DataIntegrityViolationException e) {
+            throw alreadyExists(customerDTO.getEmail());
+        }
+        customerEmailFilter.added(saved.getEmail());
+        customerSearchIndex.update(saved);
+        return saved;
+    }
+
+    private static CustomerAlreadyExistsException alreadyExists(String email) {
+        return new CustomerAlreadyExistsException("Customer with email " + email + " already exists");
     }
 
     // Read All
+    @Transactional(readOnly = true)
     public List<Customer> getAllCustomers() {
         return customerRepository.findAll();
     }
 
+    // Read Page: record projection, no managed entities
+    @Transactional(readOnly = true)
+    public PageResponse<CustomerSummary> getCustomersPage(Pageable pageable) {
+        return PageResponse.of(customerRepository.findAllProjectedBy(withStableSort(pageable)));
+    }
+
+    // Read Page with a sparse fieldset: only the requested columns are selected
+    @Transactional(readOnly = true)
+    public PageResponse<Map<String, Object>> getCustomersPage(Pageable pageable, Collection<String> fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!LISTING_FIELDS.contains(name)) {
+                throw new InvalidPageRequestException("Unknown field: " + name + ". Allowed fields: " + LISTING_FIELDS);
+            }
+            selected.add(name);
+        }
+        if (selected.isEmpty()) {
+            throw new InvalidPageRequestException("At least one field must be requested");
+        }
+        return PageResponse.of(customerRepository.findPage(selected, withStableSort(pageable)));
+    }
+
+    // Rejects unknown sort properties and appends id so that pages never overlap or skip rows
+    private Pageable withStableSort(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!LISTING_FIELDS.contains(order.getProperty())) {
+                throw new InvalidPageRequestException("Cannot sort by: " + order.getProperty());
+            }
+        }
+        Sort sort = pageable.getSort().getOrderFor("id") == null
+                ? pageable.getSort().and(Sort.by("id"))
+                : pageable.getSort();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+
+    // Type-ahead search over names, emails and phone numbers, served from the in-process index
+    public PageResponse<CustomerSearchHit> searchCustomers(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidPageRequestException("Search query must not be blank");
+        }
+        try {
+            return customerSearchIndex.search(query, pageable.getPageNumber(), pageable.getPageSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Customer search failed", e);
+        }
+    }
+
+    // Likely duplicates from the last complete deduplication run, strongest first
+    @Transactional(readOnly = true)
+    public PageResponse<MergeSuggestionDTO> getMergeSuggestions(Pageable pageable) {
+        Sort byScore = Sort.by(Sort.Direction.DESC, "score").and(Sort.by("id"));
+        return PageResponse.of(customerMergeSuggestionRepository.findLatestRun(
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), byScore)));
+    }
+
     // Read One by ID
+    @Transactional(readOnly = true)
     public Customer getCustomerById(Long id) {
         return customerRepository.findById(id)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found with id: " + id));
     }
 
     // Read One by Email
+    @Transactional(readOnly = true)
     public Customer getCustomerByEmail(String email) {
         return customerRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomerNotFoundException("Customer not found with email: " + email));
     }
 
+    // Read Changes: customers written and deleted after the (since, afterId) cursor, oldest first.
+    // Both tables are read as keyset pages on the same cursor and merged, so a page never skips or repeats a row.
+    @Transactional(readOnly = true)
+    public ChangeFeed<CustomerDTO> getChanges(LocalDateTime since, Long afterId, int limit) {
+        if (limit < 1 || limit > changesConfiguration.getMaxLimit()) {
+            throw new InvalidPageRequestException("limit must be between 1 and " + changesConfiguration.getMaxLimit());
+        }
+        LocalDateTime cursorTime = since == null ? BEGINNING : since;
+        long cursorId = since == null || afterId == null ? 0 : afterId;
+        LocalDateTime upTo = LocalDateTime.now().minus(changesConfiguration.getSettleTime());
+
+        List<Customer> written = customerRepository.findChangedSince(cursorTime, cursorId, upTo, Limit.of(limit + 1));
+        List<CustomerTombstone> deleted =
+                customerTombstoneRepository.findDeletedSince(cursorTime, cursorId, upTo, Limit.of(limit + 1));
+
+        List<CustomerDTO> changedDTOs = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        int w = 0;
+        int d = 0;
+        while (w + d < limit && (w < written.size() || d < deleted.size())) {
+            boolean takeWritten = d == deleted.size() || (w < written.size()
+                    && compareCursor(written.get(w).getUpdatedAt(), written.get(w).getId(),
+                    deleted.get(d).getDeletedAt(), deleted.get(d).getCustomerId()) < 0);
+            if (takeWritten) {
+                Customer customer = written.get(w++);
+                changedDTOs.add(customerMapper.entitytodto(customer));
+                cursorTime = customer.getUpdatedAt();
+                cursorId = customer.getId();
+            } else {
+                CustomerTombstone tombstone = deleted.get(d++);
+                deletedIds.add(tombstone.getCustomerId());
+                cursorTime = tombstone.getDeletedAt();
+                cursorId = tombstone.getCustomerId();
+            }
+        }
+        boolean hasMore = w < written.size() || d < deleted.size();
+        return new ChangeFeed<>(changedDTOs, deletedIds, cursorTime, cursorId, hasMore);
+    }
+
+    private static int compareCursor(LocalDateTime time, Long id, LocalDateTime otherTime, Long otherId) {
+        int order = time.compareTo(otherTime);
+        return order != 0 ? order : Long.compare(id, otherId);
+    }
+
     // Update (full update)
+    @Transactional
     public Customer updateCustomer(Long id, CustomerDTO customerDTO) {
         Customer customer = getCustomerById(id);
+        String previousEmail = customer.getEmail();
         customer.setFirstName(customerDTO.getFirstName());
         customer.setLastName(customerDTO.getLastName());
         customer.setEmail(customerDTO.getEmail());
         customer.setPhone(customerDTO.getPhone());
         customer.setAddress(customerDTO.getAddress());
-        return customerRepository.save(customer);
+        Customer saved = customerRepository.save(customer);
+        if (!Objects.equals(previousEmail, saved.getEmail())) {
+            customerEmailFilter.added(saved.getEmail());
+            if (previousEmail != null) {
+                customerEmailFilter.removed(previousEmail);
+            }
+        }
+        customerSearchIndex.update(saved);
+        return saved;
     }
 
     // Delete
+    @Transactional
     public void deleteCustomer(Long id) {
         Customer customer = getCustomerById(id);
         customerRepository.delete(customer);
+        customerTombstoneRepository.save(new CustomerTombstone(customer.getId(), LocalDateTime.now()));
+        if (customer.getEmail() != null) {
+            customerEmailFilter.removed(customer.getEmail());
+        }
+        customerSearchIndex.delete(id);
     }
 }
@@ -0,0 +1,12 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update produced for Customer.
+CREATE TABLE IF NOT EXISTS customers (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    first_name VARCHAR(255),
+    last_name  VARCHAR(255),
+    email      VARCHAR(255),
+    phone      VARCHAR(255),
+    address    VARCHAR(255),
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_customers_email (email)
+) ENGINE = InnoDB;
@@ -0,0 +1,20 @@
+-- version: optimistic lock and ETag of GET /customers/v1.0/{id}.
+-- updated_at: cursor of GET /customers/v1.0/changes; existing rows count as last written when they were created.
+ALTER TABLE customers
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6);
+
+UPDATE customers SET updated_at = COALESCE(created_at, NOW(6));
+
+ALTER TABLE customers MODIFY updated_at DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_customers_updated_at_id ON customers (updated_at, id);
+
+-- Deleted customers, reported by the changes feed
+CREATE TABLE IF NOT EXISTS customer_tombstones (
+    customer_id BIGINT      NOT NULL,
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (customer_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_customer_tombstones_deleted_at_id ON customer_tombstones (deleted_at, customer_id);
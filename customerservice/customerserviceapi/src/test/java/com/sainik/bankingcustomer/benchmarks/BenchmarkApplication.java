@@ -0,0 +1,42 @@
+package com.sainik.bankingcustomer.benchmarks;
+
+import com.sainik.bankingcustomer.CustomerserviceapiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the customer service against an in-memory H2 database for benchmarks:
+ * no MySQL, Eureka or Flyway, quiet logging, random HTTP port, scratch directories under tmp.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... extraArgs) {
+        String scratch = System.getProperty("java.io.tmpdir") + "/customer-benchmark-" + database;
+        // Passed as command line args so they override application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--banking.vault.mysqlusername=sa",
+                "--banking.vault.mysqlpassword=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--eureka.client.enabled=false",
+                "--banking.search.directory=" + scratch + "/search",
+                "--banking.dedup.directory=" + scratch + "/dedup",
+                "--logging.level.root=WARN",
+                "--logging.level.com.sainik.bankingcustomer=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(CustomerserviceapiApplication.class).run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,94 @@
+package com.sainik.bankingcustomer.benchmarks;
+
+import com.sainik.bankingcustomer.services.CustomerDeduplicationJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full deduplication run (stream, spill, block, score, write) over synthetic customers of whom
+ * a few percent are re-registrations with a new email and small typos. The heap is capped well
+ * below what holding every customer would need, so a run that fits proves the memory bound;
+ * customers/s is logged by the job and is rows divided by the reported time.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CustomerDeduplicationBenchmark -p rows=10000000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CustomerDeduplicationBenchmark {
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final String[] FIRST_NAMES = {"Jordan", "Sam", "Alex", "Maria", "Zoë", "Pieter", "Anne", "Lucas",
+            "Emma", "Noah", "Sophie", "Daan", "Julia", "Sem", "Tess", "Finn", "Eva", "Levi", "Lotte", "Milan"};
+
+    @Param({"1000000"})
+    private int rows;
+
+    // Share of rows that repeat an earlier customer
+    @Param({"0.05"})
+    private double duplicateRate;
+
+    private ConfigurableApplicationContext context;
+    private CustomerDeduplicationJob job;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("dedup", "--banking.search.rebuild-on-startup=false");
+        job = context.getBean(CustomerDeduplicationJob.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (int i = 0; i < rows; i++) {
+            boolean duplicate = i > 0 && random.nextDouble() < duplicateRate;
+            int person = duplicate ? random.nextInt(i) : i;
+            String firstName = FIRST_NAMES[person % FIRST_NAMES.length];
+            if (duplicate && random.nextBoolean()) {
+                firstName = firstName.substring(0, firstName.length() - 1);
+            }
+            // About 50 customers per full name, which is what the name blocks hold
+            String lastName = "Family" + (person / FIRST_NAMES.length) % Math.max(1, rows / 1000);
+            String phone = (duplicate && random.nextBoolean() ? "06" : "+316") + String.format("%08d", person);
+            String address = (person % 300) + " Bank Avenue" + (duplicate ? "" : ", Rotterdam");
+            batch.add(new Object[]{firstName, lastName, "c" + i + "@bank.com", phone, address, now, now});
+            if (batch.size() == INSERT_BATCH || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO customers (first_name, last_name, email, phone, address, created_at, "
+                        + "version, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CustomerDeduplicationJob.DeduplicationResult fullRun() {
+        return job.run();
+    }
+}
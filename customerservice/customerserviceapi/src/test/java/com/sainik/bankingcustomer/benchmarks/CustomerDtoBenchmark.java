@@ -0,0 +1,119 @@
+package com.sainik.bankingcustomer.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcustomer.dtos.CustomerDTO;
+import com.sainik.bankingcustomer.mappers.CustomerMapper;
+import com.sainik.bankingcustomer.mappers.CustomerMapperImpl;
+import com.sainik.bankingcustomer.models.Customer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work around a controller call that does not touch the database:
+ * MapStruct mapping, Jackson serialization of a GenericResponse list and bean validation
+ * of a request body (valid and invalid). Run with the GC profiler to see allocation per call:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CustomerDtoBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerDtoBenchmark {
+
+    @Param({"100"})
+    public int listSize;
+
+    private final CustomerMapper customerMapper = new CustomerMapperImpl();
+
+    private ObjectWriter responseWriter;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Customer customer;
+    private CustomerDTO customerDTO;
+    private CustomerDTO invalidCustomerDTO;
+    private List<Customer> customers;
+    private GenericResponse<List<CustomerDTO>> response;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to its ObjectMapper: java.time values as ISO strings
+        responseWriter = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<GenericResponse<List<CustomerDTO>>>() {
+                });
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        customers = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            customers.add(new Customer((long) i + 1, "First" + i, "Last" + i, "customer" + i + "@bank.com",
+                    "+31 6 " + (10000000 + i), i + " Main Street, Amsterdam", LocalDateTime.now(), 0L, LocalDateTime.now()));
+        }
+        customer = customers.get(0);
+        customerDTO = customerMapper.entitytodto(customer);
+        invalidCustomerDTO = new CustomerDTO(null, "First", "", "not-an-email", "call me", null, null);
+        response = GenericResponse.success("Customers retrieved successfully", customerMapper.entitytolistdto(customers));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public CustomerDTO entityToDto() {
+        return customerMapper.entitytodto(customer);
+    }
+
+    @Benchmark
+    public Customer dtoToEntity() {
+        return customerMapper.dtotoentity(customerDTO);
+    }
+
+    @Benchmark
+    public List<CustomerDTO> entityListToDtoList() {
+        return customerMapper.entitytolistdto(customers);
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDTO>> validateValid() {
+        return validator.validate(customerDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CustomerDTO>> validateInvalid() {
+        return validator.validate(invalidCustomerDTO);
+    }
+}
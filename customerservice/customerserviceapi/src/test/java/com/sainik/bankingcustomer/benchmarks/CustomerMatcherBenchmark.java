@@ -0,0 +1,64 @@
+package com.sainik.bankingcustomer.benchmarks;
+
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.services.CustomerMatcher;
+import com.sainik.bankingcustomer.services.CustomerMatcher.MatchRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of scoring one candidate pair, the inner loop of the deduplication job, and of
+ * normalizing one customer on the streaming side. Pairs per second per core bound the job:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="CustomerMatcherBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomerMatcherBenchmark {
+
+    private CustomerSummary customer;
+    private MatchRecord original;
+    private MatchRecord duplicate;
+    private MatchRecord relative;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        customer = new CustomerSummary(1L, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001",
+                "10 Bank Avenue, Rotterdam", now);
+        original = CustomerMatcher.normalize(customer);
+        duplicate = CustomerMatcher.normalize(new CustomerSummary(2L, "Jordn", "Lee", "jlee1990@mail.com",
+                "0690000001", "10 Bank Ave Rotterdam", now));
+        relative = CustomerMatcher.normalize(new CustomerSummary(3L, "Sam", "Lee", "sam.lee@bank.com",
+                "+31690000001", "10 Bank Avenue, Rotterdam", now));
+    }
+
+    @Benchmark
+    public double scoreDuplicate() {
+        return CustomerMatcher.score(original, duplicate);
+    }
+
+    @Benchmark
+    public double scoreRelative() {
+        return CustomerMatcher.score(original, relative);
+    }
+
+    @Benchmark
+    public MatchRecord normalize() {
+        return CustomerMatcher.normalize(customer);
+    }
+}
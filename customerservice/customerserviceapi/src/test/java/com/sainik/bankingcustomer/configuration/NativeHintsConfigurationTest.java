@@ -0,0 +1,59 @@
+package com.sainik.bankingcustomer.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.sainik.bankingcommon.configuration.LogSamplingFilter;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcustomer.dtos.CustomerDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeHintsConfiguration Tests")
+class NativeHintsConfigurationTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfiguration.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, NativeHintsConfiguration.class);
+    }
+
+    @Test
+    @DisplayName("should include the vendor migrations and the cache configuration")
+    void resources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V1__create_customers.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("hibernate-cache.conf")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should let Hibernate create the configured dialects and cache provider")
+    void reflectiveConstruction() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("org.hibernate.dialect.H2Dialect"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(LogSamplingFilter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should bind the request and response bodies")
+    void bodies() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(CustomerDTO.class.getMethod("getEmail")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(GenericResponse.class.getMethod("getData")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CustomerDTO.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+    }
+}
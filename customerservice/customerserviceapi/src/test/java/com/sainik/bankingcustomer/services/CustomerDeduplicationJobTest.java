@@ -0,0 +1,172 @@
+package com.sainik.bankingcustomer.services;
+
+import com.sainik.bankingcustomer.configuration.DeduplicationConfiguration;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerDeduplicationJob Unit Tests")
+class CustomerDeduplicationJobTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet lockResult;
+
+    @Spy
+    private DeduplicationConfiguration deduplicationConfiguration = new DeduplicationConfiguration();
+
+    @InjectMocks
+    private CustomerDeduplicationJob customerDeduplicationJob;
+
+    @TempDir
+    Path directory;
+
+    private final List<CustomerSummary> customers = new ArrayList<>();
+    private final List<CustomerDeduplicationJob.Suggestion> inserted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        deduplicationConfiguration.setDirectory(directory.toString());
+        deduplicationConfiguration.setPartitions(4);
+        deduplicationConfiguration.setScanBatchSize(2);
+        deduplicationConfiguration.setMaxBlockSize(4);
+        deduplicationConfiguration.setParallelism(2);
+        customerDeduplicationJob.init();
+
+        lenient().when(customerRepository.findSummariesBetween(anyLong(), anyLong(), any(Limit.class))).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            int max = inv.<Limit>getArgument(2).max();
+            return customers.stream().filter(c -> c.id() > after).limit(max).toList();
+        });
+        lenient().when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(inv -> inv.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        lenient().when(connection.prepareStatement(anyString())).thenReturn(statement);
+        lenient().when(statement.executeQuery()).thenReturn(lockResult);
+        lenient().when(lockResult.next()).thenReturn(true);
+        lenient().when(lockResult.getInt(1)).thenReturn(1);
+        lenient().when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(inv -> {
+            inserted.addAll(inv.getArgument(1));
+            return new int[0][];
+        });
+    }
+
+    @Test
+    @DisplayName("run: should suggest each duplicate pair once, lower id first, and replace the previous run")
+    void run_writesSuggestions() {
+        customer(1, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001", "10 Bank Avenue, Rotterdam");
+        customer(2, "Sam", "Park", "sam@bank.com", "+31690000002", "2 Bank Avenue, Rotterdam");
+        customer(3, "Jordan", "Lee", "jlee@mail.com", "0690000001", "10 Bank Ave, Rotterdam");
+        customer(4, "Jordn", "Lee", "jordan.lee@work.com", "+31 6 9000 0001", "10 Bank Avenue Rotterdam");
+        customer(5, "Alex", "Lee", "alex.lee@bank.com", "+31690000001", "10 Bank Avenue, Rotterdam");
+        customer(6, "Sam", "Parker", "s.parker@bank.com", "+31690000099", "7 Harbour Street, Delft");
+        for (long id = 7; id <= 11; id++) {
+            customer(id, "Desk" + id, "Office", "desk" + id + "@corp.com", "+31 20 123 4567", "1 Office Park");
+        }
+
+        CustomerDeduplicationJob.DeduplicationResult result = customerDeduplicationJob.run();
+
+        assertThat(inserted).extracting(s -> s.customerId() + "-" + s.candidateId())
+                .containsExactlyInAnyOrder("1-3", "1-4", "3-4");
+        assertThat(result.customers()).isEqualTo(11);
+        assertThat(result.suggestions()).isEqualTo(3);
+        // Five customers behind one switchboard number exceed max-block-size
+        assertThat(result.skippedBlocks()).isEqualTo(1);
+        // 1-3 meet in their name block; 1-4, 1-5, 3-4, 3-5 and 4-5 in the phone block
+        assertThat(result.pairsScored()).isEqualTo(6);
+        verify(jdbcTemplate).update("DELETE FROM customer_merge_suggestions WHERE run_id < ?", result.runId());
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        } catch (Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    @DisplayName("run: should drop its own rows and spill files when it fails")
+    void run_failureRollsBack() {
+        customer(1, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001", "10 Bank Avenue, Rotterdam");
+        customer(2, "Jordan", "Lee", "jlee@mail.com", "0690000001", "10 Bank Ave, Rotterdam");
+        when(jdbcTemplate.batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenThrow(new IllegalStateException("database down"));
+
+        assertThrows(IllegalStateException.class, () -> customerDeduplicationJob.run());
+
+        verify(jdbcTemplate).update(eq("DELETE FROM customer_merge_suggestions WHERE run_id = ?"), anyLong());
+        verify(jdbcTemplate, never()).update(eq("DELETE FROM customer_merge_suggestions WHERE run_id < ?"), anyLong());
+        assertThat(customerDeduplicationJob.isRunning()).isFalse();
+        assertThat(directory.toFile().list()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("run: should skip while another instance holds the advisory lock")
+    void run_lockedElsewhere() throws Exception {
+        customer(1, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001", "10 Bank Avenue, Rotterdam");
+        when(lockResult.getInt(1)).thenReturn(0);
+
+        assertThat(customerDeduplicationJob.run()).isNull();
+
+        verify(customerRepository, never()).findSummariesBetween(anyLong(), anyLong(), any(Limit.class));
+        verify(connection).prepareStatement("SELECT GET_LOCK(?, 0)");
+        verify(connection, never()).prepareStatement("SELECT RELEASE_LOCK(?)");
+        assertThat(customerDeduplicationJob.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("run: should release the advisory lock after the run")
+    void run_releasesLock() throws Exception {
+        customer(1, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001", "10 Bank Avenue, Rotterdam");
+
+        assertThat(customerDeduplicationJob.run()).isNotNull();
+
+        verify(statement, times(2)).setString(1, "banking.customer.dedup");
+        verify(connection).prepareStatement("SELECT RELEASE_LOCK(?)");
+    }
+
+    private void customer(long id, String firstName, String lastName, String email, String phone, String address) {
+        customers.add(new CustomerSummary(id, firstName, lastName, email, phone, address, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,184 @@
+package com.sainik.bankingcustomer.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sainik.bankingcommon.configuration.ImportConfiguration;
+import com.sainik.bankingcommon.dtos.ImportJobDTO;
+import com.sainik.bankingcommon.exceptions.ImportJobNotFoundException;
+import com.sainik.bankingcommon.exceptions.InvalidImportException;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerImportService Unit Tests")
+class CustomerImportServiceTest {
+
+    private static final String CSV_HEADER = "firstName,lastName,email,phone,address\n";
+
+    @Spy
+    private ImportConfiguration importConfiguration = new ImportConfiguration();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerEmailFilter customerEmailFilter;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private CustomerImportService customerImportService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        importConfiguration.setDirectory(directory.toString());
+        importConfiguration.setBatchSize(2);
+        importConfiguration.setWriterThreads(2);
+        lenient().when(entityManagerFactory.unwrap(SessionFactory.class))
+                .thenReturn(mock(SessionFactory.class, RETURNS_DEEP_STUBS));
+        customerImportService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerImportService.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit: should insert valid CSV rows in JDBC batches and report invalid ones")
+    void csv_validRowsBatched_invalidRowsReported() throws Exception {
+        String csv = CSV_HEADER
+                + "Jordan,Lee,jordan@bank.com,+31690000001,1 Bank Avenue\n"
+                + "Sam,Park,sam@bank.com,+31690000002,2 Bank Avenue\n"
+                + "Bad,Row,not-an-email,+31690000003,3 Bank Avenue\n"
+                + "Alex,Kim,alex@bank.com,+31690000004,4 Bank Avenue\n"
+                + "Rio,Diaz,rio@bank.com,+31690000005,5 Bank Avenue\n";
+
+        ImportJobDTO job = awaitFinished(customerImportService.submit(stream(csv), "text/csv"));
+
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.rowsRead()).isEqualTo(5);
+        assertThat(job.imported()).isEqualTo(4);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), eq(2), any());
+        verify(customerEmailFilter).added("rio@bank.com");
+        assertThat(Files.readAllLines(customerImportService.getErrorReport(job.jobId())))
+                .containsExactly("record,field,message", "3,email,Email must be a valid email address");
+    }
+
+    @Test
+    @DisplayName("submit: should reject NDJSON rows whose email exists without attempting the insert")
+    void ndjson_existingEmailRejected() throws Exception {
+        when(customerEmailFilter.mightExist("taken@bank.com")).thenReturn(true);
+        when(customerRepository.findExistingEmails(List.of("taken@bank.com"))).thenReturn(List.of("taken@bank.com"));
+        String ndjson = """
+                {"firstName":"Jordan","lastName":"Lee","email":"taken@bank.com","phone":"+31690000001","address":"1 Bank Avenue"}
+                {"firstName":"Sam","lastName":"Park","email":"sam@bank.com","phone":"+31690000002","address":"2 Bank Avenue"}
+                """;
+
+        ImportJobDTO job = awaitFinished(customerImportService.submit(stream(ndjson), "application/x-ndjson"));
+
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(customerEmailFilter).added("sam@bank.com");
+        verify(customerEmailFilter, never()).added("taken@bank.com");
+    }
+
+    @Test
+    @DisplayName("submit: should retry a batch row by row when it hits the unique constraint")
+    void batchConstraintViolation_retriedRowByRow() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        customerImportService.shutdown();
+        importConfiguration.setWriterThreads(1);
+        customerImportService.init();
+        String csv = CSV_HEADER
+                + "Jordan,Lee,jordan@bank.com,+31690000001,1 Bank Avenue\n"
+                + "Jordan,Lee,JORDAN@bank.com,+31690000001,1 Bank Avenue\n";
+
+        ImportJobDTO job = awaitFinished(customerImportService.submit(stream(csv), "text/csv"));
+
+        assertThat(job.status()).isEqualTo("COMPLETED");
+        assertThat(job.imported()).isEqualTo(1);
+        assertThat(job.rejected()).isEqualTo(1);
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("submit: should reject unsupported content types")
+    void unsupportedContentType_throwsException() {
+        assertThrows(InvalidImportException.class,
+                () -> customerImportService.submit(stream("{}"), "application/json"));
+    }
+
+    @Test
+    @DisplayName("getJob: should throw ImportJobNotFoundException for an unknown job id")
+    void getJob_unknown_throwsException() {
+        assertThrows(ImportJobNotFoundException.class, () -> customerImportService.getJob("missing"));
+    }
+
+    private ImportJobDTO awaitFinished(ImportJobDTO submitted) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            ImportJobDTO job = customerImportService.getJob(submitted.jobId());
+            if (job.finishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Import job did not finish: " + submitted.jobId());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
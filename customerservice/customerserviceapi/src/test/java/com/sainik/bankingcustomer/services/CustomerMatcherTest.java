@@ -0,0 +1,71 @@
+package com.sainik.bankingcustomer.services;
+
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.services.CustomerMatcher.MatchRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("CustomerMatcher Unit Tests")
+class CustomerMatcherTest {
+
+    @Test
+    @DisplayName("normalize: should fold accents, punctuation and phone prefixes into blocking keys")
+    void normalize_buildsKeys() {
+        MatchRecord record = CustomerMatcher.normalize(customer(1, "Zoë", "O'Neil", "Zoe.ONeil@bank.com",
+                "+31 6 9000-0001", "10 Bank Avenue, Rotterdam"));
+
+        assertThat(record.firstName()).isEqualTo("zoe");
+        assertThat(record.lastName()).isEqualTo("o neil");
+        assertThat(record.phone()).isEqualTo("690000001");
+        assertThat(record.emailLocal()).isEqualTo("zoe oneil");
+        assertThat(record.addressTokens()).containsExactly("10", "avenue", "bank", "rotterdam");
+        assertThat(record.keys()).containsExactly("n:o neil|zoe", "p:690000001");
+    }
+
+    @Test
+    @DisplayName("score: should rank a re-registration above a relative sharing the phone and address")
+    void score_duplicateAboveRelative() {
+        MatchRecord original = CustomerMatcher.normalize(customer(1, "Jordan", "Lee", "jordan.lee@bank.com",
+                "+31690000001", "10 Bank Avenue, Rotterdam"));
+        MatchRecord reRegistered = CustomerMatcher.normalize(customer(2, "Jordan", "Lee", "jlee1990@mail.com",
+                "0690000001", "10 Bank Ave Rotterdam"));
+        MatchRecord typo = CustomerMatcher.normalize(customer(3, "Jordn", "Lee", "jordan.lee@work.com",
+                "+31690000001", "10 Bank Avenue, Rotterdam"));
+        MatchRecord relative = CustomerMatcher.normalize(customer(4, "Sam", "Lee", "sam.lee@bank.com",
+                "+31690000001", "10 Bank Avenue, Rotterdam"));
+
+        assertThat(CustomerMatcher.score(original, reRegistered)).isGreaterThanOrEqualTo(0.85);
+        assertThat(CustomerMatcher.score(original, typo)).isGreaterThanOrEqualTo(0.85);
+        assertThat(CustomerMatcher.score(original, relative)).isLessThan(0.85);
+        assertThat(CustomerMatcher.matchedOn(original, typo)).isEqualTo("name,phone,address,email");
+    }
+
+    @Test
+    @DisplayName("isFirstSharedKey: should score a pair in only one of the blocks it shares")
+    void isFirstSharedKey_onePairOneBlock() {
+        MatchRecord a = CustomerMatcher.normalize(customer(1, "Jordan", "Lee", "a@bank.com", "+31690000001", "x"));
+        MatchRecord b = CustomerMatcher.normalize(customer(2, "Jordan", "Lee", "b@bank.com", "+31690000001", "y"));
+
+        assertThat(CustomerMatcher.isFirstSharedKey(a, b, "n:lee|jordan")).isTrue();
+        assertThat(CustomerMatcher.isFirstSharedKey(a, b, "p:690000001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("jaroWinkler: should match the reference values")
+    void jaroWinkler_referenceValues() {
+        assertThat(CustomerMatcher.jaroWinkler("martha", "marhta")).isCloseTo(0.9611, within(0.0001));
+        assertThat(CustomerMatcher.jaroWinkler("dixon", "dicksonx")).isCloseTo(0.8133, within(0.0001));
+        assertThat(CustomerMatcher.jaroWinkler("abc", "xyz")).isZero();
+        assertThat(CustomerMatcher.jaroWinkler("", "abc")).isZero();
+    }
+
+    private static CustomerSummary customer(long id, String firstName, String lastName, String email,
+                                            String phone, String address) {
+        return new CustomerSummary(id, firstName, lastName, email, phone, address, LocalDateTime.now());
+    }
+}
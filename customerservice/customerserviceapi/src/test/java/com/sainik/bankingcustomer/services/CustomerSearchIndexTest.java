@@ -0,0 +1,220 @@
+package com.sainik.bankingcustomer.services;
+
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+import com.sainik.bankingcustomer.configuration.SearchConfiguration;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.models.Customer;
+import com.sainik.bankingcustomer.models.CustomerTombstone;
+import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import com.sainik.bankingcustomer.repositories.CustomerTombstoneRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerSearchIndex Unit Tests")
+class CustomerSearchIndexTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private CustomerTombstoneRepository customerTombstoneRepository;
+
+    @Spy
+    private SearchConfiguration searchConfiguration = new SearchConfiguration();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CustomerSearchIndex customerSearchIndex;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        searchConfiguration.setDirectory(directory.toString());
+        searchConfiguration.setRebuildBatchSize(2);
+        customerSearchIndex.open();
+
+        index(1L, "Jordan", "Lee", "jordan.lee@bank.com", "+31690000001");
+        index(2L, "Jordana", "Price", "jp@bank.com", "+31690000002");
+        index(3L, "Sam", "Jordan", "sam.j@bank.com", "+44 20 7946 0958");
+        index(4L, "Zoë", "O'Neil", "zoe@bank.com", "+31690000004");
+        customerSearchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        customerSearchIndex.close();
+    }
+
+    @Test
+    @DisplayName("search: should rank an exact name above a prefix match, with id breaking ties")
+    void search_exactBeforePrefix() throws Exception {
+        PageResponse<CustomerSearchHit> result = customerSearchIndex.search("jordan", 0, 10);
+
+        assertThat(result.getContent()).extracting(CustomerSearchHit::id).containsExactly(1L, 3L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent().get(0).email()).isEqualTo("jordan.lee@bank.com");
+    }
+
+    @Test
+    @DisplayName("search: should require every word to match and tolerate typos and accents")
+    void search_fuzzyAndFolded() throws Exception {
+        assertThat(customerSearchIndex.search("jordn lee", 0, 10).getContent())
+                .extracting(CustomerSearchHit::id).containsExactly(1L);
+        assertThat(customerSearchIndex.search("zoe", 0, 10).getContent())
+                .extracting(CustomerSearchHit::lastName).containsExactly("O'Neil");
+    }
+
+    @Test
+    @DisplayName("search: should match email prefixes and phone numbers by leading or trailing digits")
+    void search_emailAndPhone() throws Exception {
+        assertThat(customerSearchIndex.search("sam.j@", 0, 10).getContent())
+                .extracting(CustomerSearchHit::id).containsExactly(3L);
+        assertThat(customerSearchIndex.search("+44 20 7946", 0, 10).getContent())
+                .extracting(CustomerSearchHit::id).containsExactly(3L);
+        assertThat(customerSearchIndex.search("0958", 0, 10).getContent())
+                .extracting(CustomerSearchHit::id).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("search: should page through ranked hits and refuse to page past max-results")
+    void search_paging() throws Exception {
+        PageResponse<CustomerSearchHit> second = customerSearchIndex.search("jordan", 1, 2);
+
+        assertThat(second.getContent()).extracting(CustomerSearchHit::id).containsExactly(2L);
+        assertThat(second.getTotalPages()).isEqualTo(2);
+        assertThrows(InvalidPageRequestException.class, () -> customerSearchIndex.search("jordan", 100, 20));
+    }
+
+    @Test
+    @DisplayName("update/delete: should replace and remove documents by id")
+    void updateAndDelete() throws Exception {
+        index(1L, "Jordan", "Smith", "jordan.smith@bank.com", "+31690000001");
+        customerSearchIndex.delete(3L);
+        customerSearchIndex.refresh();
+
+        assertThat(customerSearchIndex.search("lee", 0, 10).getContent()).isEmpty();
+        assertThat(customerSearchIndex.search("jordan", 0, 10).getContent())
+                .extracting(CustomerSearchHit::id).containsExactly(1L, 2L);
+        assertThat(customerSearchIndex.documents()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rebuild: should scan id ranges in parallel into a new generation and swap it in")
+    void rebuild_replacesIndex() throws Exception {
+        List<CustomerSummary> rows = new ArrayList<>();
+        for (long id = 1; id <= 9; id++) {
+            rows.add(new CustomerSummary(id, "Name" + id, "Rebuilt", "c" + id + "@bank.com", "+3169000000" + id,
+                    "Street " + id, LocalDateTime.now()));
+        }
+        when(customerRepository.findMaxId()).thenReturn(9L);
+        when(customerRepository.findSummariesBetween(anyLong(), anyLong(), any(Limit.class))).thenAnswer(inv -> {
+            long after = inv.getArgument(0);
+            long upTo = inv.getArgument(1);
+            int max = inv.<Limit>getArgument(2).max();
+            return rows.stream().filter(r -> r.id() > after && r.id() <= upTo).limit(max).toList();
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        CustomerSearchIndex.RebuildResult result = customerSearchIndex.rebuild();
+
+        assertThat(result.documents()).isEqualTo(9);
+        assertThat(customerSearchIndex.documents()).isEqualTo(9);
+        assertThat(customerSearchIndex.search("jordan", 0, 10).getContent()).isEmpty();
+        assertThat(customerSearchIndex.search("rebuilt", 0, 20).getTotalElements()).isEqualTo(9);
+        assertThat(customerSearchIndex.changesSince()).isAfterOrEqualTo(before);
+        assertThat(directory.toFile().list()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("rebuildOnStartup: should rebuild in the background only while no complete generation exists")
+    void rebuildOnStartup_onlyWithoutCompleteGeneration() throws Exception {
+        customerSearchIndex.rebuildOnStartup();
+        verify(customerRepository, timeout(5000)).findMaxId();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (customerSearchIndex.isRebuilding() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        customerSearchIndex.close();
+        customerSearchIndex.open();
+        customerSearchIndex.rebuildOnStartup();
+
+        verify(customerRepository, after(200).times(1)).findMaxId();
+    }
+
+    @Test
+    @DisplayName("catchUp: should apply updates and deletions made elsewhere, reaching back by the overlap")
+    void catchUp_appliesWritesAndTombstones() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        Customer renamed = new Customer(1L, "Jordan", "Smith", "jordan.smith@bank.com", "+31690000001", "Street", now, 1L, now);
+        Customer imported = new Customer(7L, "Casey", "Brook", "casey@bank.com", "+31690000007", "Street", now, 0L, now);
+        when(customerRepository.findChangedSince(any(), eq(0L), any(), any(Limit.class))).thenReturn(List.of(renamed, imported));
+        when(customerTombstoneRepository.findDeletedSince(any(), eq(0L), any(), any(Limit.class)))
+                .thenReturn(List.of(new CustomerTombstone(3L, now)));
+
+        customerSearchIndex.catchUp();
+        customerSearchIndex.refresh();
+
+        assertThat(customerSearchIndex.search("lee", 0, 10).getContent()).isEmpty();
+        assertThat(customerSearchIndex.search("casey", 0, 10).getContent()).extracting(CustomerSearchHit::id).containsExactly(7L);
+        assertThat(customerSearchIndex.search("jordan", 0, 10).getContent()).extracting(CustomerSearchHit::id).containsExactly(1L, 2L);
+        LocalDateTime caughtUpTo = customerSearchIndex.changesSince();
+        assertThat(caughtUpTo).isAfterOrEqualTo(now);
+
+        customerSearchIndex.catchUp();
+
+        verify(customerRepository).findChangedSince(eq(caughtUpTo.minusSeconds(10)), eq(0L), any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("commit: should record the catch-up position with the changes it applied, for the reopened index")
+    void commit_persistsChangesSince() throws Exception {
+        customerSearchIndex.rebuild();
+        LocalDateTime now = LocalDateTime.now();
+        when(customerRepository.findChangedSince(any(), anyLong(), any(), any(Limit.class)))
+                .thenReturn(List.of(new Customer(7L, "Casey", "Brook", "casey@bank.com", "+31690000007", "Street", now, 0L, now)));
+        when(customerTombstoneRepository.findDeletedSince(any(), anyLong(), any(), any(Limit.class))).thenReturn(List.of());
+        customerSearchIndex.catchUp();
+        LocalDateTime caughtUpTo = customerSearchIndex.changesSince();
+
+        customerSearchIndex.commit();
+        customerSearchIndex.close();
+        customerSearchIndex.open();
+
+        assertThat(customerSearchIndex.changesSince()).isEqualTo(caughtUpTo);
+    }
+
+    private void index(Long id, String firstName, String lastName, String email, String phone) {
+        customerSearchIndex.update(new Customer(id, firstName, lastName, email, phone, "Street", LocalDateTime.now(), 0L, LocalDateTime.now()));
+    }
+}
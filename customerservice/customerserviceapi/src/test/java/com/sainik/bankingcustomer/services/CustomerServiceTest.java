@@ -1,26 +1,49 @@
 package com.sainik.bankingcustomer.services;
 
+import com.sainik.bankingcommon.dtos.ChangeFeed;
+import com.sainik.bankingcommon.dtos.PageResponse;
+import com.sainik.bankingcommon.exceptions.InvalidPageRequestException;
+import com.sainik.bankingcustomer.configuration.ChangesConfiguration;
 import com.sainik.bankingcustomer.dtos.CustomerDTO;
+import com.sainik.bankingcustomer.dtos.CustomerSearchHit;
+import com.sainik.bankingcustomer.dtos.CustomerSummary;
+import com.sainik.bankingcustomer.dtos.MergeSuggestionDTO;
 import com.sainik.bankingcustomer.exceptions.CustomerAlreadyExistsException;
 import com.sainik.bankingcustomer.exceptions.CustomerNotFoundException;
 import com.sainik.bankingcustomer.mappers.CustomerMapper;
 import com.sainik.bankingcustomer.models.Customer;
+import com.sainik.bankingcustomer.models.CustomerTombstone;
+import com.sainik.bankingcustomer.repositories.CustomerMergeSuggestionRepository;
 import com.sainik.bankingcustomer.repositories.CustomerRepository;
+import com.sainik.bankingcustomer.repositories.CustomerTombstoneRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +56,21 @@ class CustomerServiceTest {
     @Mock
     private CustomerMapper customerMapper;
 
+    @Mock
+    private CustomerEmailFilter customerEmailFilter;
+
+    @Mock
+    private CustomerSearchIndex customerSearchIndex;
+
+    @Mock
+    private CustomerMergeSuggestionRepository customerMergeSuggestionRepository;
+
+    @Mock
+    private CustomerTombstoneRepository customerTombstoneRepository;
+
+    @Spy
+    private ChangesConfiguration changesConfiguration = new ChangesConfiguration();
+
     @InjectMocks
     private CustomerService customerService;
 
@@ -41,6 +79,9 @@ class CustomerServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Behaves like a filter that is not built yet: every email might exist
+        lenient().when(customerEmailFilter.mightExist(any())).thenReturn(true);
+
         customer = new Customer();
         customer.setId(1L);
         customer.setFirstName("Jordan");
@@ -73,6 +114,7 @@ class CustomerServiceTest {
         assertThat(result.getEmail()).isEqualTo("jordan.lee@bank.com");
         assertThat(result.getFirstName()).isEqualTo("Jordan");
         verify(customerRepository).save(any(Customer.class));
+        verify(customerSearchIndex).update(customer);
     }
 
     @Test
@@ -102,6 +144,32 @@ class CustomerServiceTest {
         assertThat(result.getCreatedAt()).isNotNull();
     }
 
+    @Test
+    @DisplayName("addCustomer: should skip the lookup when the filter has never seen the email")
+    void addCustomer_filterNegative_skipsLookup() {
+        when(customerEmailFilter.mightExist("jordan.lee@bank.com")).thenReturn(false);
+        when(customerMapper.dtotoentity(customerDTO)).thenReturn(customer);
+        when(customerRepository.save(any(Customer.class))).thenReturn(customer);
+
+        customerService.addCustomer(customerDTO);
+
+        verify(customerRepository, never()).findByEmail(any());
+        verify(customerEmailFilter).added("jordan.lee@bank.com");
+    }
+
+    @Test
+    @DisplayName("addCustomer: should report a unique constraint violation as CustomerAlreadyExistsException")
+    void addCustomer_uniqueConstraintViolation_throwsException() {
+        when(customerEmailFilter.mightExist("jordan.lee@bank.com")).thenReturn(false);
+        when(customerMapper.dtotoentity(customerDTO)).thenReturn(customer);
+        when(customerRepository.save(any(Customer.class))).thenThrow(new DataIntegrityViolationException("uk_customers_email"));
+
+        assertThrows(CustomerAlreadyExistsException.class,
+                () -> customerService.addCustomer(customerDTO));
+
+        verify(customerEmailFilter, never()).added(any());
+    }
+
     // ─── getAllCustomers ───────────────────────────────────────────────────────────
 
     @Test
@@ -130,6 +198,37 @@ class CustomerServiceTest {
         assertThat(result).isEmpty();
     }
 
+    // ─── getCustomersPage ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getCustomersPage: should use the record projection and add id as sort tiebreaker")
+    void getCustomersPage_projection() {
+        CustomerSummary summary = new CustomerSummary(1L, "John", "Doe", "john@example.com", null, null, null);
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        when(customerRepository.findAllProjectedBy(pageable.capture()))
+                .thenAnswer(inv -> new PageImpl<>(List.of(summary), inv.getArgument(0), 1));
+
+        PageResponse<CustomerSummary> result = customerService.getCustomersPage(PageRequest.of(0, 20, Sort.by("lastName")));
+
+        assertThat(result.getContent()).containsExactly(summary);
+        assertThat(pageable.getValue().getSort()).isEqualTo(Sort.by("lastName").and(Sort.by("id")));
+        verify(customerRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("getCustomersPage: should select only whitelisted fields, in request order")
+    void getCustomersPage_sparseFields() {
+        when(customerRepository.findPage(any(), any())).thenReturn(new PageImpl<>(List.of(Map.of("id", 1L))));
+
+        customerService.getCustomersPage(PageRequest.of(0, 20), List.of("email", "id"));
+
+        verify(customerRepository).findPage(eq(new LinkedHashSet<>(List.of("email", "id"))), any());
+        assertThrows(InvalidPageRequestException.class,
+                () -> customerService.getCustomersPage(PageRequest.of(0, 20), List.of("id", "password")));
+        assertThrows(InvalidPageRequestException.class,
+                () -> customerService.getCustomersPage(PageRequest.of(0, 20, Sort.by("accounts"))));
+    }
+
     // ─── getCustomerById ──────────────────────────────────────────────────────────
 
     @Test
@@ -198,6 +297,7 @@ class CustomerServiceTest {
         assertThat(result.getPhone()).isEqualTo("+31690000099");
         assertThat(result.getAddress()).isEqualTo("99 New Street, Amsterdam");
         verify(customerRepository).save(customer);
+        verify(customerSearchIndex).update(customer);
     }
 
     @Test
@@ -211,6 +311,46 @@ class CustomerServiceTest {
         verify(customerRepository, never()).save(any());
     }
 
+    // ─── searchCustomers ──────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("searchCustomers: should pass the query and page to the search index")
+    void searchCustomers_delegatesToIndex() throws Exception {
+        PageResponse<CustomerSearchHit> hits = new PageResponse<>(List.of(new CustomerSearchHit(1L, "Jordan", "Lee",
+                "jordan.lee@bank.com", "+31690000001", 4.2f)), 1, 20, 21, 2);
+        when(customerSearchIndex.search("jord lee", 1, 20)).thenReturn(hits);
+
+        PageResponse<CustomerSearchHit> result = customerService.searchCustomers("jord lee", PageRequest.of(1, 20));
+
+        assertThat(result).isSameAs(hits);
+    }
+
+    @Test
+    @DisplayName("searchCustomers: should reject a blank query without searching")
+    void searchCustomers_blankQuery_throwsException() throws Exception {
+        assertThrows(InvalidPageRequestException.class,
+                () -> customerService.searchCustomers("   ", PageRequest.of(0, 20)));
+
+        verify(customerSearchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
+    // ─── getMergeSuggestions ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getMergeSuggestions: should page the latest run by score, ignoring the requested sort")
+    void getMergeSuggestions_sortedByScore() {
+        MergeSuggestionDTO suggestion = new MergeSuggestionDTO(1L, 3L, 0.97, "name,phone,address", LocalDateTime.now());
+        when(customerMergeSuggestionRepository.findLatestRun(any(Pageable.class)))
+                .thenAnswer(inv -> new PageImpl<>(List.of(suggestion), inv.getArgument(0), 1));
+
+        PageResponse<MergeSuggestionDTO> result =
+                customerService.getMergeSuggestions(PageRequest.of(0, 50, Sort.by("customerId")));
+
+        assertThat(result.getContent()).containsExactly(suggestion);
+        verify(customerMergeSuggestionRepository).findLatestRun(
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "score").and(Sort.by("id"))));
+    }
+
     // ─── deleteCustomer ───────────────────────────────────────────────────────────
 
     @Test
@@ -221,6 +361,9 @@ class CustomerServiceTest {
         customerService.deleteCustomer(1L);
 
         verify(customerRepository).delete(customer);
+        verify(customerTombstoneRepository).save(argThat(tombstone -> tombstone.getCustomerId().equals(1L)));
+        verify(customerEmailFilter).removed("jordan.lee@bank.com");
+        verify(customerSearchIndex).delete(1L);
     }
 
     @Test
@@ -233,4 +376,55 @@ class CustomerServiceTest {
 
         verify(customerRepository, never()).delete(any());
     }
+
+    // ─── getChanges ──────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("getChanges: should merge writes and deletions in cursor order and stop at the limit")
+    void getChanges_mergesWritesAndDeletions() {
+        LocalDateTime t = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(customerRepository.findChangedSince(any(), anyLong(), any(), eq(Limit.of(4))))
+                .thenReturn(List.of(changed(3L, t), changed(2L, t.plusSeconds(2)), changed(5L, t.plusSeconds(2))));
+        when(customerTombstoneRepository.findDeletedSince(any(), anyLong(), any(), eq(Limit.of(4))))
+                .thenReturn(List.of(new CustomerTombstone(7L, t.plusSeconds(1)), new CustomerTombstone(4L, t.plusSeconds(2))));
+        when(customerMapper.entitytodto(any(Customer.class))).thenAnswer(inv -> {
+            CustomerDTO dto = new CustomerDTO();
+            dto.setId(inv.<Customer>getArgument(0).getId());
+            return dto;
+        });
+
+        ChangeFeed<CustomerDTO> feed = customerService.getChanges(null, null, 3);
+
+        assertThat(feed.changed()).extracting(CustomerDTO::getId).containsExactly(3L, 2L);
+        assertThat(feed.deleted()).containsExactly(7L);
+        assertThat(feed.since()).isEqualTo(t.plusSeconds(2));
+        assertThat(feed.afterId()).isEqualTo(2L);
+        assertThat(feed.hasMore()).isTrue();
+    }
+
+    @Test
+    @DisplayName("getChanges: should continue from the cursor and hold back writes younger than the settle time")
+    void getChanges_fromCursor() {
+        LocalDateTime since = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(customerRepository.findChangedSince(eq(since), eq(42L), any(), any())).thenReturn(List.of());
+        when(customerTombstoneRepository.findDeletedSince(eq(since), eq(42L), any(), any())).thenReturn(List.of());
+
+        ChangeFeed<CustomerDTO> feed = customerService.getChanges(since, 42L, 500);
+
+        ArgumentCaptor<LocalDateTime> upTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(customerRepository).findChangedSince(eq(since), eq(42L), upTo.capture(), eq(Limit.of(501)));
+        assertThat(upTo.getValue()).isBefore(LocalDateTime.now().minusSeconds(9));
+        assertThat(feed.changed()).isEmpty();
+        assertThat(feed.since()).isEqualTo(since);
+        assertThat(feed.afterId()).isEqualTo(42L);
+        assertThat(feed.hasMore()).isFalse();
+        assertThrows(InvalidPageRequestException.class, () -> customerService.getChanges(since, 42L, 5000));
+    }
+
+    private static Customer changed(Long id, LocalDateTime updatedAt) {
+        Customer changed = new Customer();
+        changed.setId(id);
+        changed.setUpdatedAt(updatedAt);
+        return changed;
+    }
 }
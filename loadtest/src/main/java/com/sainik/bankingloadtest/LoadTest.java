@@ -0,0 +1,53 @@
+package com.sainik.bankingloadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// Starts the whole stack locally (see Stack), seeds it, runs the configured stages and reports per operation.
+// Settings are in loadtest.properties; override them as key=value arguments.
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfiguration configuration = LoadTestConfiguration.load(args);
+        List<LoadTestConfiguration.Stage> stages = configuration.stages();
+        Path output = Files.createDirectories(Path.of(configuration.get("output"))
+                .resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+
+        try (TokenIssuer tokenIssuer = TokenIssuer.start()) {
+            String token = tokenIssuer.issue("loadtest", Duration.ofDays(1));
+            try (Stack stack = Stack.start(configuration, tokenIssuer, token, output)) {
+                // Connections are kept alive and shared by all requests, as a client-side pool would
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .build();
+                Workload workload = new Workload(stack::baseUri, token, configuration.getDuration("request-timeout"),
+                        configuration.mix());
+                workload.seed(client, configuration.getInt("seed.customers"), configuration.getInt("seed.accounts"),
+                        configuration.getInt("seed.transactions"), configuration.getInt("seed.concurrency"));
+
+                OpenModelDriver driver = new OpenModelDriver(client, workload, configuration.arrival(),
+                        configuration.getInt("max-in-flight"));
+                Duration warmup = configuration.getDuration("warmup");
+                if (!warmup.isZero()) {
+                    System.out.println("Warming up for " + warmup.toSeconds() + "s (not recorded)");
+                    driver.run(new LoadTestConfiguration.Stage(stages.get(0).rate(), warmup));
+                }
+                Report report = new Report(output, configuration);
+                for (int i = 0; i < stages.size(); i++) {
+                    System.out.println("Running stage " + (i + 1) + ": " + stages.get(i));
+                    report.add(i + 1, driver.run(stages.get(i)));
+                }
+                System.out.println("\nReport written to " + report.write().toAbsolutePath());
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.sainik.bankingloadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// Settings of one run: loadtest.properties, then an optional config=<file>, then key=value arguments
+public final class LoadTestConfiguration {
+
+    // One step of the workload: a fixed arrival rate held for a duration
+    public record Stage(double rate, Duration duration) {
+
+        @Override
+        public String toString() {
+            return format(rate) + "/s for " + duration.toSeconds() + "s";
+        }
+
+        private static String format(double rate) {
+            return rate == Math.rint(rate) ? Long.toString((long) rate) : Double.toString(rate);
+        }
+    }
+
+    public enum Arrival {
+        CONSTANT, POISSON
+    }
+
+    public enum Target {
+        // Every request through the gateway, as clients see it
+        GATEWAY,
+        // Straight to each service, to tell gateway overhead apart from service latency
+        DIRECT
+    }
+
+    private final Properties properties;
+
+    private LoadTestConfiguration(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static LoadTestConfiguration load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream defaults = LoadTestConfiguration.class.getResourceAsStream("/loadtest.properties")) {
+            properties.load(defaults);
+        }
+        Properties overrides = new Properties();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int separator = option.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            overrides.setProperty(option.substring(0, separator).trim(), option.substring(separator + 1).trim());
+        }
+        String file = overrides.getProperty("config");
+        if (file != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(file))) {
+                properties.load(reader);
+            }
+        }
+        properties.putAll(overrides);
+        return new LoadTestConfiguration(properties);
+    }
+
+    public String get(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing setting: " + key);
+        }
+        return value.trim();
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(get(key));
+    }
+
+    public Duration getDuration(String key) {
+        return parseDuration(get(key));
+    }
+
+    public Target target() {
+        return Target.valueOf(get("target").toUpperCase());
+    }
+
+    public Arrival arrival() {
+        return Arrival.valueOf(get("arrival").toUpperCase());
+    }
+
+    // stages=100:60s,300:2m
+    public List<Stage> stages() {
+        List<Stage> stages = new ArrayList<>();
+        for (String stage : get("stages").split(",")) {
+            String[] parts = stage.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Stage must be <rate>:<duration>, got: " + stage);
+            }
+            double rate = Double.parseDouble(parts[0]);
+            if (rate <= 0) {
+                throw new IllegalArgumentException("Stage rate must be positive: " + stage);
+            }
+            stages.add(new Stage(rate, parseDuration(parts[1])));
+        }
+        return stages;
+    }
+
+    public Map<Operation, Integer> mix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            int weight = Integer.parseInt(get("mix." + operation.key(), "0"));
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + operation.key() + " cannot be negative");
+            }
+            if (weight > 0) {
+                mix.put(operation, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operation with a positive weight");
+        }
+        return mix;
+    }
+
+    // 500ms, 30s, 2m, 1h or ISO-8601 (PT30S)
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase();
+        if (text.startsWith("pt")) {
+            return Duration.parse(text);
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            default -> throw new IllegalArgumentException("Unknown duration: " + value);
+        };
+    }
+}
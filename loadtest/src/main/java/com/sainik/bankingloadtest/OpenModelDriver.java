@@ -0,0 +1,137 @@
+package com.sainik.bankingloadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open-model load: requests start on a schedule fixed by the arrival rate, not when earlier ones finish,
+// so a slow system faces a growing queue as real clients would make it. Latency is measured from the
+// scheduled start, which keeps a stall from hiding the requests that should have been sent during it
+// (coordinated omission). Each request runs on its own virtual thread.
+public final class OpenModelDriver {
+
+    // Latencies are recorded in microseconds, up to an hour, to three significant digits
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadTestConfiguration.Arrival arrival;
+    private final int maxInFlight;
+
+    public OpenModelDriver(HttpClient client, Workload workload, LoadTestConfiguration.Arrival arrival,
+                           int maxInFlight) {
+        this.client = client;
+        this.workload = workload;
+        this.arrival = arrival;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static final class OperationResult {
+
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_LATENCY_MICROS, 3);
+        private final LongAdder succeeded = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        // HTTP status of failed responses; 0 for timeouts and connection errors
+        private final Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+
+        public Histogram latency() {
+            return latency;
+        }
+
+        public long succeeded() {
+            return succeeded.sum();
+        }
+
+        public long dropped() {
+            return dropped.sum();
+        }
+
+        public Map<Integer, Long> failures() {
+            Map<Integer, Long> counts = new TreeMap<>();
+            failures.forEach((status, count) -> counts.put(status, count.sum()));
+            return counts;
+        }
+
+        public long failed() {
+            return failures.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+
+    public record StageResult(LoadTestConfiguration.Stage stage, long elapsedNanos,
+                              Map<Operation, OperationResult> operations) {
+    }
+
+    // Returns once the stage's last request has completed
+    public StageResult run(LoadTestConfiguration.Stage stage) {
+        Map<Operation, OperationResult> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, new OperationResult());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / stage.rate();
+        long start = System.nanoTime();
+        long end = start + stage.duration().toNanos();
+        double offset = 0;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended = start + (long) offset) {
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = workload.next();
+                OperationResult result = results.get(operation);
+                if (!inFlight.tryAcquire()) {
+                    result.dropped.increment();
+                } else {
+                    long scheduled = intended;
+                    executor.execute(() -> {
+                        try {
+                            call(operation, scheduled, result);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                offset += arrival == LoadTestConfiguration.Arrival.POISSON
+                        ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos
+                        : meanGapNanos;
+            }
+        }
+        return new StageResult(stage, System.nanoTime() - start, results);
+    }
+
+    private void call(Operation operation, long scheduled, OperationResult result) {
+        int status;
+        try {
+            HttpResponse<String> response = client.send(workload.request(operation),
+                    HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            workload.completed(operation, response);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            status = 0;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+        result.latency.recordValue(Math.min(Math.max(micros, 1), HIGHEST_LATENCY_MICROS));
+        if (status / 100 == 2) {
+            result.succeeded.increment();
+        } else {
+            result.failures.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sainik.bankingloadtest;
+
+// The requests a workload is mixed from; the key is used in settings (mix.<key>) and in the report
+public enum Operation {
+
+    CREATE_CUSTOMER("create-customer", Service.CUSTOMER),
+    GET_CUSTOMER("get-customer", Service.CUSTOMER),
+    LIST_CUSTOMERS("list-customers", Service.CUSTOMER),
+    CREATE_ACCOUNT("create-account", Service.ACCOUNT),
+    GET_ACCOUNT("get-account", Service.ACCOUNT),
+    LIST_ACCOUNTS("list-accounts", Service.ACCOUNT),
+    CREATE_TRANSACTION("create-transaction", Service.TRANSACTION),
+    GET_TRANSACTION("get-transaction", Service.TRANSACTION),
+    LIST_ACCOUNT_TRANSACTIONS("list-account-transactions", Service.TRANSACTION);
+
+    private final String key;
+    private final Service service;
+
+    Operation(String key, Service service) {
+        this.key = key;
+        this.service = service;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public Service service() {
+        return service;
+    }
+}
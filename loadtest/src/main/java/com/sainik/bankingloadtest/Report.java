@@ -0,0 +1,130 @@
+package com.sainik.bankingloadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Prints each stage as a table and writes summary.json plus one HdrHistogram percentile file (.hgrm) per
+// operation and stage; the .hgrm files load into the HdrHistogram plotter to compare runs.
+public final class Report {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Path output;
+    private final Map<String, Object> summary = new LinkedHashMap<>();
+    private final List<Map<String, Object>> stages = new ArrayList<>();
+
+    public Report(Path output, LoadTestConfiguration configuration) {
+        this.output = output;
+        summary.put("target", configuration.target().name().toLowerCase());
+        summary.put("arrival", configuration.arrival().name().toLowerCase());
+        summary.put("maxInFlight", configuration.getInt("max-in-flight"));
+        summary.put("mix", mix(configuration));
+        summary.put("stages", stages);
+    }
+
+    public void add(int number, OpenModelDriver.StageResult result) throws IOException {
+        double seconds = result.stage().duration().toNanos() / 1e9;
+        Histogram all = new Histogram(3);
+        long dropped = 0;
+        long failed = 0;
+        Map<String, Object> operations = new LinkedHashMap<>();
+        PrintStream out = System.out;
+        out.printf("%nStage %d: %s%n", number, result.stage());
+        out.printf("%-26s %8s %9s %8s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "rate/s", "failed", "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Operation, OpenModelDriver.OperationResult> entry : result.operations().entrySet()) {
+            OpenModelDriver.OperationResult operation = entry.getValue();
+            Histogram latency = operation.latency();
+            if (latency.getTotalCount() == 0 && operation.dropped() == 0) {
+                continue;
+            }
+            all.add(latency);
+            dropped += operation.dropped();
+            failed += operation.failed();
+            String key = entry.getKey().key();
+            print(out, key, latency, seconds, operation.failed(), operation.dropped());
+            writeHistogram("stage-" + number + "-" + key + ".hgrm", latency);
+            Map<String, Object> json = stats(latency, seconds);
+            json.put("succeeded", operation.succeeded());
+            json.put("failed", operation.failed());
+            json.put("failuresByStatus", operation.failures());
+            json.put("dropped", operation.dropped());
+            operations.put(key, json);
+        }
+        print(out, "all", all, seconds, failed, dropped);
+        writeHistogram("stage-" + number + "-all.hgrm", all);
+
+        Map<String, Object> stage = new LinkedHashMap<>();
+        stage.put("stage", number);
+        stage.put("rate", result.stage().rate());
+        stage.put("durationSeconds", seconds);
+        stage.put("drainedSeconds", result.elapsedNanos() / 1e9);
+        Map<String, Object> total = stats(all, seconds);
+        total.put("failed", failed);
+        total.put("dropped", dropped);
+        stage.put("all", total);
+        stage.put("operations", operations);
+        stages.add(stage);
+    }
+
+    public Path write() throws IOException {
+        Path file = output.resolve("summary.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), summary);
+        return file;
+    }
+
+    private static void print(PrintStream out, String name, Histogram latency, double seconds, long failed,
+                              long dropped) {
+        out.printf("%-26s %8d %9.1f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, latency.getTotalCount(), latency.getTotalCount() / seconds, failed, dropped,
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static Map<String, Object> stats(Histogram latency, double seconds) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", latency.getTotalCount());
+        stats.put("throughput", latency.getTotalCount() / seconds);
+        Map<String, Object> millis = new LinkedHashMap<>();
+        if (latency.getTotalCount() > 0) {
+            millis.put("mean", latency.getMean() / MICROS_PER_MILLI);
+            for (double percentile : PERCENTILES) {
+                millis.put("p" + (percentile == Math.rint(percentile) ? Long.toString((long) percentile)
+                        : Double.toString(percentile)), millis(latency, percentile));
+            }
+            millis.put("max", latency.getMaxValue() / MICROS_PER_MILLI);
+        }
+        stats.put("latencyMs", millis);
+        return stats;
+    }
+
+    private static double millis(Histogram latency, double percentile) {
+        return latency.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private void writeHistogram(String name, Histogram latency) throws IOException {
+        if (latency.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(output.resolve(name)))) {
+            latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+
+    private static Map<String, Integer> mix(LoadTestConfiguration configuration) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        configuration.mix().forEach((operation, weight) -> mix.put(operation.key(), weight));
+        return mix;
+    }
+}
@@ -0,0 +1,38 @@
+package com.sainik.bankingloadtest;
+
+// The three business services: where their jar is built, how they register in Eureka, the path the gateway
+// routes and a cheap authenticated read that proves a started service can serve requests
+public enum Service {
+
+    ACCOUNT("accountservice", "accountservice/accountserviceapi", "/accounts", "/v1.0/page?size=1"),
+    CUSTOMER("customerservice", "customerservice/customerserviceapi", "/customers", "/v1.0/page?size=1"),
+    TRANSACTION("transactionservice", "transactionservice/transactionserviceapi", "/transactions", "/v1.0/account/1");
+
+    private final String applicationName;
+    private final String module;
+    private final String path;
+    private final String probe;
+
+    Service(String applicationName, String module, String path, String probe) {
+        this.applicationName = applicationName;
+        this.module = module;
+        this.path = path;
+        this.probe = probe;
+    }
+
+    public String applicationName() {
+        return applicationName;
+    }
+
+    public String module() {
+        return module;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public String probePath() {
+        return path + probe;
+    }
+}
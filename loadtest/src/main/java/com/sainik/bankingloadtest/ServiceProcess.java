@@ -0,0 +1,172 @@
+package com.sainik.bankingloadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+// One process of the stack, a JVM or a native executable, with its output in a log file; destroyed on close or
+// when the harness exits
+public final class ServiceProcess implements AutoCloseable {
+
+    private static final int LOG_TAIL_LINES = 40;
+
+    private final String name;
+    private final int port;
+    private final Path log;
+    private final Process process;
+    private final Thread shutdownHook;
+
+    private ServiceProcess(String name, int port, Path log, Process process) {
+        this.name = name;
+        this.port = port;
+        this.log = log;
+        this.process = process;
+        this.shutdownHook = new Thread(this::destroy, "stop-" + name);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    // classpath is "-jar <jar>" or "-cp <jar> <main class>"; arguments are Spring properties (--key=value)
+    public static ServiceProcess start(String name, int port, List<String> jvmArgs, List<String> classpath,
+                                       List<String> arguments, Path logDirectory) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(jvmArgs);
+        command.addAll(classpath);
+        return start(name, port, command, arguments, logDirectory);
+    }
+
+    // A native image takes system properties and heap limits (-D, -Xmx) like a JVM, before the arguments
+    public static ServiceProcess startNative(String name, int port, Path executable, List<String> options,
+                                             List<String> arguments, Path logDirectory) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(executable.toString());
+        command.addAll(options);
+        return start(name, port, command, arguments, logDirectory);
+    }
+
+    private static ServiceProcess start(String name, int port, List<String> command, List<String> arguments,
+                                        Path logDirectory) throws IOException {
+        command.add("--server.port=" + port);
+        command.addAll(arguments);
+        Path log = logDirectory.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, port, log, process);
+    }
+
+    // The services need the same Java as the harness, whatever "java" is on the PATH
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    public static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    // Resident set size in kB, from /proc on Linux; empty where that is not available
+    public OptionalLong residentKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", Long.toString(process.pid()), "status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return OptionalLong.of(Long.parseLong(line.replaceAll("\\D", "")));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // not Linux, or the process is gone
+        }
+        return OptionalLong.empty();
+    }
+
+    // Polls until the check passes; fails fast with the end of the log if the process exits first
+    public void await(HttpClient client, HttpRequest request, Predicate<HttpResponse<String>> ready, Duration timeout)
+            throws IOException, InterruptedException {
+        await(client, request, ready, timeout, Duration.ofMillis(500));
+    }
+
+    public void await(HttpClient client, HttpRequest request, Predicate<HttpResponse<String>> ready, Duration timeout,
+                      Duration pollInterval) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        String lastOutcome = "no response";
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with " + process.exitValue() + ":\n" + tail());
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (ready.test(response)) {
+                    return;
+                }
+                lastOutcome = "HTTP " + response.statusCode();
+            } catch (IOException e) {
+                lastOutcome = e.toString();
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+        throw new IllegalStateException(name + " not ready after " + timeout.toSeconds() + "s (" + lastOutcome
+                + "), see " + log + ":\n" + tail());
+    }
+
+    private String tail() {
+        try {
+            List<String> lines = Files.readAllLines(log);
+            return String.join("\n", lines.subList(Math.max(0, lines.size() - LOG_TAIL_LINES), lines.size()));
+        } catch (IOException e) {
+            return "(log unreadable: " + e.getMessage() + ")";
+        }
+    }
+
+    private void destroy() {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        destroy();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // Already shutting down: the hook is running or has run
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.sainik.bankingloadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+// Eureka, the three services on in-memory H2 and (for target=gateway) the gateway, each in its own JVM.
+// The gateway and Eureka are on other Spring Boot lines than the services, so they cannot share one JVM.
+public final class Stack implements AutoCloseable {
+
+    static final String EUREKA_MODULE = "eurekadiscoveryserver";
+    static final String GATEWAY_MODULE = "cloudapigateway";
+
+    private final LoadTestConfiguration configuration;
+    private final TokenIssuer tokenIssuer;
+    private final String token;
+    private final Path repository;
+    private final Path logs;
+    private final Path work;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final List<ServiceProcess> processes = new ArrayList<>();
+    private final Map<Service, ServiceProcess> services = new EnumMap<>(Service.class);
+    private ServiceProcess gateway;
+
+    private Stack(LoadTestConfiguration configuration, TokenIssuer tokenIssuer, String token, Path output)
+            throws IOException {
+        this.configuration = configuration;
+        this.tokenIssuer = tokenIssuer;
+        this.token = token;
+        this.repository = repository(configuration);
+        this.logs = Files.createDirectories(output.resolve("logs"));
+        this.work = Files.createDirectories(output.resolve("work"));
+    }
+
+    public static Stack start(LoadTestConfiguration configuration, TokenIssuer tokenIssuer, String token,
+                              Path output) throws Exception {
+        Stack stack = new Stack(configuration, tokenIssuer, token, output);
+        try {
+            stack.startAll();
+            return stack;
+        } catch (Exception e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    // Where requests for a service go: the gateway, or the service itself for target=direct
+    public URI baseUri(Service service) {
+        ServiceProcess process = gateway != null ? gateway : services.get(service);
+        return URI.create(process.baseUrl());
+    }
+
+    private void startAll() throws Exception {
+        Duration timeout = configuration.getDuration("startup-timeout");
+        String level = configuration.get("service.logging-level");
+        Map<Service, Path> serviceJars = new EnumMap<>(Service.class);
+        for (Service service : Service.values()) {
+            serviceJars.put(service, jar(repository, service.module()));
+        }
+        Path eurekaJar = jar(repository, EUREKA_MODULE);
+        Path gatewayJar = configuration.target() == LoadTestConfiguration.Target.GATEWAY
+                ? jar(repository, GATEWAY_MODULE) : null;
+
+        int eurekaPort = ServiceProcess.freePort();
+        String eurekaUrl = eurekaUrl(eurekaPort);
+        System.out.println("Starting Eureka on " + eurekaPort);
+        ServiceProcess eureka = launch("eureka", eurekaPort, List.of("-jar", eurekaJar.toString()),
+                eurekaArguments(eurekaUrl, level));
+        eureka.await(client, eurekaApps(eureka), response -> response.statusCode() == 200, timeout);
+
+        // The services boot in parallel; most of the start-up time is theirs
+        for (Service service : Service.values()) {
+            int port = ServiceProcess.freePort();
+            System.out.println("Starting " + service.applicationName() + " on " + port);
+            services.put(service, launch(service.applicationName(), port, serviceClasspath(serviceJars.get(service)),
+                    withTracing(service.applicationName(), serviceArguments(service, eurekaUrl, tokenIssuer, level))));
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> health = new ArrayList<>();
+            for (ServiceProcess process : services.values()) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(process.baseUrl() + "/actuator/health"))
+                        .timeout(Duration.ofSeconds(5)).build();
+                health.add(executor.submit(() -> {
+                    process.await(client, request, response -> response.statusCode() == 200, timeout);
+                    return null;
+                }));
+            }
+            for (Future<?> future : health) {
+                future.get();
+            }
+        }
+        eureka.await(client, eurekaApps(eureka), response -> registered(response.body(), List.of(Service.values())),
+                timeout);
+
+        if (gatewayJar != null) {
+            int port = ServiceProcess.freePort();
+            System.out.println("Starting gateway on " + port);
+            gateway = launch("gateway", port, List.of("-jar", gatewayJar.toString()),
+                    withTracing("gateway", gatewayArguments(eurekaUrl, tokenIssuer, level)));
+            // Ready once it has fetched the registry and can route an authenticated call
+            HttpRequest probe = HttpRequest.newBuilder(URI.create(gateway.baseUrl() + Service.ACCOUNT.probePath()))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(5))
+                    .build();
+            gateway.await(client, probe, response -> response.statusCode() == 200, timeout);
+        }
+    }
+
+    private ServiceProcess launch(String name, int port, List<String> classpath, List<String> arguments)
+            throws IOException {
+        ServiceProcess process = ServiceProcess.start(name, port,
+                jvmArgs(configuration, Files.createDirectories(work.resolve(name))), classpath, arguments, logs);
+        processes.add(process);
+        return process;
+    }
+
+    // The same sampling everywhere; with tracing.files=true every process also writes its spans next to its log
+    private List<String> withTracing(String name, List<String> arguments) {
+        List<String> traced = new ArrayList<>(arguments);
+        traced.add("--management.tracing.sampling.probability=" + configuration.get("tracing.sampling-probability"));
+        if (Boolean.parseBoolean(configuration.get("tracing.files"))) {
+            traced.add("--banking.tracing.file=" + logs.resolve(name + "-spans.ndjson"));
+        }
+        return traced;
+    }
+
+    // ─── launch settings, shared with StartupBenchmark ───
+
+    static List<String> jvmArgs(LoadTestConfiguration configuration, Path scratch) {
+        List<String> jvmArgs = new ArrayList<>(Arrays.asList(configuration.get("service.jvm-args").split("\\s+")));
+        jvmArgs.removeIf(String::isBlank);
+        // Search index, import spools and the dedup work files all default to the temp directory
+        jvmArgs.add("-Djava.io.tmpdir=" + scratch);
+        return jvmArgs;
+    }
+
+    // The services ship the MySQL driver only; H2 comes from the harness' classpath through loader.path
+    static List<String> serviceClasspath(Path jar) {
+        return List.of("-Dloader.path=" + h2Jar(), "-cp", jar.toString(),
+                "org.springframework.boot.loader.launch.PropertiesLauncher");
+    }
+
+    static Path h2Jar() {
+        try {
+            return Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate the H2 jar", e);
+        }
+    }
+
+    static String eurekaUrl(int port) {
+        return "http://127.0.0.1:" + port + "/eureka/";
+    }
+
+    static List<String> eurekaArguments(String eurekaUrl, String level) {
+        return List.of(
+                "--eureka.client.service-url.defaultZone=" + eurekaUrl,
+                "--eureka.server.use-read-only-response-cache=false",
+                "--logging.level.root=" + level);
+    }
+
+    static List<String> serviceArguments(Service service, String eurekaUrl, TokenIssuer tokenIssuer, String level) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:" + service.applicationName()
+                        + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--banking.vault.mysqlusername=sa",
+                "--banking.vault.mysqlpassword=",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--eureka.client.service-url.defaultZone=" + eurekaUrl,
+                "--eureka.client.initial-instance-info-replication-interval-seconds=1",
+                "--eureka.instance.prefer-ip-address=true",
+                "--eureka.instance.ip-address=127.0.0.1",
+                "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + tokenIssuer.issuerUri(),
+                "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + tokenIssuer.jwkSetUri(),
+                "--logging.level.root=" + level,
+                "--logging.level.com.sainik=" + level,
+                "--logging.level.org.springframework.security=" + level,
+                "--logging.level.org.hibernate.SQL=" + level));
+        if (service == Service.ACCOUNT) {
+            // Its internal gRPC API; the port reaches the transaction service through the Eureka metadata
+            arguments.add("--grpc.server.port=" + ServiceProcess.freePort());
+        }
+        if (service == Service.TRANSACTION) {
+            arguments.add("--banking.archive.enabled=false");
+            // Finds the account service instances for its account checks as soon as they register
+            arguments.add("--eureka.client.registry-fetch-interval-seconds=1");
+        }
+        return arguments;
+    }
+
+    static List<String> gatewayArguments(String eurekaUrl, TokenIssuer tokenIssuer, String level) {
+        return List.of(
+                "--eureka.client.service-url.defaultZone=" + eurekaUrl,
+                "--eureka.client.registry-fetch-interval-seconds=1",
+                "--eureka.instance.prefer-ip-address=true",
+                "--eureka.instance.ip-address=127.0.0.1",
+                "--spring.cloud.loadbalancer.cache.ttl=5s",
+                "--spring.security.oauth2.resourceserver.jwt.issuer-uri=" + tokenIssuer.issuerUri(),
+                "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=" + tokenIssuer.jwkSetUri(),
+                "--logging.level.root=" + level);
+    }
+
+    static HttpRequest eurekaApps(ServiceProcess eureka) {
+        return HttpRequest.newBuilder(URI.create(eureka.baseUrl() + "/eureka/apps"))
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    static boolean registered(String body, List<Service> expected) {
+        try {
+            Set<String> names = new HashSet<>();
+            for (JsonNode application : new ObjectMapper().readTree(body).path("applications").path("application")) {
+                names.add(application.path("name").asText().toLowerCase());
+            }
+            return expected.stream().allMatch(service -> names.contains(service.applicationName()));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    static Path jar(Path repository, String module) throws IOException {
+        Path target = repository.resolve(module).resolve("target");
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> files = Files.list(target)) {
+                List<Path> jars = files
+                        .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                        .filter(file -> !file.getFileName().toString().endsWith("-plain.jar"))
+                        .toList();
+                if (jars.size() == 1) {
+                    return jars.get(0);
+                }
+            }
+        }
+        throw new IllegalStateException("No single executable jar in " + target
+                + "; build it first: (cd " + repository.resolve(module) + " && mvn -DskipTests package)");
+    }
+
+    // repository=<dir>, or the first directory up from here that holds the services
+    static Path repository(LoadTestConfiguration configuration) {
+        String configured = configuration.get("repository", null);
+        if (configured != null) {
+            return Path.of(configured).toAbsolutePath().normalize();
+        }
+        for (Path dir = Path.of("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            if (Files.isDirectory(dir.resolve(Service.ACCOUNT.module()))) {
+                return dir;
+            }
+        }
+        throw new IllegalStateException("Repository not found from " + Path.of("").toAbsolutePath()
+                + "; set repository=<checkout>");
+    }
+
+    @Override
+    public void close() {
+        // Gateway first, Eureka last, so nothing logs a storm of connection errors on the way down
+        for (int i = processes.size() - 1; i >= 0; i--) {
+            processes.get(i).close();
+        }
+    }
+}
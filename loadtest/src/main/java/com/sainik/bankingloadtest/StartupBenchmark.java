@@ -0,0 +1,287 @@
+package com.sainik.bankingloadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+// Time to first request: from launching a process until it answers an authenticated read with 200, for each
+// service and the gateway, started from the plain jar (default), with the faststart build (AOT, class data
+// archive, faststart profile) and as a native image. Also records the resident memory right after that first
+// request. Build with -Pfaststart and with -Pnative native:compile first to measure those modes.
+//   mvn compile exec:exec -Dloadtest.main=com.sainik.bankingloadtest.StartupBenchmark -Dloadtest.args="startup.runs=5"
+public final class StartupBenchmark {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(20);
+
+    enum Mode {
+        DEFAULT, FASTSTART, NATIVE
+    }
+
+    record Result(String target, Mode mode, List<Long> millis, List<Long> residentKb) {
+    }
+
+    private final LoadTestConfiguration configuration;
+    private final Path repository;
+    private final Path logs;
+    private final Path work;
+    private final TokenIssuer tokenIssuer;
+    private final String token;
+    private final String level;
+    private final Duration timeout;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private String eurekaUrl;
+
+    private StartupBenchmark(LoadTestConfiguration configuration, Path output, TokenIssuer tokenIssuer)
+            throws IOException {
+        this.configuration = configuration;
+        this.repository = Stack.repository(configuration);
+        this.logs = Files.createDirectories(output.resolve("logs"));
+        this.work = Files.createDirectories(output.resolve("work"));
+        this.tokenIssuer = tokenIssuer;
+        this.token = tokenIssuer.issue("loadtest", Duration.ofDays(1));
+        this.level = configuration.get("service.logging-level");
+        this.timeout = configuration.getDuration("startup-timeout");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfiguration configuration = LoadTestConfiguration.load(args);
+        Path output = Files.createDirectories(Path.of(configuration.get("output"))
+                .resolve("startup-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))));
+        try (TokenIssuer tokenIssuer = TokenIssuer.start()) {
+            List<Result> results = new StartupBenchmark(configuration, output, tokenIssuer).run();
+            report(results, output);
+        }
+    }
+
+    private List<Result> run() throws Exception {
+        int runs = configuration.getInt("startup.runs");
+        List<Mode> modes = Arrays.stream(configuration.get("startup.modes").split(","))
+                .map(mode -> Mode.valueOf(mode.trim().toUpperCase())).toList();
+        List<String> targets = Arrays.stream(configuration.get("startup.targets").split(","))
+                .map(String::trim).toList();
+        List<Result> results = new ArrayList<>();
+
+        // Registration is part of start-up, so the services register with a real Eureka, started once
+        int eurekaPort = ServiceProcess.freePort();
+        eurekaUrl = Stack.eurekaUrl(eurekaPort);
+        try (ServiceProcess eureka = launch("eureka", eurekaPort, jvmArgs("eureka"),
+                List.of("-jar", Stack.jar(repository, Stack.EUREKA_MODULE).toString()),
+                Stack.eurekaArguments(eurekaUrl, level))) {
+            eureka.await(client, Stack.eurekaApps(eureka), response -> response.statusCode() == 200, timeout);
+            for (String target : targets) {
+                if (target.equals("gateway")) {
+                    results.addAll(measureGateway(eureka, modes, runs));
+                } else {
+                    Service service = service(target);
+                    for (Mode mode : modes) {
+                        measure(service.applicationName(), mode, runs, port -> startService(service, mode, port),
+                                service.probePath()).ifPresent(results::add);
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // The gateway's first request is a routed one, so an account service runs behind it throughout
+    private List<Result> measureGateway(ServiceProcess eureka, List<Mode> modes, int runs) throws Exception {
+        List<Result> results = new ArrayList<>();
+        try (ServiceProcess backend = startService(Service.ACCOUNT, Mode.DEFAULT, ServiceProcess.freePort())) {
+            backend.await(client, probe(backend.port(), Service.ACCOUNT.probePath()),
+                    response -> response.statusCode() == 200, timeout);
+            eureka.await(client, Stack.eurekaApps(eureka),
+                    response -> Stack.registered(response.body(), List.of(Service.ACCOUNT)), timeout);
+            for (Mode mode : modes) {
+                measure("gateway", mode, runs, port -> startGateway(mode, port), Service.ACCOUNT.probePath())
+                        .ifPresent(results::add);
+            }
+        }
+        return results;
+    }
+
+    interface Launcher {
+        ServiceProcess start(int port) throws IOException;
+    }
+
+    private Optional<Result> measure(String target, Mode mode, int runs, Launcher launcher, String probePath)
+            throws Exception {
+        if (mode == Mode.FASTSTART && !Files.exists(fastStartDirectory(module(target)).resolve("application.jsa"))) {
+            System.out.println("Skipping " + target + " faststart: no archive in " + fastStartDirectory(module(target))
+                    + "; build with mvn -Pfaststart -DskipTests package");
+            return Optional.empty();
+        }
+        if (mode == Mode.NATIVE && nativeExecutable(module(target)).isEmpty()) {
+            System.out.println("Skipping " + target + " native: no executable in "
+                    + repository.resolve(module(target)).resolve("target")
+                    + "; build with mvn -Pnative -DskipTests native:compile on GraalVM");
+            return Optional.empty();
+        }
+        List<Long> millis = new ArrayList<>();
+        List<Long> residentKb = new ArrayList<>();
+        for (int run = 1; run <= runs; run++) {
+            int port = ServiceProcess.freePort();
+            long start = System.nanoTime();
+            try (ServiceProcess process = launcher.start(port)) {
+                process.await(client, probe(port, probePath), response -> response.statusCode() == 200, timeout,
+                        POLL_INTERVAL);
+                millis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                process.residentKb().ifPresent(residentKb::add);
+            }
+            System.out.printf("%-20s %-10s run %d: %d ms%n", target, mode.name().toLowerCase(), run,
+                    millis.get(millis.size() - 1));
+        }
+        return Optional.of(new Result(target, mode, millis, residentKb));
+    }
+
+    private ServiceProcess startService(Service service, Mode mode, int port) throws IOException {
+        String name = service.applicationName() + "-" + mode.name().toLowerCase();
+        // Flyway stays on in every mode: the faststart and native builds have it fixed on by AOT
+        List<String> arguments = new ArrayList<>(Stack.serviceArguments(service, eurekaUrl, tokenIssuer, level));
+        arguments.removeIf(argument -> argument.startsWith("--spring.flyway.enabled"));
+        if (mode == Mode.DEFAULT) {
+            return launch(name, port, jvmArgs(name), Stack.serviceClasspath(Stack.jar(repository, service.module())),
+                    arguments);
+        }
+        if (mode == Mode.NATIVE) {
+            // The native profile compiles H2 in, so the executable needs nothing on a classpath
+            return ServiceProcess.startNative(name, port, nativeExecutable(service.module()).orElseThrow(),
+                    nativeOptions(name), arguments, logs);
+        }
+        Path jar = Stack.jar(repository, service.module());
+        Path extracted = fastStartDirectory(service.module()).resolve(jar.getFileName());
+        return launch(name, port, fastStartJvmArgs(name, service.module()),
+                List.of("-cp", extracted + File.pathSeparator + Stack.h2Jar(), startClass(jar)), arguments);
+    }
+
+    private ServiceProcess startGateway(Mode mode, int port) throws IOException {
+        Path jar = Stack.jar(repository, Stack.GATEWAY_MODULE);
+        List<String> arguments = Stack.gatewayArguments(eurekaUrl, tokenIssuer, level);
+        String name = "gateway-" + mode.name().toLowerCase();
+        if (mode == Mode.DEFAULT) {
+            return launch(name, port, jvmArgs(name), List.of("-jar", jar.toString()), arguments);
+        }
+        if (mode == Mode.NATIVE) {
+            return ServiceProcess.startNative(name, port, nativeExecutable(Stack.GATEWAY_MODULE).orElseThrow(),
+                    nativeOptions(name), arguments, logs);
+        }
+        Path extracted = fastStartDirectory(Stack.GATEWAY_MODULE).resolve(jar.getFileName());
+        return launch(name, port, fastStartJvmArgs(name, Stack.GATEWAY_MODULE),
+                List.of("-jar", extracted.toString()), arguments);
+    }
+
+    private List<String> jvmArgs(String name) throws IOException {
+        return Stack.jvmArgs(configuration, Files.createDirectories(work.resolve(name)));
+    }
+
+    private List<String> fastStartJvmArgs(String name, String module) throws IOException {
+        List<String> jvmArgs = jvmArgs(name);
+        jvmArgs.add("-XX:SharedArchiveFile=" + fastStartDirectory(module).resolve("application.jsa"));
+        jvmArgs.add("-Dspring.aot.enabled=true");
+        jvmArgs.add("-Dspring.profiles.active=faststart");
+        return jvmArgs;
+    }
+
+    // The heap limit and system properties of service.jvm-args; a native image rejects the JVM's -XX options
+    private List<String> nativeOptions(String name) throws IOException {
+        List<String> options = new ArrayList<>(jvmArgs(name));
+        options.removeIf(option -> !option.startsWith("-D") && !option.startsWith("-Xm"));
+        options.add("-Dspring.profiles.active=faststart");
+        return options;
+    }
+
+    private ServiceProcess launch(String name, int port, List<String> jvmArgs, List<String> classpath,
+                                  List<String> arguments) throws IOException {
+        return ServiceProcess.start(name, port, jvmArgs, classpath, arguments, logs);
+    }
+
+    private HttpRequest probe(int port, String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private Path fastStartDirectory(String module) {
+        return repository.resolve(module).resolve("target").resolve("faststart");
+    }
+
+    // native:compile writes target/<artifactId>: the one executable file there without an extension
+    private Optional<Path> nativeExecutable(String module) throws IOException {
+        Path target = repository.resolve(module).resolve("target");
+        if (!Files.isDirectory(target)) {
+            return Optional.empty();
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(Files::isExecutable)
+                    .filter(file -> !file.getFileName().toString().contains("."))
+                    .findFirst();
+        }
+    }
+
+    private static String module(String target) {
+        return target.equals("gateway") ? Stack.GATEWAY_MODULE : service(target).module();
+    }
+
+    private static Service service(String target) {
+        return Arrays.stream(Service.values())
+                .filter(service -> service.applicationName().equals(target))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown startup target: " + target));
+    }
+
+    // The extracted jar starts the application class directly, without the Spring Boot launcher
+    private static String startClass(Path jar) throws IOException {
+        try (JarFile file = new JarFile(jar.toFile())) {
+            return file.getManifest().getMainAttributes().getValue("Start-Class");
+        }
+    }
+
+    private static void report(List<Result> results, Path output) throws IOException {
+        System.out.printf("%nTime to first request and resident memory after it%n%-20s %-10s %5s %9s %9s %9s %9s%n",
+                "target", "mode", "runs", "min ms", "median ms", "max ms", "RSS MB");
+        List<Map<String, Object>> json = new ArrayList<>();
+        for (Result result : results) {
+            List<Long> sorted = result.millis().stream().sorted().toList();
+            long median = sorted.get(sorted.size() / 2);
+            // -1 where /proc is not available
+            long residentMb = result.residentKb().isEmpty() ? -1
+                    : result.residentKb().stream().sorted().toList().get(result.residentKb().size() / 2) / 1024;
+            System.out.printf("%-20s %-10s %5d %9d %9d %9d %9d%n", result.target(), result.mode().name().toLowerCase(),
+                    sorted.size(), sorted.get(0), median, sorted.get(sorted.size() - 1), residentMb);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("target", result.target());
+            entry.put("mode", result.mode().name().toLowerCase());
+            entry.put("millis", result.millis());
+            entry.put("medianMillis", median);
+            entry.put("residentKb", result.residentKb());
+            entry.put("medianResidentMb", residentMb);
+            json.add(entry);
+        }
+        Path file = output.resolve("startup.json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), json);
+        System.out.println("\nReport written to " + file.toAbsolutePath());
+    }
+}
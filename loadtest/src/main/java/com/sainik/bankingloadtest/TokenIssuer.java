@@ -0,0 +1,128 @@
+package com.sainik.bankingloadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Stand-in for the Keycloak realm: serves a JWKS and signs RS256 tokens carrying the developer scope
+public final class TokenIssuer implements AutoCloseable {
+
+    private static final String REALM_PATH = "/realms/banking-realm";
+    private static final String KEY_ID = "loadtest";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final KeyPair keyPair;
+    private final HttpServer server;
+    private final String issuer;
+
+    private TokenIssuer(KeyPair keyPair, HttpServer server) {
+        this.keyPair = keyPair;
+        this.server = server;
+        this.issuer = "http://127.0.0.1:" + server.getAddress().getPort() + REALM_PATH;
+    }
+
+    public static TokenIssuer start() throws IOException, GeneralSecurityException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        TokenIssuer issuer = new TokenIssuer(generator.generateKeyPair(), server);
+        server.createContext(REALM_PATH + "/protocol/openid-connect/certs", issuer::jwks);
+        server.createContext(REALM_PATH + "/.well-known/openid-configuration", issuer::discovery);
+        server.start();
+        return issuer;
+    }
+
+    public String issuerUri() {
+        return issuer;
+    }
+
+    public String jwkSetUri() {
+        return issuer + "/protocol/openid-connect/certs";
+    }
+
+    public String issue(String subject, Duration validity) {
+        Instant now = Instant.now();
+        Map<String, Object> header = Map.of("alg", "RS256", "typ", "JWT", "kid", KEY_ID);
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", issuer);
+        claims.put("sub", subject);
+        claims.put("preferred_username", subject);
+        claims.put("scope", "openid developer");
+        claims.put("iat", now.getEpochSecond());
+        claims.put("exp", now.plus(validity).getEpochSecond());
+        try {
+            String signingInput = base64Url(objectMapper.writeValueAsBytes(header)) + "."
+                    + base64Url(objectMapper.writeValueAsBytes(claims));
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + base64Url(signature.sign());
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign token", e);
+        }
+    }
+
+    private void jwks(HttpExchange exchange) throws IOException {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Map<String, Object> key = new LinkedHashMap<>();
+        key.put("kty", "RSA");
+        key.put("kid", KEY_ID);
+        key.put("use", "sig");
+        key.put("alg", "RS256");
+        key.put("n", base64Url(unsigned(publicKey.getModulus())));
+        key.put("e", base64Url(unsigned(publicKey.getPublicExponent())));
+        respond(exchange, Map.of("keys", List.of(key)));
+    }
+
+    private void discovery(HttpExchange exchange) throws IOException {
+        respond(exchange, Map.of(
+                "issuer", issuer,
+                "jwks_uri", jwkSetUri(),
+                "id_token_signing_alg_values_supported", List.of("RS256"),
+                "subject_types_supported", List.of("public"),
+                "response_types_supported", List.of("code")));
+    }
+
+    private void respond(HttpExchange exchange, Object body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, json.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    // JWK integers are unsigned big-endian; BigInteger.toByteArray may prefix a sign byte
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 && bytes.length > 1 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
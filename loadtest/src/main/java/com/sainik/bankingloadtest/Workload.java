@@ -0,0 +1,221 @@
+package com.sainik.bankingloadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Builds the requests of the mix from the ids created so far, and learns new ids from create responses
+public final class Workload {
+
+    private static final String[] ACCOUNT_TYPES = {"Savings", "Current"};
+    private static final String[] TRANSACTION_TYPES = {"Deposit", "Withdrawal"};
+    private static final int PAGE_SIZE = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Function<Service, URI> baseUri;
+    private final String authorization;
+    private final Duration timeout;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    // Keeps numbers, e-mails and phones unique across runs against the same stack
+    private final String runId = Long.toString(System.currentTimeMillis() % 1_000_000_000L, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final IdPool customers = new IdPool();
+    private final IdPool accounts = new IdPool();
+    private final IdPool transactions = new IdPool();
+
+    public Workload(Function<Service, URI> baseUri, String token, Duration timeout, Map<Operation, Integer> mix) {
+        this.baseUri = baseUri;
+        this.authorization = "Bearer " + token;
+        this.timeout = timeout;
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight out of range: " + pick);
+    }
+
+    public HttpRequest request(Operation operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case CREATE_CUSTOMER -> post(Service.CUSTOMER, "/v1.0", customer(sequence.incrementAndGet()));
+            case GET_CUSTOMER -> get(Service.CUSTOMER, "/v1.0/" + customers.random());
+            case LIST_CUSTOMERS -> get(Service.CUSTOMER, "/v1.0/page?page=" + random.nextInt(page(customers))
+                    + "&size=" + PAGE_SIZE);
+            case CREATE_ACCOUNT -> post(Service.ACCOUNT, "/v1.0", account(sequence.incrementAndGet()));
+            case GET_ACCOUNT -> get(Service.ACCOUNT, "/v1.0/" + accounts.random());
+            case LIST_ACCOUNTS -> get(Service.ACCOUNT, "/v1.0/page?page=" + random.nextInt(page(accounts))
+                    + "&size=" + PAGE_SIZE);
+            case CREATE_TRANSACTION -> post(Service.TRANSACTION, "/v1.0", transaction());
+            case GET_TRANSACTION -> get(Service.TRANSACTION, "/v1.0/" + transactions.random());
+            case LIST_ACCOUNT_TRANSACTIONS -> get(Service.TRANSACTION, "/v1.0/account/" + accounts.random());
+        };
+    }
+
+    // Created entities join the pools, so the reads that follow also hit new rows
+    public void completed(Operation operation, HttpResponse<String> response) {
+        IdPool pool = switch (operation) {
+            case CREATE_CUSTOMER -> customers;
+            case CREATE_ACCOUNT -> accounts;
+            case CREATE_TRANSACTION -> transactions;
+            default -> null;
+        };
+        if (pool == null || response.statusCode() / 100 != 2) {
+            return;
+        }
+        try {
+            JsonNode id = objectMapper.readTree(response.body()).path("data").path("id");
+            if (id.canConvertToLong()) {
+                pool.add(id.asLong());
+            }
+        } catch (IOException e) {
+            // Counted by its status like any other response; only the id is lost
+        }
+    }
+
+    // Customers first, then accounts owned by them, then transactions on those accounts
+    public void seed(HttpClient client, int customerCount, int accountCount, int transactionCount, int concurrency)
+            throws InterruptedException {
+        seed(client, Operation.CREATE_CUSTOMER, customerCount, concurrency);
+        seed(client, Operation.CREATE_ACCOUNT, accountCount, concurrency);
+        seed(client, Operation.CREATE_TRANSACTION, transactionCount, concurrency);
+        System.out.printf("Seeded %d customers, %d accounts, %d transactions%n",
+                customers.size(), accounts.size(), transactions.size());
+    }
+
+    private void seed(HttpClient client, Operation operation, int count, int concurrency) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                permits.acquire();
+                results.add(executor.submit(() -> {
+                    try {
+                        HttpResponse<String> response = client.send(request(operation),
+                                HttpResponse.BodyHandlers.ofString());
+                        if (response.statusCode() / 100 != 2) {
+                            throw new IllegalStateException(operation.key() + " returned " + response.statusCode()
+                                    + ": " + response.body());
+                        }
+                        completed(operation, response);
+                        return null;
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        }
+        for (Future<?> future : results) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Seeding failed", e.getCause());
+            }
+        }
+    }
+
+    private String customer(long n) {
+        ObjectNode customer = objectMapper.createObjectNode();
+        customer.put("firstName", "Load" + n);
+        customer.put("lastName", "Test" + runId);
+        customer.put("email", "load-" + runId + "-" + n + "@example.com");
+        customer.put("phone", "+31 6 " + String.format("%08d", n % 100_000_000));
+        customer.put("address", n + " Benchmark Street, Testville");
+        return customer.toString();
+    }
+
+    private String account(long n) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode account = objectMapper.createObjectNode();
+        account.put("accountNumber", ("LT" + runId + n).toUpperCase());
+        account.put("customerId", customers.random());
+        account.put("type", ACCOUNT_TYPES[random.nextInt(ACCOUNT_TYPES.length)]);
+        account.put("balance", random.nextInt(100, 100_000));
+        return account.toString();
+    }
+
+    private String transaction() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode transaction = objectMapper.createObjectNode();
+        transaction.put("accountId", accounts.random());
+        transaction.put("type", TRANSACTION_TYPES[random.nextInt(TRANSACTION_TYPES.length)]);
+        transaction.put("amount", random.nextInt(1, 500) + random.nextInt(100) / 100.0);
+        transaction.put("status", "PENDING");
+        return transaction.toString();
+    }
+
+    private static int page(IdPool pool) {
+        return Math.max(1, pool.size() / PAGE_SIZE);
+    }
+
+    private HttpRequest get(Service service, String path) {
+        return builder(service, path).GET().build();
+    }
+
+    private HttpRequest post(Service service, String path, String json) {
+        return builder(service, path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(Service service, String path) {
+        return HttpRequest.newBuilder(baseUri.apply(service).resolve(service.path() + path))
+                .header("Authorization", authorization)
+                .header("Accept", "application/json")
+                .timeout(timeout);
+    }
+
+    // Append-only id list with uniform random picks; an empty pool yields 1 (a 404, counted as an error)
+    private static final class IdPool {
+
+        private long[] ids = new long[1024];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized long random() {
+            return size == 0 ? 1 : ids[ThreadLocalRandom.current().nextInt(size)];
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
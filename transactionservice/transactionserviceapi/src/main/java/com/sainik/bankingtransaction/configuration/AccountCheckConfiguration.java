@@ -0,0 +1,25 @@
+package com.sainik.bankingtransaction.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Settings for checking with the account service, over its internal gRPC API, that the account of a new
+ * transaction exists. The channel itself is configured under {@code grpc.client.account-service}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "banking.account-check")
+@Getter
+@Setter
+public class AccountCheckConfiguration {
+
+    /** Check the account before creating a transaction. Off, any account id is accepted as before. */
+    private boolean enabled = true;
+
+    /** How long a check may take end to end before the transaction is rejected with 503. */
+    private Duration deadline = Duration.ofMillis(500);
+}
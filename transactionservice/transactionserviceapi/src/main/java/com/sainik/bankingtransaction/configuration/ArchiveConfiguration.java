@@ -0,0 +1,31 @@
+package com.sainik.bankingtransaction.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Settings for moving settled transactions out of the live table into the
+ * archive table and for maintaining the live table's monthly partitions.
+ */
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "banking.archive")
+@Getter
+@Setter
+public class ArchiveConfiguration {
+
+    /** Master switch for the archival and partition maintenance jobs. */
+    private boolean enabled = true;
+
+    /** SUCCESS/FAILED transactions older than this many days are archived. */
+    private int retentionDays = 90;
+
+    /** Rows moved per database transaction (one INSERT ... SELECT and one DELETE). */
+    private int batchSize = 5000;
+
+    /** Number of future monthly partitions kept ready on the live table. */
+    private int monthsAhead = 3;
+}
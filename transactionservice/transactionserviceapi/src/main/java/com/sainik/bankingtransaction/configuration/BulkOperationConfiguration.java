@@ -0,0 +1,22 @@
+package com.sainik.bankingtransaction.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for the bulk status transition and cancellation endpoints.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "banking.bulk")
+@Getter
+@Setter
+public class BulkOperationConfiguration {
+
+    /** Ids per UPDATE/DELETE statement; each chunk commits in its own database transaction. */
+    private int chunkSize = 1000;
+
+    /** Upper bound on the number of ids accepted in a single request. */
+    private int maxIds = 100_000;
+}
@@ -0,0 +1,31 @@
+package com.sainik.bankingtransaction.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Settings for serializing conflicting writes on one account or one transaction.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "banking.locking")
+@Getter
+@Setter
+public class LockingConfiguration {
+
+    /** Number of in-process lock stripes per key space; rounded up to a power of two. */
+    private int stripes = 1024;
+
+    /** Grant locks in arrival order. Stricter ordering, lower throughput under contention. */
+    private boolean fair = false;
+
+    /** How long a request waits for a busy key before failing with 409 Conflict. */
+    private long timeoutMillis = 5000;
+
+    /**
+     * Additionally take a MySQL advisory lock (GET_LOCK) per key, so operations are
+     * serialized across service instances and not only within this JVM.
+     */
+    private boolean databaseLocks = false;
+}
@@ -1,16 +0,0 @@
-package com.sainik.bankingtransaction.configuration;
-
-import lombok.Getter;
-import lombok.Setter;
-import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Configuration;
-
-@Configuration
-@ConfigurationProperties(prefix = "banking.vault")
-@Getter
-@Setter
-public class VaultConfiguration {
-
-    private String mysqlusername;
-    private String mysqlpassword;
-}
@@ -1,7 +1,10 @@
 package com.sainik.bankingtransaction.controllers;
 
-import com.sainik.bankingtransaction.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingtransaction.dtos.BulkTransitionRequest;
+import com.sainik.bankingtransaction.dtos.BulkTransitionResult;
 import com.sainik.bankingtransaction.dtos.TransactionDTO;
+import com.sainik.bankingtransaction.services.BulkTransactionService;
 import com.sainik.bankingtransaction.services.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -23,6 +26,7 @@ import java.util.List;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final BulkTransactionService bulkTransactionService;
 
     /**
      * POST /transactions/v1.0 — Initiate a new transaction
@@ -118,4 +122,40 @@ public class TransactionController {
         transactionService.deleteTransaction(id);
         return ResponseEntity.ok(GenericResponse.success("Transaction cancelled successfully", null));
     }
+
+    /**
+     * POST /transactions/v1.0/bulk/status — Settle or fail many PENDING transactions
+     * Requires SCOPE_developer
+     */
+    @PostMapping("/v1.0/bulk/status")
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @Operation(
+            summary = "Bulk status transition",
+            description = "Move PENDING transactions, selected by ids or by accountId/date range, to SUCCESS or FAILED. "
+                    + "Non-PENDING ids are skipped.",
+            security = @SecurityRequirement(name = "oauth2")
+    )
+    public ResponseEntity<GenericResponse<BulkTransitionResult>> transitionPendingTransactions(
+            @RequestBody BulkTransitionRequest request) {
+        BulkTransitionResult result = bulkTransactionService.transitionPending(request);
+        return ResponseEntity.ok(GenericResponse.success("Bulk status transition completed", result));
+    }
+
+    /**
+     * POST /transactions/v1.0/bulk/cancel — Cancel many PENDING transactions
+     * Requires SCOPE_developer
+     */
+    @PostMapping("/v1.0/bulk/cancel")
+    @PreAuthorize("hasAnyAuthority('SCOPE_developer')")
+    @Operation(
+            summary = "Bulk cancellation",
+            description = "Cancel/delete PENDING transactions selected by ids or by accountId/date range. "
+                    + "Non-PENDING ids are skipped.",
+            security = @SecurityRequirement(name = "oauth2")
+    )
+    public ResponseEntity<GenericResponse<BulkTransitionResult>> cancelPendingTransactions(
+            @RequestBody BulkTransitionRequest request) {
+        BulkTransitionResult result = bulkTransactionService.cancelPending(request);
+        return ResponseEntity.ok(GenericResponse.success("Bulk cancellation completed", result));
+    }
 }
@@ -0,0 +1,41 @@
+package com.sainik.bankingtransaction.dtos;
+
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Selects PENDING transactions either by id list or by filter (accountId and/or date range)")
+public class BulkTransitionRequest {
+
+    @Schema(description = "Explicit transaction ids; mutually exclusive with the filter fields", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "Filter: account the transactions belong to", example = "1")
+    private Long accountId;
+
+    @Schema(description = "Filter: transactionDate on or after this instant", example = "2026-01-01T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Filter: transactionDate strictly before this instant", example = "2026-01-02T00:00:00")
+    private LocalDateTime to;
+
+    @Schema(description = "Target status for a status transition (ignored when cancelling)",
+            example = "FAILED", allowableValues = {"SUCCESS", "FAILED"})
+    private TransactionStatus status;
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return accountId != null || from != null || to != null;
+    }
+}
@@ -0,0 +1,24 @@
+package com.sainik.bankingtransaction.dtos;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Outcome of a bulk status transition or cancellation")
+public class BulkTransitionResult {
+
+    @Schema(description = "Number of transactions selected by the request")
+    private long matched;
+
+    @Schema(description = "Number of transactions actually transitioned or cancelled")
+    private long affected;
+
+    @Schema(description = "Requested ids that were not PENDING (or did not exist) and were left untouched")
+    private List<Long> skippedIds;
+}
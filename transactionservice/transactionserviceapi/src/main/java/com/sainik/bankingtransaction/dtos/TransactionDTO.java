@@ -1,15 +1,15 @@
 package com.sainik.bankingtransaction.dtos;
 
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -25,21 +25,19 @@ public class TransactionDTO {
     @Schema(description = "ID of the account this transaction belongs to", example = "1")
     private Long accountId;
 
-    @NotBlank(message = "Transaction type is required")
-    @Pattern(regexp = "^(Deposit|Withdrawal|Transfer)$", message = "Type must be Deposit, Withdrawal, or Transfer")
+    @NotNull(message = "Transaction type is required")
     @Schema(description = "Transaction type", example = "Deposit", allowableValues = {"Deposit", "Withdrawal", "Transfer"})
-    private String type;
+    private TransactionType type;
 
     @NotNull(message = "Amount is required")
     @Positive(message = "Amount must be positive")
     @Schema(description = "Transaction amount (must be positive)", example = "250.00")
-    private BigDecimal amount;
+    private Money amount;
 
     @Schema(description = "Transaction date (auto-set on creation)", accessMode = Schema.AccessMode.READ_ONLY)
     private LocalDateTime transactionDate;
 
-    @NotBlank(message = "Status is required")
-    @Pattern(regexp = "^(SUCCESS|FAILED|PENDING)$", message = "Status must be SUCCESS, FAILED, or PENDING")
+    @NotNull(message = "Status is required")
     @Schema(description = "Transaction status", example = "PENDING", allowableValues = {"SUCCESS", "FAILED", "PENDING"})
-    private String status;
+    private TransactionStatus status;
 }
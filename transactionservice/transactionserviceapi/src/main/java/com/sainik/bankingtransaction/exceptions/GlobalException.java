@@ -1,18 +1,15 @@
 package com.sainik.bankingtransaction.exceptions;
 
-import com.sainik.bankingtransaction.dtos.GenericResponse;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.exceptions.CommonExceptionHandler;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.FieldError;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-import java.util.HashMap;
-import java.util.Map;
-
+// Validation, malformed bodies and unexpected errors are handled by CommonExceptionHandler
 @RestControllerAdvice
-public class GlobalException {
+public class GlobalException extends CommonExceptionHandler {
 
     @ExceptionHandler(TransactionNotFoundException.class)
     public ResponseEntity<GenericResponse<Object>> handleTransactionNotFound(TransactionNotFoundException ex) {
@@ -26,21 +23,16 @@ public class GlobalException {
                 .body(GenericResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<GenericResponse<Map<String, String>>> handleValidationErrors(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach(error -> {
-            String fieldName = ((FieldError) error).getField();
-            String message = error.getDefaultMessage();
-            errors.put(fieldName, message);
-        });
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(new GenericResponse<>("Validation failed", errors, false));
+    @ExceptionHandler(TransactionConflictException.class)
+    public ResponseEntity<GenericResponse<Object>> handleTransactionConflict(TransactionConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(GenericResponse.error(ex.getMessage()));
     }
 
-    @ExceptionHandler(Exception.class)
-    public ResponseEntity<GenericResponse<Object>> handleGenericException(Exception ex) {
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(GenericResponse.error("An unexpected error occurred: " + ex.getMessage()));
+    // The account of a new transaction could not be checked; nothing was written and the request can be retried
+    @ExceptionHandler(AccountServiceUnavailableException.class)
+    public ResponseEntity<GenericResponse<Object>> handleAccountServiceUnavailable(AccountServiceUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(GenericResponse.error(ex.getMessage()));
     }
 }
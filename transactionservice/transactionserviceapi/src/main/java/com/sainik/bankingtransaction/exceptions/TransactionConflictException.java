@@ -0,0 +1,8 @@
+package com.sainik.bankingtransaction.exceptions;
+
+public class TransactionConflictException extends RuntimeException {
+
+    public TransactionConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,43 @@
+package com.sainik.bankingtransaction.models;
+
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingcommon.models.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+// A settled transaction moved out of the live table by the archival job (see V2 migration).
+// Same columns and codes as Transaction; the id is the one the transaction had while live.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "transactions_archive", indexes = {
+        @Index(name = "idx_transactions_archive_account_date", columnList = "accountId, transactionDate")
+})
+public class ArchivedTransaction {
+
+    @Id
+    private Long id;
+
+    private Long accountId;
+    private TransactionType type;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
+
+    @Column(nullable = false)
+    private LocalDateTime transactionDate;
+
+    private TransactionStatus status;
+
+    public Transaction toTransaction() {
+        return new Transaction(id, accountId, type, amount, transactionDate, status);
+    }
+}
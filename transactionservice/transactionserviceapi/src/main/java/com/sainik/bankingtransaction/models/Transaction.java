@@ -1,21 +1,28 @@
 package com.sainik.bankingtransaction.models;
 
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingcommon.models.MoneyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_account_date", columnList = "accountId, transactionDate"),
+        @Index(name = "idx_transactions_status_date", columnList = "status, transactionDate")
+})
 public class Transaction {
 
     @Id
@@ -23,8 +30,13 @@ public class Transaction {
     private Long id;
 
     private Long accountId;
-    private String type; // Deposit, Withdrawal, Transfer
-    private BigDecimal amount;
+    private TransactionType type;
+    @Convert(converter = MoneyConverter.class)
+    private Money amount;
+
+    // Partition key of the transactions table (monthly RANGE partitions)
+    @Column(nullable = false)
     private LocalDateTime transactionDate;
-    private String status; // SUCCESS, FAILED, PENDING
-}
\ No newline at end of file
+
+    private TransactionStatus status;
+}
@@ -0,0 +1,71 @@
+package com.sainik.bankingtransaction.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * Lifecycle of a transaction, stored as a TINYINT code (see {@link TransactionStatusConverter}).
+ *
+ * This enum is the single place the state machine is defined:
+ * PENDING may be amended (PENDING → PENDING) or settled (→ SUCCESS / → FAILED);
+ * SUCCESS and FAILED are final. Allowed transitions are kept as a bit mask so
+ * checks on the hot path are a shift and an AND.
+ */
+public enum TransactionStatus {
+
+    PENDING((byte) 0),
+    SUCCESS((byte) 1),
+    FAILED((byte) 2);
+
+    private static final TransactionStatus[] BY_CODE = values();
+
+    static {
+        PENDING.allowedTargets = maskOf(PENDING, SUCCESS, FAILED);
+        SUCCESS.allowedTargets = 0;
+        FAILED.allowedTargets = 0;
+    }
+
+    private final byte code;
+    private int allowedTargets;
+
+    TransactionStatus(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    public boolean canTransitionTo(TransactionStatus target) {
+        return (allowedTargets & (1 << target.ordinal())) != 0;
+    }
+
+    // Final transactions can be neither amended nor cancelled
+    public boolean isFinal() {
+        return allowedTargets == 0;
+    }
+
+    public static TransactionStatus fromCode(byte code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown transaction status code: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    @JsonCreator
+    public static TransactionStatus fromName(String name) {
+        for (TransactionStatus status : BY_CODE) {
+            if (status.name().equalsIgnoreCase(name)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Status must be SUCCESS, FAILED, or PENDING");
+    }
+
+    private static int maskOf(TransactionStatus... targets) {
+        int mask = 0;
+        for (TransactionStatus target : targets) {
+            mask |= 1 << target.ordinal();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,18 @@
+package com.sainik.bankingtransaction.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TransactionStatusConverter implements AttributeConverter<TransactionStatus, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(TransactionStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public TransactionStatus convertToEntityAttribute(Byte code) {
+        return code == null ? null : TransactionStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,63 @@
+package com.sainik.bankingtransaction.models;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Kind of transaction. Stored as a TINYINT code (see {@link TransactionTypeConverter})
+ * and exchanged over the API by its label ("Deposit", "Withdrawal", "Transfer").
+ */
+public enum TransactionType {
+
+    DEPOSIT((byte) 1, "Deposit"),
+    WITHDRAWAL((byte) 2, "Withdrawal"),
+    TRANSFER((byte) 3, "Transfer");
+
+    private static final TransactionType[] BY_CODE = new TransactionType[4];
+
+    static {
+        for (TransactionType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+    private final String label;
+
+    TransactionType(byte code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    // Withdrawal and Transfer take money out of the account
+    public boolean isDebit() {
+        return this != DEPOSIT;
+    }
+
+    public static TransactionType fromCode(byte code) {
+        TransactionType type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown transaction type code: " + code);
+        }
+        return type;
+    }
+
+    @JsonCreator
+    public static TransactionType fromLabel(String label) {
+        for (TransactionType type : values()) {
+            if (type.label.equalsIgnoreCase(label)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Type must be Deposit, Withdrawal, or Transfer");
+    }
+}
@@ -0,0 +1,18 @@
+package com.sainik.bankingtransaction.models;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class TransactionTypeConverter implements AttributeConverter<TransactionType, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(TransactionType type) {
+        return type == null ? null : type.getCode();
+    }
+
+    @Override
+    public TransactionType convertToEntityAttribute(Byte code) {
+        return code == null ? null : TransactionType.fromCode(code);
+    }
+}
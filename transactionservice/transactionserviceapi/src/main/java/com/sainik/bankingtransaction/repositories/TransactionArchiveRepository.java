@@ -0,0 +1,29 @@
+package com.sainik.bankingtransaction.repositories;
+
+import com.sainik.bankingtransaction.models.ArchivedTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Settled transactions archived into the transactions_archive table of the same database, so every
+ * instance reads the same history and it survives restarts and redeploys of any of them.
+ */
+@Repository
+public interface TransactionArchiveRepository extends JpaRepository<ArchivedTransaction, Long> {
+
+    // Oldest first, in the order of idx_transactions_archive_account_date (which ends in the primary key id)
+    List<ArchivedTransaction> findByAccountIdOrderByTransactionDateAscIdAsc(Long accountId);
+
+    // INSERT ... SELECT from the live table; the archival job deletes the same ids in the same transaction
+    @Modifying
+    @Query("insert into ArchivedTransaction (id, accountId, type, amount, transactionDate, status) "
+            + "select t.id, t.accountId, t.type, t.amount, t.transactionDate, t.status "
+            + "from Transaction t where t.id in :ids")
+    int copyFromLive(@Param("ids") Collection<Long> ids);
+}
@@ -1,17 +1,73 @@
 package com.sainik.bankingtransaction.repositories;
 
 import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    List<Transaction> findByAccountId(Long accountId);
+    // Oldest first; idx_transactions_account_date ends in the primary key (id, transaction_date), so no filesort
+    List<Transaction> findByAccountIdOrderByTransactionDateAscIdAsc(Long accountId);
 
-    List<Transaction> findByStatus(String status);
+    List<Transaction> findByStatus(TransactionStatus status);
 
-    List<Transaction> findByType(String type);
+    List<Transaction> findByType(TransactionType type);
+
+    // SELECT ... FOR UPDATE on one row. Amendments and cancellations check the status on it, so a bulk
+    // statement committing in between can neither be overwritten nor have its settled rows cancelled.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from Transaction t where t.id = :id")
+    Optional<Transaction> findByIdForUpdate(@Param("id") Long id);
+
+    // Keyset page of ids of settled transactions older than the cutoff, used by the archival job
+    @Query("select t.id from Transaction t where t.status in :statuses and t.transactionDate < :cutoff "
+            + "and t.id > :afterId order by t.id")
+    List<Long> findArchivableIds(@Param("statuses") Collection<TransactionStatus> statuses,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("afterId") Long afterId,
+                                 Limit limit);
+
+    // ─── bulk endpoints: id projections and set-based statements, no entity loading ───
+
+    @Query("select t.id from Transaction t where t.id in :ids and t.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                      @Param("status") TransactionStatus status);
+
+    // Keyset page of ids matching the bulk filter; absent criteria match everything
+    @Query("select t.id from Transaction t where t.status = :status "
+            + "and (:accountId is null or t.accountId = :accountId) "
+            + "and (:from is null or t.transactionDate >= :from) "
+            + "and (:to is null or t.transactionDate < :to) "
+            + "and t.id > :afterId order by t.id")
+    List<Long> findIdsByFilter(@Param("status") TransactionStatus status,
+                               @Param("accountId") Long accountId,
+                               @Param("from") LocalDateTime from,
+                               @Param("to") LocalDateTime to,
+                               @Param("afterId") Long afterId,
+                               Limit limit);
+
+    @Modifying
+    @Query("update Transaction t set t.status = :target where t.id in :ids and t.status = :expected")
+    int updateStatusByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                    @Param("expected") TransactionStatus expected,
+                                    @Param("target") TransactionStatus target);
+
+    @Modifying
+    @Query("delete from Transaction t where t.id in :ids and t.status = :expected")
+    int deleteByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                              @Param("expected") TransactionStatus expected);
 }
@@ -0,0 +1,93 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingaccountgrpc.AccountId;
+import com.sainik.bankingaccountgrpc.AccountInternalGrpc;
+import com.sainik.bankingtransaction.configuration.AccountCheckConfiguration;
+import com.sainik.bankingtransaction.exceptions.AccountServiceUnavailableException;
+import com.sainik.bankingtransaction.exceptions.InvalidTransactionException;
+import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import net.devh.boot.grpc.client.security.CallCredentialsHelper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.AbstractOAuth2TokenAuthenticationToken;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls the account service's internal gRPC API (account_internal.proto).
+ *
+ * All calls share one channel per process, configured under {@code grpc.client.account-service}: HTTP/2
+ * connections to every account service instance found in Eureka, calls multiplexed over them and spread
+ * round robin, so no connection is opened per request. Each call carries the bearer token of the request
+ * being served and the deadline from {@link AccountCheckConfiguration}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountClient {
+
+    private static final Duration WARM_UP_DEADLINE = Duration.ofSeconds(10);
+
+    private final AccountCheckConfiguration accountCheckConfiguration;
+
+    @GrpcClient("account-service")
+    private AccountInternalGrpc.AccountInternalBlockingStub accountStub;
+
+    /**
+     * Fails with {@link InvalidTransactionException} (400) when the account does not exist and with
+     * {@link AccountServiceUnavailableException} (503) when the account service cannot say in time.
+     * Does nothing when the check is disabled.
+     */
+    public void requireAccount(Long accountId) {
+        if (!accountCheckConfiguration.isEnabled()) {
+            return;
+        }
+        boolean exists;
+        try {
+            exists = stub().exists(AccountId.newBuilder().setId(accountId).build()).getExists();
+        } catch (StatusRuntimeException e) {
+            log.warn("Account check for accountId={} failed with {}", accountId, e.getStatus());
+            throw new AccountServiceUnavailableException(
+                    "Account service could not check account " + accountId + ": " + e.getStatus().getCode(), e);
+        }
+        if (!exists) {
+            throw new InvalidTransactionException("Account not found with id: " + accountId);
+        }
+    }
+
+    /**
+     * Opens the connections and loads the call path once at start-up, so the first transactions are not
+     * rejected for spending their deadline on that. Sent without a token, the call is answered with
+     * UNAUTHENTICATED, which is expected; the account service may also not be registered yet.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!accountCheckConfiguration.isEnabled()) {
+            return;
+        }
+        try {
+            accountStub.withDeadlineAfter(WARM_UP_DEADLINE.toNanos(), TimeUnit.NANOSECONDS)
+                    .exists(AccountId.getDefaultInstance());
+        } catch (StatusRuntimeException e) {
+            log.debug("Account service warm-up call ended with {}", e.getStatus());
+        }
+    }
+
+    // A stub per call is two small objects; the channel underneath is shared
+    private AccountInternalGrpc.AccountInternalBlockingStub stub() {
+        AccountInternalGrpc.AccountInternalBlockingStub stub = accountStub
+                .withDeadlineAfter(accountCheckConfiguration.getDeadline().toNanos(), TimeUnit.NANOSECONDS);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof AbstractOAuth2TokenAuthenticationToken<?> token) {
+            stub = stub.withCallCredentials(CallCredentialsHelper.bearerAuth(token.getToken().getTokenValue()));
+        }
+        return stub;
+    }
+}
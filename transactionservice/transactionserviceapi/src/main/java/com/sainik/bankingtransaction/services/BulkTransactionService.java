@@ -0,0 +1,119 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.BulkOperationConfiguration;
+import com.sainik.bankingtransaction.dtos.BulkTransitionRequest;
+import com.sainik.bankingtransaction.dtos.BulkTransitionResult;
+import com.sainik.bankingtransaction.exceptions.InvalidTransactionException;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.repositories.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Fails, settles or cancels many PENDING transactions at once.
+ *
+ * Transactions are selected by id list or by filter and processed in chunks: each chunk is
+ * one set-based UPDATE/DELETE guarded by {@code status = PENDING}, committed in its own
+ * database transaction so a large request never holds row locks for long. Only ids are
+ * read, never whole entities.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTransactionService {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkOperationConfiguration bulkOperationConfiguration;
+
+    /**
+     * Moves the selected PENDING transactions to SUCCESS or FAILED.
+     */
+    public BulkTransitionResult transitionPending(BulkTransitionRequest request) {
+        TransactionStatus target = request.getStatus();
+        if (target == null || target == TransactionStatus.PENDING
+                || !TransactionStatus.PENDING.canTransitionTo(target)) {
+            throw new InvalidTransactionException("Bulk transition target status must be SUCCESS or FAILED");
+        }
+        log.info("Bulk transition of PENDING transactions to {}", target);
+        return apply(request, ids -> transactionRepository.updateStatusByIdInAndStatus(
+                ids, TransactionStatus.PENDING, target));
+    }
+
+    /**
+     * Cancels (deletes) the selected PENDING transactions.
+     */
+    public BulkTransitionResult cancelPending(BulkTransitionRequest request) {
+        log.info("Bulk cancellation of PENDING transactions");
+        return apply(request, ids -> transactionRepository.deleteByIdInAndStatus(ids, TransactionStatus.PENDING));
+    }
+
+    private BulkTransitionResult apply(BulkTransitionRequest request, ToIntFunction<List<Long>> statement) {
+        if (request.hasIds() == request.hasFilter()) {
+            throw new InvalidTransactionException("Provide either a list of ids or a filter (accountId, from, to), not both");
+        }
+        BulkTransitionResult result = request.hasIds()
+                ? applyToIds(request.getIds(), statement)
+                : applyToFilter(request, statement);
+        log.info("Bulk operation matched {} transactions, affected {}, skipped {}",
+                result.getMatched(), result.getAffected(), result.getSkippedIds().size());
+        return result;
+    }
+
+    private BulkTransitionResult applyToIds(List<Long> requestedIds, ToIntFunction<List<Long>> statement) {
+        List<Long> ids = requestedIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.size() > bulkOperationConfiguration.getMaxIds()) {
+            throw new InvalidTransactionException(
+                    "At most " + bulkOperationConfiguration.getMaxIds() + " ids can be processed per request");
+        }
+
+        int chunkSize = bulkOperationConfiguration.getChunkSize();
+        List<Long> skippedIds = new ArrayList<>();
+        long affected = 0;
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + chunkSize, ids.size()));
+            Integer count = transactionTemplate.execute(tx -> {
+                List<Long> pending = transactionRepository.findIdsByIdInAndStatus(chunk, TransactionStatus.PENDING);
+                if (pending.size() < chunk.size()) {
+                    Set<Long> pendingIds = new HashSet<>(pending);
+                    chunk.stream().filter(id -> !pendingIds.contains(id)).forEach(skippedIds::add);
+                }
+                // The statement re-checks PENDING, so a row settled concurrently is simply not counted
+                return pending.isEmpty() ? 0 : statement.applyAsInt(pending);
+            });
+            affected += count == null ? 0 : count;
+        }
+        return new BulkTransitionResult(ids.size(), affected, skippedIds);
+    }
+
+    private BulkTransitionResult applyToFilter(BulkTransitionRequest request, ToIntFunction<List<Long>> statement) {
+        if (request.getFrom() != null && request.getTo() != null && !request.getFrom().isBefore(request.getTo())) {
+            throw new InvalidTransactionException("'from' must be before 'to'");
+        }
+
+        Limit chunk = Limit.of(bulkOperationConfiguration.getChunkSize());
+        long matched = 0;
+        long affected = 0;
+        long afterId = 0;
+        List<Long> page;
+        while (!(page = transactionRepository.findIdsByFilter(TransactionStatus.PENDING, request.getAccountId(),
+                request.getFrom(), request.getTo(), afterId, chunk)).isEmpty()) {
+            List<Long> ids = page;
+            Integer count = transactionTemplate.execute(tx -> statement.applyAsInt(ids));
+            matched += ids.size();
+            affected += count == null ? 0 : count;
+            afterId = ids.get(ids.size() - 1);
+        }
+        return new BulkTransitionResult(matched, affected, List.of());
+    }
+}
@@ -0,0 +1,49 @@
+package com.sainik.bankingtransaction.services;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed table of locks indexed by a hash of a long key.
+ *
+ * Operations on the same key always map to the same lock and are serialized; operations on
+ * different keys proceed in parallel unless their keys happen to share a stripe. Memory is
+ * bounded by the stripe count no matter how many keys exist, and nothing is ever allocated
+ * or evicted per key.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLock(int stripes, boolean fair) {
+        if (stripes < 1 || stripes > 1 << 30) {
+            throw new IllegalArgumentException("stripes must be between 1 and 2^30: " + stripes);
+        }
+        int size = stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock(fair);
+        }
+    }
+
+    public int stripes() {
+        return locks.length;
+    }
+
+    int stripeOf(long key) {
+        // fmix64 from MurmurHash3: sequential ids spread evenly over the stripes
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key & mask;
+    }
+
+    /** The lock guarding the given key; the same key always yields the same lock. */
+    public Lock get(long key) {
+        return locks[stripeOf(key)];
+    }
+}
@@ -0,0 +1,95 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.ArchiveConfiguration;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.repositories.TransactionArchiveRepository;
+import com.sainik.bankingtransaction.repositories.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Background job that moves settled (SUCCESS/FAILED) transactions older than the
+ * retention window from the live table into the transactions_archive table, then keeps the
+ * live table's monthly partitions in shape.
+ *
+ * Every instance schedules the job, but it runs under a MySQL advisory lock: the first
+ * instance to get it does the work and the others skip that run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionArchiveService {
+
+    private static final List<TransactionStatus> SETTLED_STATUSES = List.of(TransactionStatus.SUCCESS, TransactionStatus.FAILED);
+    private static final String ARCHIVE_LOCK = "banking.txn.archive";
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final TransactionPartitionService transactionPartitionService;
+    private final TransactionLockManager transactionLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveConfiguration archiveConfiguration;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareOnStartup() {
+        if (archiveConfiguration.isEnabled()) {
+            runExclusively(transactionPartitionService::ensureFuturePartitions);
+        }
+    }
+
+    @Scheduled(cron = "${banking.archive.cron:0 30 2 * * *}")
+    public void runScheduled() {
+        if (archiveConfiguration.isEnabled()) {
+            runExclusively(() -> {
+                archiveSettledTransactions();
+                transactionPartitionService.ensureFuturePartitions();
+            });
+        }
+    }
+
+    /**
+     * Archives in keyset-ordered batches: each batch is copied into the archive table and deleted
+     * from the live table in one database transaction, so a row is never in both or in neither.
+     *
+     * @return number of transactions archived
+     */
+    public long archiveSettledTransactions() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveConfiguration.getRetentionDays());
+        Limit batch = Limit.of(archiveConfiguration.getBatchSize());
+        long archived = 0;
+        long afterId = 0;
+
+        List<Long> ids;
+        while (!(ids = transactionRepository.findArchivableIds(SETTLED_STATUSES, cutoff, afterId, batch)).isEmpty()) {
+            List<Long> batchIds = ids;
+            transactionTemplate.execute(status -> {
+                transactionArchiveRepository.copyFromLive(batchIds);
+                transactionRepository.deleteAllByIdInBatch(batchIds);
+                return null;
+            });
+            archived += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} settled transactions older than {}", archived, cutoff);
+        }
+        transactionPartitionService.dropEmptyPartitionsBefore(cutoff);
+        return archived;
+    }
+
+    private void runExclusively(Runnable job) {
+        if (!transactionLockManager.runExclusively(ARCHIVE_LOCK, job)) {
+            log.info("Transaction archival is running on another instance, skipping this run");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.LockingConfiguration;
+import com.sainik.bankingtransaction.exceptions.TransactionConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Serializes conflicting operations per account and per transaction, and runs each one in its own
+ * database transaction.
+ *
+ * Within the JVM each key space uses a {@link StripedLock}; with
+ * {@code banking.locking.database-locks=true} a MySQL advisory lock named after the key is
+ * taken as well, so instances behind the gateway also take turns. The advisory lock is taken on
+ * the transaction's own connection, so a request never holds a second pooled connection, and is
+ * released after the commit or rollback, before that connection goes back to the pool.
+ * The in-process lock is taken first, so at most one thread per stripe waits in GET_LOCK.
+ */
+@Component
+@Slf4j
+public class TransactionLockManager {
+
+    private static final String ACCOUNT_LOCK_PREFIX = "banking.txn.account:";
+    private static final String TRANSACTION_LOCK_PREFIX = "banking.txn.id:";
+
+    private final LockingConfiguration lockingConfiguration;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StripedLock accountLocks;
+    private final StripedLock transactionLocks;
+
+    public TransactionLockManager(LockingConfiguration lockingConfiguration, JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate) {
+        this.lockingConfiguration = lockingConfiguration;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.accountLocks = new StripedLock(lockingConfiguration.getStripes(), lockingConfiguration.isFair());
+        this.transactionLocks = new StripedLock(lockingConfiguration.getStripes(), lockingConfiguration.isFair());
+    }
+
+    /** Runs the action in a transaction, exclusively with respect to other postings on the same account. */
+    public <T> T withAccountLock(long accountId, Supplier<T> action) {
+        return withLock(accountLocks, ACCOUNT_LOCK_PREFIX, accountId, action);
+    }
+
+    /** Runs the action in a transaction, exclusively with respect to other changes of the same transaction. */
+    public <T> T withTransactionLock(long transactionId, Supplier<T> action) {
+        return withLock(transactionLocks, TRANSACTION_LOCK_PREFIX, transactionId, action);
+    }
+
+    /**
+     * Runs a background job on at most one instance at a time, whatever {@code banking.locking.database-locks}
+     * says: takes the MySQL advisory lock of that name without waiting and skips the run if another
+     * instance holds it. The lock sits on a connection of its own for as long as the job runs, so the
+     * pool needs one connection more than the job itself uses; at most one job holds it per instance.
+     *
+     * @return whether the action ran
+     */
+    public boolean runExclusively(String name, Runnable action) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!lockFunction(connection, "SELECT GET_LOCK(?, ?)", name, 0)) {
+                return false;
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                release(connection, name);
+            }
+        }));
+    }
+
+    private <T> T withLock(StripedLock locks, String prefix, long key, Supplier<T> action) {
+        Lock lock = locks.get(key);
+        try {
+            if (!lock.tryLock(lockingConfiguration.getTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                throw busy(prefix, key);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw busy(prefix, key);
+        }
+        try {
+            // Commits before the in-process lock is released, so the next holder reads the committed rows
+            return transactionTemplate.execute(status -> {
+                if (lockingConfiguration.isDatabaseLocks()) {
+                    lockUntilCompletion(prefix + key);
+                }
+                return action.get();
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // GET_LOCK on the connection bound to the current transaction, released once it has committed or rolled back
+    private void lockUntilCompletion(String name) {
+        int timeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(lockingConfiguration.getTimeoutMillis()));
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            if (!lockFunction(connection, "SELECT GET_LOCK(?, ?)", name, timeoutSeconds)) {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+                throw new TransactionConflictException("Resource " + name + " is busy, please retry");
+            }
+        } catch (SQLException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw new CannotAcquireLockException("Could not take advisory lock " + name, e);
+        }
+        // Runs before the transaction manager returns the connection to the pool
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    release(connection, name);
+                } catch (SQLException e) {
+                    log.warn("Could not release advisory lock {}", name, e);
+                } finally {
+                    DataSourceUtils.releaseConnection(connection, dataSource);
+                }
+            }
+        });
+    }
+
+    private static void release(Connection connection, String name) throws SQLException {
+        if (!lockFunction(connection, "SELECT RELEASE_LOCK(?)", name, null)) {
+            log.warn("Advisory lock {} was not held at release", name);
+        }
+    }
+
+    // GET_LOCK / RELEASE_LOCK return 1 on success, 0 on timeout (or not owned), NULL on error
+    private static boolean lockFunction(Connection connection, String sql, String name, Integer timeoutSeconds)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, name);
+            if (timeoutSeconds != null) {
+                statement.setInt(2, timeoutSeconds);
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static TransactionConflictException busy(String prefix, long key) {
+        return new TransactionConflictException("Resource " + prefix + key + " is busy, please retry");
+    }
+}
@@ -0,0 +1,110 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.ArchiveConfiguration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maintains the monthly RANGE partitions of the transactions table (see V2 migration).
+ *
+ * Partitions are named pYYYYMM and hold one month of transaction_date; p_future (MAXVALUE)
+ * catches anything beyond the last prepared month. When the table is not partitioned
+ * (e.g. an embedded database) every operation is a no-op.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionPartitionService {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArchiveConfiguration archiveConfiguration;
+
+    /**
+     * Splits p_future so that every month up to now + monthsAhead has its own partition.
+     * Rows never have to move at write time, which keeps insert latency independent of table age.
+     */
+    public void ensureFuturePartitions() {
+        List<Partition> partitions = listPartitions();
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        YearMonth next = partitions.stream()
+                .filter(p -> p.upperBound() != null)
+                .map(p -> YearMonth.from(p.upperBound()))
+                .max(YearMonth::compareTo)
+                .orElse(YearMonth.now());
+        YearMonth last = YearMonth.now().plusMonths(archiveConfiguration.getMonthsAhead());
+        if (next.isAfter(last)) {
+            return;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + month.format(PARTITION_NAME)
+                    + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + " 00:00:00')");
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE transactions REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("Added {} monthly partitions to transactions, up to {}", definitions.size() - 1, last);
+    }
+
+    /**
+     * Drops monthly partitions that lie entirely before the cutoff and no longer hold rows,
+     * i.e. months whose settled transactions have all been archived. Dropping an empty
+     * partition is a metadata-only operation.
+     */
+    public void dropEmptyPartitionsBefore(LocalDateTime cutoff) {
+        for (Partition partition : listPartitions()) {
+            if (!partition.name().matches("p\\d{6}") || partition.upperBound() == null
+                    || partition.upperBound().atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM transactions PARTITION (" + partition.name() + ")", Long.class);
+            if (rows != null && rows == 0) {
+                jdbcTemplate.execute("ALTER TABLE transactions DROP PARTITION " + partition.name());
+                log.info("Dropped empty transactions partition {}", partition.name());
+            }
+        }
+    }
+
+    private List<Partition> listPartitions() {
+        try {
+            return jdbcTemplate.query(
+                    "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS "
+                            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'transactions' "
+                            + "AND PARTITION_NAME IS NOT NULL ORDER BY PARTITION_ORDINAL_POSITION",
+                    (rs, rowNum) -> new Partition(rs.getString(1), parseUpperBound(rs.getString(2))));
+        } catch (DataAccessException e) {
+            log.debug("transactions table partitions unavailable, skipping maintenance: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    // PARTITION_DESCRIPTION is e.g. '2026-02-01 00:00:00' for RANGE COLUMNS, or MAXVALUE
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    private record Partition(String name, LocalDate upperBound) {
+    }
+}
@@ -4,14 +4,19 @@ import com.sainik.bankingtransaction.dtos.TransactionDTO;
 import com.sainik.bankingtransaction.exceptions.InvalidTransactionException;
 import com.sainik.bankingtransaction.exceptions.TransactionNotFoundException;
 import com.sainik.bankingtransaction.mappers.TransactionMapper;
+import com.sainik.bankingtransaction.models.ArchivedTransaction;
 import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.repositories.TransactionArchiveRepository;
 import com.sainik.bankingtransaction.repositories.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,8 +25,15 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TransactionService {
 
+    // Order of an account's history, as both history queries return it
+    private static final Comparator<Transaction> HISTORY_ORDER =
+            Comparator.comparing(Transaction::getTransactionDate).thenComparing(Transaction::getId);
+
     private final TransactionRepository transactionRepository;
     private final TransactionMapper transactionMapper;
+    private final TransactionArchiveRepository transactionArchiveRepository;
+    private final TransactionLockManager transactionLockManager;
+    private final AccountClient accountClient;
 
     /**
      * Initiate (create) a new transaction.
@@ -29,32 +41,46 @@ public class TransactionService {
      *   - Amount must be positive (enforced by @Positive in DTO + here for safety)
      *   - Withdrawal/Transfer amounts must not result in a negative balance concept
      *     (here we validate amount > 0; actual balance check would require AccountService)
+     *   - The account must exist in the account service, checked over its internal gRPC API
+     *   - Postings on one account are serialized, so they are stored in arrival order
+     *
+     * Writes commit inside the lock, so the next holder already reads the committed row.
      */
     public TransactionDTO createTransaction(TransactionDTO dto) {
-        log.info("Creating transaction for accountId={}, type={}, amount={}", dto.getAccountId(), dto.getType(), dto.getAmount());
+        log.debug("Creating transaction for accountId={}, type={}, amount={}", dto.getAccountId(), dto.getType(), dto.getAmount());
 
         // Guard: amount must be positive
-        if (dto.getAmount() == null || dto.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+        if (dto.getAmount() == null || !dto.getAmount().isPositive()) {
             throw new InvalidTransactionException("Transaction amount must be positive");
         }
 
         // Guard: Withdrawal/Transfer - amount cannot be zero or negative (already caught above, but explicit messaging)
-        if (("Withdrawal".equalsIgnoreCase(dto.getType()) || "Transfer".equalsIgnoreCase(dto.getType()))
-                && dto.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+        if (dto.getType() != null && dto.getType().isDebit() && !dto.getAmount().isPositive()) {
             throw new InvalidTransactionException("Withdrawal and Transfer amounts must be greater than zero");
         }
 
-        Transaction transaction = transactionMapper.toEntity(dto);
-        transaction.setTransactionDate(LocalDateTime.now());
+        if (dto.getAccountId() == null) {
+            throw new InvalidTransactionException("Account ID is required");
+        }
+
+        // Before taking the lock, so a slow account service does not hold up other postings on the account
+        accountClient.requireAccount(dto.getAccountId());
+
+        return transactionLockManager.withAccountLock(dto.getAccountId(), () -> {
+            Transaction transaction = transactionMapper.toEntity(dto);
+            transaction.setTransactionDate(LocalDateTime.now());
 
-        Transaction saved = transactionRepository.save(transaction);
-        log.info("Transaction created with ID={}", saved.getId());
-        return transactionMapper.toDTO(saved);
+            Transaction saved = transactionRepository.save(transaction);
+            log.info("Transaction created with ID={} for accountId={}, type={}, amount={}",
+                    saved.getId(), saved.getAccountId(), saved.getType(), saved.getAmount());
+            return transactionMapper.toDTO(saved);
+        });
     }
 
     /**
      * Get all transactions.
      */
+    @Transactional(readOnly = true)
     public List<TransactionDTO> getAllTransactions() {
         return transactionRepository.findAll()
                 .stream()
@@ -63,21 +89,43 @@ public class TransactionService {
     }
 
     /**
-     * Get a transaction by ID.
+     * Get a transaction by ID, falling back to the archive for settled transactions
+     * that have already been moved out of the live table.
      */
+    @Transactional(readOnly = true)
     public TransactionDTO getTransactionById(Long id) {
         Transaction transaction = transactionRepository.findById(id)
+                .or(() -> transactionArchiveRepository.findById(id).map(ArchivedTransaction::toTransaction))
                 .orElseThrow(() -> new TransactionNotFoundException(id));
         return transactionMapper.toDTO(transaction);
     }
 
     /**
-     * Get all transactions for a given account.
+     * Get all transactions for a given account, including archived history, oldest first (ties by id).
      */
+    @Transactional(readOnly = true)
     public List<TransactionDTO> getTransactionsByAccountId(Long accountId) {
-        List<Transaction> transactions = transactionRepository.findByAccountId(accountId);
+        List<Transaction> transactions = transactionRepository.findByAccountIdOrderByTransactionDateAscIdAsc(accountId);
+        List<ArchivedTransaction> archived = transactionArchiveRepository.findByAccountIdOrderByTransactionDateAscIdAsc(accountId);
+        if (!archived.isEmpty()) {
+            // A row is moved in one database transaction, so it is either live or archived, never both.
+            // Both lists come sorted; archived rows are mostly older, so the merge is usually a concatenation
+            List<Transaction> merged = new ArrayList<>(archived.size() + transactions.size());
+            int live = 0;
+            for (ArchivedTransaction row : archived) {
+                Transaction old = row.toTransaction();
+                while (live < transactions.size() && HISTORY_ORDER.compare(transactions.get(live), old) < 0) {
+                    merged.add(transactions.get(live++));
+                }
+                merged.add(old);
+            }
+            merged.addAll(transactions.subList(live, transactions.size()));
+            return merged.stream()
+                    .map(transactionMapper::toDTO)
+                    .collect(Collectors.toList());
+        }
         if (transactions.isEmpty()) {
-            log.warn("No transactions found for accountId={}", accountId);
+            log.debug("No transactions found for accountId={}", accountId);
         }
         return transactions.stream()
                 .map(transactionMapper::toDTO)
@@ -88,22 +136,29 @@ public class TransactionService {
      * Amend (update) a transaction — only allowed for PENDING transactions.
      * Business rules:
      *   - Cannot amend a SUCCESS or FAILED transaction
+     *   - A status change must be a valid transition (PENDING → SUCCESS/FAILED)
      *   - New amount must be positive
      */
     public TransactionDTO updateTransaction(Long id, TransactionDTO dto) {
-        log.info("Updating transaction ID={}", id);
+        log.debug("Updating transaction ID={}", id);
+        // Status check and save must not interleave with another amendment or cancellation
+        return transactionLockManager.withTransactionLock(id, () -> doUpdateTransaction(id, dto));
+    }
 
-        Transaction existing = transactionRepository.findById(id)
+    private TransactionDTO doUpdateTransaction(Long id, TransactionDTO dto) {
+        Transaction existing = transactionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransactionNotFoundException(id));
 
-        // Cannot amend finalized transactions
-        if ("SUCCESS".equalsIgnoreCase(existing.getStatus()) || "FAILED".equalsIgnoreCase(existing.getStatus())) {
+        // Cannot amend finalized transactions; an amendment without a status keeps the current one
+        TransactionStatus current = existing.getStatus();
+        TransactionStatus target = dto.getStatus() != null ? dto.getStatus() : current;
+        if (current == null || !current.canTransitionTo(target)) {
             throw new InvalidTransactionException(
-                    "Cannot amend a transaction with status: " + existing.getStatus() + ". Only PENDING transactions can be amended.");
+                    "Cannot amend a transaction with status: " + current + ". Only PENDING transactions can be amended.");
         }
 
         // Validate new amount
-        if (dto.getAmount() != null && dto.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+        if (dto.getAmount() != null && !dto.getAmount().isPositive()) {
             throw new InvalidTransactionException("Transaction amount must be positive");
         }
 
@@ -120,13 +175,19 @@ public class TransactionService {
      * Cancel (delete) a transaction — only allowed for PENDING transactions.
      */
     public void deleteTransaction(Long id) {
-        log.info("Cancelling transaction ID={}", id);
+        log.debug("Cancelling transaction ID={}", id);
+        transactionLockManager.withTransactionLock(id, () -> {
+            doDeleteTransaction(id);
+            return null;
+        });
+    }
 
-        Transaction existing = transactionRepository.findById(id)
+    private void doDeleteTransaction(Long id) {
+        Transaction existing = transactionRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransactionNotFoundException(id));
 
         // Only PENDING transactions can be cancelled
-        if ("SUCCESS".equalsIgnoreCase(existing.getStatus()) || "FAILED".equalsIgnoreCase(existing.getStatus())) {
+        if (existing.getStatus() == null || existing.getStatus().isFinal()) {
             throw new InvalidTransactionException(
                     "Cannot cancel a transaction with status: " + existing.getStatus() + ". Only PENDING transactions can be cancelled.");
         }
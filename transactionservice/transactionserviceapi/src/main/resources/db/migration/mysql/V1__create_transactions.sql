@@ -0,0 +1,10 @@
+-- Baseline schema, matching what hibernate.ddl-auto=update produced for Transaction.
+CREATE TABLE IF NOT EXISTS transactions (
+    id               BIGINT         NOT NULL AUTO_INCREMENT,
+    account_id       BIGINT,
+    type             VARCHAR(255),
+    amount           DECIMAL(38, 2),
+    transaction_date DATETIME(6),
+    status           VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
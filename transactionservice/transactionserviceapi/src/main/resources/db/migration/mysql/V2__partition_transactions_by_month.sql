@@ -0,0 +1,40 @@
+-- Monthly RANGE partitioning on transaction_date.
+-- MySQL requires the partitioning column in every unique key, so the primary key becomes (id, transaction_date).
+-- Only p_history and p_future are created here; TransactionPartitionService splits p_future into
+-- monthly partitions (pYYYYMM) ahead of time and drops months that archival has emptied.
+-- p_history ends where the month the migration runs in begins: it takes the rows written before
+-- partitioning, and every month from then on gets its own partition. Partition bounds have to be
+-- literals, hence the prepared statement.
+
+UPDATE transactions SET transaction_date = NOW(6) WHERE transaction_date IS NULL;
+
+ALTER TABLE transactions
+    MODIFY transaction_date DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, transaction_date);
+
+CREATE INDEX idx_transactions_account_date ON transactions (account_id, transaction_date);
+CREATE INDEX idx_transactions_status_date ON transactions (status, transaction_date);
+
+SET @partition_transactions = CONCAT(
+    'ALTER TABLE transactions PARTITION BY RANGE COLUMNS (transaction_date) (',
+    'PARTITION p_history VALUES LESS THAN (''', DATE_FORMAT(NOW(), '%Y-%m-01 00:00:00'), '''), ',
+    'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+PREPARE partition_transactions FROM @partition_transactions;
+EXECUTE partition_transactions;
+DEALLOCATE PREPARE partition_transactions;
+
+-- Archive of settled transactions, filled by TransactionArchiveService: each batch is copied here with
+-- INSERT ... SELECT and deleted from transactions in the same database transaction.
+-- Same columns as transactions. Not partitioned, so the primary key is the id alone.
+-- Rows are only ever inserted and read back by id or account, so they are stored compressed.
+CREATE TABLE IF NOT EXISTS transactions_archive (
+    id               BIGINT         NOT NULL,
+    account_id       BIGINT,
+    type             VARCHAR(255),
+    amount           DECIMAL(38, 2),
+    transaction_date DATETIME(6)    NOT NULL,
+    status           VARCHAR(255),
+    PRIMARY KEY (id),
+    INDEX idx_transactions_archive_account_date (account_id, transaction_date)
+) ENGINE = InnoDB ROW_FORMAT = COMPRESSED;
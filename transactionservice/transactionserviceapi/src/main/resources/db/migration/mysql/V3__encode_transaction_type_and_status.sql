@@ -0,0 +1,53 @@
+-- Store type and status as TINYINT codes instead of VARCHAR(255).
+-- Codes must match TransactionType / TransactionStatus:
+--   type:   1 = Deposit, 2 = Withdrawal, 3 = Transfer
+--   status: 0 = PENDING, 1 = SUCCESS, 2 = FAILED
+
+ALTER TABLE transactions
+    ADD COLUMN type_code TINYINT,
+    ADD COLUMN status_code TINYINT;
+
+UPDATE transactions
+SET type_code   = CASE UPPER(type)
+                      WHEN 'DEPOSIT' THEN 1
+                      WHEN 'WITHDRAWAL' THEN 2
+                      WHEN 'TRANSFER' THEN 3
+                  END,
+    status_code = CASE UPPER(status)
+                      WHEN 'PENDING' THEN 0
+                      WHEN 'SUCCESS' THEN 1
+                      WHEN 'FAILED' THEN 2
+                  END;
+
+DROP INDEX idx_transactions_status_date ON transactions;
+
+ALTER TABLE transactions
+    DROP COLUMN type,
+    DROP COLUMN status,
+    RENAME COLUMN type_code TO type,
+    RENAME COLUMN status_code TO status;
+
+CREATE INDEX idx_transactions_status_date ON transactions (status, transaction_date);
+
+-- The archive keeps the same columns and codes as the live table.
+ALTER TABLE transactions_archive
+    ADD COLUMN type_code TINYINT,
+    ADD COLUMN status_code TINYINT;
+
+UPDATE transactions_archive
+SET type_code   = CASE UPPER(type)
+                      WHEN 'DEPOSIT' THEN 1
+                      WHEN 'WITHDRAWAL' THEN 2
+                      WHEN 'TRANSFER' THEN 3
+                  END,
+    status_code = CASE UPPER(status)
+                      WHEN 'PENDING' THEN 0
+                      WHEN 'SUCCESS' THEN 1
+                      WHEN 'FAILED' THEN 2
+                  END;
+
+ALTER TABLE transactions_archive
+    DROP COLUMN type,
+    DROP COLUMN status,
+    RENAME COLUMN type_code TO type,
+    RENAME COLUMN status_code TO status;
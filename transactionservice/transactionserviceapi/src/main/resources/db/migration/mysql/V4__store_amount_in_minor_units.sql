@@ -0,0 +1,16 @@
+-- amount becomes a BIGINT of minor units (cents), see Money / MoneyConverter.
+ALTER TABLE transactions ADD COLUMN amount_minor BIGINT;
+
+UPDATE transactions SET amount_minor = ROUND(amount * 100);
+
+ALTER TABLE transactions
+    DROP COLUMN amount,
+    RENAME COLUMN amount_minor TO amount;
+
+ALTER TABLE transactions_archive ADD COLUMN amount_minor BIGINT;
+
+UPDATE transactions_archive SET amount_minor = ROUND(amount * 100);
+
+ALTER TABLE transactions_archive
+    DROP COLUMN amount,
+    RENAME COLUMN amount_minor TO amount;
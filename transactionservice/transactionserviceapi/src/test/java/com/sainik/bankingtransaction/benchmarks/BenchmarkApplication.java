@@ -0,0 +1,42 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.sainik.bankingtransaction.TransactionserviceapiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the transaction service against an in-memory H2 database for benchmarks:
+ * no MySQL, Eureka, Flyway, archiving (partition maintenance is MySQL-only) or account checks
+ * (no account service to ask), quiet logging, random HTTP port.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String database, String... extraArgs) {
+        // Passed as command line args so they override application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";LOCK_TIMEOUT=10000",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--banking.vault.mysqlusername=sa",
+                "--banking.vault.mysqlpassword=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.flyway.enabled=false",
+                "--eureka.client.enabled=false",
+                "--banking.archive.enabled=false",
+                "--banking.account-check.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.sainik.bankingtransaction=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.springframework.security=WARN"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(TransactionserviceapiApplication.class).run(args.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,160 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.sainik.bankingcommon.configuration.LogSamplingFilter;
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Throughput of 8 request threads logging the line {@code TransactionService} writes for every posting, under
+ * the default logging setup and the prod profile's:
+ * <ul>
+ *   <li>{@code console}: Boot's console pattern, written and flushed on the calling thread (the default)</li>
+ *   <li>{@code async-json}: ECS JSON behind a bounded, never-blocking {@link AsyncAppender}</li>
+ *   <li>{@code async-json-sampled}: the same with {@link LogSamplingFilter} keeping one line in 100 (prod)</li>
+ * </ul>
+ * The output goes to a temporary file, flushed per event like the console. A full async queue drops events
+ * instead of waiting, so the tear-down prints how many lines were written out of how many were logged.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="LoggingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String CONSOLE_PATTERN =
+            "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p ${PID:- } --- [transactionservice] [%15.15t] %-40.40logger{39} : %m%n";
+
+    @Param({"console", "async-json", "async-json-sampled"})
+    private String setup;
+
+    private final AtomicLong logged = new AtomicLong();
+    private LoggerContext context;
+    private Logger logger;
+    private LineCountingOutputStream output;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        context.putObject(Environment.class.getName(), new StandardEnvironment());
+        file = Files.createTempFile("logging-benchmark", ".log");
+        output = new LineCountingOutputStream(new FileOutputStream(file.toFile()));
+
+        OutputStreamAppender<ILoggingEvent> sink = new OutputStreamAppender<>();
+        sink.setContext(context);
+        sink.setName("FILE");
+        if (setup.equals("console")) {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setContext(context);
+            encoder.setPattern(CONSOLE_PATTERN);
+            encoder.start();
+            sink.setEncoder(encoder);
+        } else {
+            StructuredLogEncoder encoder = new StructuredLogEncoder();
+            encoder.setContext(context);
+            encoder.setFormat("ecs");
+            encoder.start();
+            sink.setEncoder(encoder);
+        }
+        sink.setOutputStream(output);
+        sink.start();
+
+        Appender<ILoggingEvent> appender = sink;
+        if (setup.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC");
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(sink);
+            async.start();
+            appender = async;
+        }
+        if (setup.endsWith("sampled")) {
+            LogSamplingFilter filter = new LogSamplingFilter();
+            filter.setContext(context);
+            filter.setLoggers("com.sainik.bankingtransaction.services.TransactionService");
+            filter.setOneIn(100);
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+        logger = context.getLogger("com.sainik.bankingtransaction.services.TransactionService");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.stop();
+        System.out.printf("%n%s: %d of %d lines written%n", setup, output.lines.get(), logged.get());
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void createTransactionLine() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        logger.info("Transaction created with ID={} for accountId={}, type={}, amount={}",
+                random.nextLong(1_000_000), random.nextLong(1_000), "DEPOSIT", "125.00");
+        logged.incrementAndGet();
+    }
+
+    private static final class LineCountingOutputStream extends FilterOutputStream {
+
+        private final AtomicLong lines = new AtomicLong();
+
+        LineCountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            for (int i = offset; i < offset + length; i++) {
+                if (bytes[i] == '\n') {
+                    lines.incrementAndGet();
+                }
+            }
+            out.write(bytes, offset, length);
+        }
+    }
+}
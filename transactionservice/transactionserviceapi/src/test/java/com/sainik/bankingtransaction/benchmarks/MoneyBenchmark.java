@@ -0,0 +1,103 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sainik.bankingcommon.models.Money;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amount handling on the posting path: positivity check, JSON read and JSON write,
+ * BigDecimal versus {@link Money}. Run with the GC profiler to compare allocation rates:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="MoneyBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private static final String JSON = "{\"amount\":1234567.89}";
+
+    private ObjectReader bigDecimalReader;
+    private ObjectReader moneyReader;
+    private ObjectWriter writer;
+    private BigDecimalAmount bigDecimalAmount;
+    private MoneyAmount moneyAmount;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        bigDecimalReader = objectMapper.readerFor(BigDecimalAmount.class);
+        moneyReader = objectMapper.readerFor(MoneyAmount.class);
+        writer = objectMapper.writer();
+        bigDecimalAmount = bigDecimalReader.readValue(JSON);
+        moneyAmount = moneyReader.readValue(JSON);
+    }
+
+    @Benchmark
+    public boolean bigDecimalValidate() {
+        return bigDecimalAmount.getAmount().compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    @Benchmark
+    public boolean moneyValidate() {
+        return moneyAmount.getAmount().isPositive();
+    }
+
+    @Benchmark
+    public BigDecimalAmount bigDecimalRead() throws Exception {
+        return bigDecimalReader.readValue(JSON);
+    }
+
+    @Benchmark
+    public MoneyAmount moneyRead() throws Exception {
+        return moneyReader.readValue(JSON);
+    }
+
+    @Benchmark
+    public String bigDecimalWrite() throws Exception {
+        return writer.writeValueAsString(bigDecimalAmount);
+    }
+
+    @Benchmark
+    public String moneyWrite() throws Exception {
+        return writer.writeValueAsString(moneyAmount);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalPosting() {
+        // balance + amount, as a posting would do
+        return bigDecimalAmount.getAmount().add(bigDecimalAmount.getAmount());
+    }
+
+    @Benchmark
+    public Money moneyPosting() {
+        return moneyAmount.getAmount().plus(moneyAmount.getAmount());
+    }
+
+    @Data
+    public static class BigDecimalAmount {
+        private BigDecimal amount;
+    }
+
+    @Data
+    public static class MoneyAmount {
+        private Money amount;
+    }
+}
@@ -0,0 +1,99 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sainik.bankingcommon.configuration.JacksonConfiguration;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.dtos.TransactionDTO;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@code GenericResponse<List<TransactionDTO>>} body encoded and decoded as JSON and as CBOR, the two
+ * formats the services negotiate, with the mapper settings they run with. The encoded size of each payload
+ * is printed at setup. Run with the GC profiler to see allocation per call:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="PayloadFormatBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<GenericResponse<List<TransactionDTO>>> RESPONSE_TYPE =
+            new TypeReference<>() {
+            };
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"100", "1000"})
+    public int listSize;
+
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private GenericResponse<List<TransactionDTO>> response;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        // Same settings as the services' mappers: Boot's defaults plus JacksonConfiguration's customizer, and for
+        // CBOR what its converter changes on top
+        JacksonConfiguration configuration = new JacksonConfiguration();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        configuration.bankingObjectMapperCustomizer().customize(builder);
+        ObjectMapper objectMapper = format.equals("cbor")
+                ? configuration.cborHttpMessageConverter(builder).getObjectMapper()
+                : builder.build();
+        writer = objectMapper.writerFor(RESPONSE_TYPE);
+        reader = objectMapper.readerFor(RESPONSE_TYPE);
+
+        List<TransactionDTO> transactions = new ArrayList<>(listSize);
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < listSize; i++) {
+            transactions.add(new TransactionDTO((long) i + 1, 42L + i % 17, types[i % types.length],
+                    Money.ofMinor(100 + i * 7919L % 1_000_000), LocalDateTime.now(), TransactionStatus.SUCCESS));
+        }
+        response = GenericResponse.success("Transactions retrieved successfully", transactions);
+        payload = writer.writeValueAsBytes(response);
+        GenericResponse<List<TransactionDTO>> decoded = reader.readValue(payload);
+        if (!decoded.getData().equals(transactions)) {
+            throw new IllegalStateException(format + " did not round-trip the transactions");
+        }
+        System.out.printf("%s, %d transactions: %d bytes%n", format, listSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public GenericResponse<List<TransactionDTO>> decode() throws Exception {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,75 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.sainik.bankingtransaction.services.StripedLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Throughput of 8 threads posting to a set of hot accounts, with a short critical section
+ * standing in for the status check + save. With 1 hot key everything is serialized whichever
+ * lock is used; with 10 and 10k keys the striped table should scale while a single global
+ * lock stays flat.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="StripedLockBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class StripedLockBenchmark {
+
+    private static final int CRITICAL_SECTION_TOKENS = 200;
+
+    @Param({"1", "10", "10000"})
+    private int hotKeys;
+
+    private StripedLock stripedLock;
+    private Lock globalLock;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stripedLock = new StripedLock(1024, false);
+        globalLock = new ReentrantLock();
+    }
+
+    @Benchmark
+    public void striped() {
+        long key = ThreadLocalRandom.current().nextInt(hotKeys);
+        Lock lock = stripedLock.get(key);
+        lock.lock();
+        try {
+            Blackhole.consumeCPU(CRITICAL_SECTION_TOKENS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Benchmark
+    public void global() {
+        globalLock.lock();
+        try {
+            Blackhole.consumeCPU(CRITICAL_SECTION_TOKENS);
+        } finally {
+            globalLock.unlock();
+        }
+    }
+}
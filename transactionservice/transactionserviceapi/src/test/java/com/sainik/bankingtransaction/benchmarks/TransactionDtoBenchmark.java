@@ -0,0 +1,125 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sainik.bankingcommon.dtos.GenericResponse;
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.dtos.TransactionDTO;
+import com.sainik.bankingtransaction.mappers.TransactionMapper;
+import com.sainik.bankingtransaction.mappers.TransactionMapperImpl;
+import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request work around a controller call that does not touch the database:
+ * MapStruct mapping, Jackson serialization of a GenericResponse list and bean validation
+ * of a request body (valid and invalid). Run with the GC profiler to see allocation per call:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransactionDtoBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionDtoBenchmark {
+
+    @Param({"100"})
+    public int listSize;
+
+    private final TransactionMapper transactionMapper = new TransactionMapperImpl();
+
+    private ObjectWriter responseWriter;
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private Transaction transaction;
+    private TransactionDTO transactionDTO;
+    private TransactionDTO invalidTransactionDTO;
+    private List<Transaction> transactions;
+    private GenericResponse<List<TransactionDTO>> response;
+
+    @Setup
+    public void setUp() {
+        // Same settings Spring Boot applies to its ObjectMapper: java.time values as ISO strings
+        responseWriter = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writerFor(new TypeReference<GenericResponse<List<TransactionDTO>>>() {
+                });
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        transactions = new ArrayList<>(listSize);
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < listSize; i++) {
+            transactions.add(new Transaction((long) i + 1, 42L, types[i % types.length],
+                    Money.ofMinor(100 + i * 7919L % 1_000_000), LocalDateTime.now(), TransactionStatus.SUCCESS));
+        }
+        transaction = transactions.get(0);
+        transactionDTO = transactionMapper.toDTO(transaction);
+        invalidTransactionDTO = new TransactionDTO(null, null, TransactionType.DEPOSIT, Money.ofMinor(-100), null, null);
+        response = GenericResponse.success("Transactions retrieved successfully",
+                transactions.stream().map(transactionMapper::toDTO).toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public TransactionDTO entityToDto() {
+        return transactionMapper.toDTO(transaction);
+    }
+
+    @Benchmark
+    public Transaction dtoToEntity() {
+        return transactionMapper.toEntity(transactionDTO);
+    }
+
+    // What the list endpoints do: TransactionService maps one entity at a time
+    @Benchmark
+    public List<TransactionDTO> entityListToDtoList() {
+        return transactions.stream().map(transactionMapper::toDTO).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws Exception {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionDTO>> validateValid() {
+        return validator.validate(transactionDTO);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TransactionDTO>> validateInvalid() {
+        return validator.validate(invalidTransactionDTO);
+    }
+}
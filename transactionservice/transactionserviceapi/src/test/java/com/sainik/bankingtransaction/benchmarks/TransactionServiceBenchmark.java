@@ -0,0 +1,86 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.dtos.TransactionDTO;
+import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import com.sainik.bankingtransaction.repositories.TransactionRepository;
+import com.sainik.bankingtransaction.services.TransactionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TransactionService through the full Spring context on an in-memory H2 database:
+ * createTransaction (account lock, transaction, insert, mapping) spread over many accounts, and
+ * getTransactionsByAccountId for an account with historySize transactions.
+ * H2 has no network round trip, so this measures the service's own overhead rather than MySQL.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransactionServiceBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class TransactionServiceBenchmark {
+
+    private static final long HISTORY_ACCOUNT = 1L;
+    private static final int POSTING_ACCOUNTS = 1000;
+
+    @Param({"100", "1000"})
+    public int historySize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("transactionservice" + historySize);
+        transactionService = context.getBean(TransactionService.class);
+
+        TransactionType[] types = TransactionType.values();
+        LocalDateTime start = LocalDateTime.now().minusDays(historySize);
+        List<Transaction> history = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            history.add(new Transaction(null, HISTORY_ACCOUNT, types[i % types.length], Money.ofMinor(100 + i),
+                    start.plusDays(i), TransactionStatus.SUCCESS));
+        }
+        context.getBean(TransactionRepository.class).saveAll(history);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TransactionDTO createTransaction() {
+        long accountId = 2 + ThreadLocalRandom.current().nextInt(POSTING_ACCOUNTS);
+        return transactionService.createTransaction(new TransactionDTO(null, accountId, TransactionType.DEPOSIT,
+                Money.ofMinor(2500), null, TransactionStatus.PENDING));
+    }
+
+    @Benchmark
+    public List<TransactionDTO> getTransactionsByAccountId() {
+        return transactionService.getTransactionsByAccountId(HISTORY_ACCOUNT);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sainik.bankingtransaction.benchmarks;
+
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Status/type checks done by updateTransaction, deleteTransaction and createTransaction:
+ * the previous String + equalsIgnoreCase form against the enum + bit mask form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionStatusBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private final String[] statusNames = new String[SIZE];
+    private final String[] typeNames = new String[SIZE];
+    private final TransactionStatus[] statuses = new TransactionStatus[SIZE];
+    private final TransactionType[] types = new TransactionType[SIZE];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            statuses[i] = TransactionStatus.values()[random.nextInt(3)];
+            types[i] = TransactionType.values()[random.nextInt(3)];
+            statusNames[i] = statuses[i].name();
+            typeNames[i] = types[i].getLabel();
+        }
+    }
+
+    @Benchmark
+    public void stringChecks(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            String status = statusNames[i];
+            String type = typeNames[i];
+            bh.consume("SUCCESS".equalsIgnoreCase(status) || "FAILED".equalsIgnoreCase(status));
+            bh.consume("Withdrawal".equalsIgnoreCase(type) || "Transfer".equalsIgnoreCase(type));
+        }
+    }
+
+    @Benchmark
+    public void enumChecks(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(statuses[i].isFinal());
+            bh.consume(types[i].isDebit());
+        }
+    }
+
+    @Benchmark
+    public void enumTransitionChecks(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(statuses[i].canTransitionTo(TransactionStatus.SUCCESS));
+        }
+    }
+}
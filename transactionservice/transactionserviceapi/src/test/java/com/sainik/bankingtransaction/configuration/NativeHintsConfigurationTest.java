@@ -0,0 +1,58 @@
+package com.sainik.bankingtransaction.configuration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import com.sainik.bankingcommon.configuration.LogSamplingFilter;
+import com.sainik.bankingcommon.dtos.MinMoneyValidator;
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.dtos.TransactionDTO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NativeHintsConfiguration Tests")
+class NativeHintsConfigurationTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfiguration.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, NativeHintsConfiguration.class);
+    }
+
+    @Test
+    @DisplayName("should include the vendor migrations and the validator list")
+    void resources() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/mysql/V1__create_transactions.sql"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/jakarta.validation.ConstraintValidator")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should let Hibernate create the configured dialects and validators")
+    void reflectiveConstruction() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("org.hibernate.dialect.MySQLDialect"))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(MinMoneyValidator.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(LogSamplingFilter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("should bind the API bodies down to Money")
+    void bodies() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(TransactionDTO.class.getMethod("getAmount")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(Money.class.getMethod("minorUnits")))
+                .accepts(hints);
+    }
+}
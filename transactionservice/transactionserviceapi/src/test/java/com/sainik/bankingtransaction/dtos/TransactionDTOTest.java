@@ -0,0 +1,31 @@
+package com.sainik.bankingtransaction.dtos;
+
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionDTO Unit Tests")
+class TransactionDTOTest {
+
+    @Test
+    @DisplayName("validation: @Positive should apply to Money fields")
+    void validation_positive() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        TransactionDTO dto = new TransactionDTO();
+        dto.setAccountId(1L);
+        dto.setType(TransactionType.DEPOSIT);
+        dto.setStatus(TransactionStatus.PENDING);
+
+        dto.setAmount(Money.of("0.01"));
+        assertThat(validator.validate(dto)).isEmpty();
+
+        dto.setAmount(Money.ZERO);
+        assertThat(validator.validate(dto)).extracting(v -> v.getPropertyPath().toString()).containsExactly("amount");
+    }
+}
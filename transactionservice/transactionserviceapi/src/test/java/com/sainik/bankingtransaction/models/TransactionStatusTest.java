@@ -0,0 +1,51 @@
+package com.sainik.bankingtransaction.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TransactionStatus / TransactionType Unit Tests")
+class TransactionStatusTest {
+
+    @Test
+    @DisplayName("canTransitionTo: PENDING may be amended or settled")
+    void pending_transitions() {
+        assertThat(TransactionStatus.PENDING.canTransitionTo(TransactionStatus.PENDING)).isTrue();
+        assertThat(TransactionStatus.PENDING.canTransitionTo(TransactionStatus.SUCCESS)).isTrue();
+        assertThat(TransactionStatus.PENDING.canTransitionTo(TransactionStatus.FAILED)).isTrue();
+        assertThat(TransactionStatus.PENDING.isFinal()).isFalse();
+    }
+
+    @Test
+    @DisplayName("canTransitionTo: SUCCESS and FAILED are final")
+    void settled_areFinal() {
+        for (TransactionStatus settled : new TransactionStatus[]{TransactionStatus.SUCCESS, TransactionStatus.FAILED}) {
+            assertThat(settled.isFinal()).isTrue();
+            for (TransactionStatus target : TransactionStatus.values()) {
+                assertThat(settled.canTransitionTo(target)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("codes: should round-trip through the TINYINT column encoding")
+    void codes_roundTrip() {
+        for (TransactionStatus status : TransactionStatus.values()) {
+            assertThat(TransactionStatus.fromCode(status.getCode())).isEqualTo(status);
+        }
+        for (TransactionType type : TransactionType.values()) {
+            assertThat(TransactionType.fromCode(type.getCode())).isEqualTo(type);
+        }
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.fromCode((byte) 9));
+    }
+
+    @Test
+    @DisplayName("fromLabel/fromName: should accept legacy free-form casing")
+    void json_isCaseInsensitive() {
+        assertThat(TransactionType.fromLabel("withdrawal")).isEqualTo(TransactionType.WITHDRAWAL);
+        assertThat(TransactionStatus.fromName("pending")).isEqualTo(TransactionStatus.PENDING);
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.fromLabel("Refund"));
+    }
+}
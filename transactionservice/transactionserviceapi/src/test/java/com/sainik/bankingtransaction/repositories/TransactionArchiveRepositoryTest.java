@@ -0,0 +1,71 @@
+package com.sainik.bankingtransaction.repositories;
+
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.models.ArchivedTransaction;
+import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@DisplayName("TransactionArchiveRepository Tests")
+class TransactionArchiveRepositoryTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private TransactionArchiveRepository archiveRepository;
+
+    @Test
+    @DisplayName("copyFromLive: should copy rows with their ids, codes and amounts, readable by ID and by account")
+    void copyFromLive_thenFind() {
+        Transaction first = transactionRepository.save(transaction(10L, LocalDateTime.of(2025, 1, 15, 10, 0)));
+        Transaction second = transactionRepository.save(transaction(20L, LocalDateTime.of(2025, 1, 20, 10, 0)));
+        Transaction third = transactionRepository.save(transaction(10L, LocalDateTime.of(2025, 2, 3, 10, 0)));
+
+        int copied = archiveRepository.copyFromLive(List.of(first.getId(), second.getId(), third.getId()));
+        transactionRepository.deleteAllByIdInBatch(List.of(first.getId(), second.getId(), third.getId()));
+
+        assertThat(copied).isEqualTo(3);
+        assertThat(transactionRepository.count()).isZero();
+        assertThat(archiveRepository.findById(second.getId())).get()
+                .extracting(ArchivedTransaction::toTransaction).isEqualTo(second);
+        assertThat(archiveRepository.findByAccountIdOrderByTransactionDateAscIdAsc(10L))
+                .extracting(ArchivedTransaction::getId).containsExactly(first.getId(), third.getId());
+        assertThat(archiveRepository.findByAccountIdOrderByTransactionDateAscIdAsc(30L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findArchivableIds: should page settled transactions older than the cutoff by id")
+    void findArchivableIds_settledBeforeCutoff() {
+        LocalDateTime old = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Transaction settled = transactionRepository.save(transaction(10L, old));
+        Transaction pending = transaction(10L, old);
+        pending.setStatus(TransactionStatus.PENDING);
+        transactionRepository.save(pending);
+        transactionRepository.save(transaction(10L, LocalDateTime.of(2025, 6, 1, 12, 0)));
+
+        List<Long> ids = transactionRepository.findArchivableIds(
+                List.of(TransactionStatus.SUCCESS, TransactionStatus.FAILED),
+                LocalDateTime.of(2025, 3, 1, 0, 0), 0L, Limit.of(10));
+
+        assertThat(ids).containsExactly(settled.getId());
+    }
+
+    private static Transaction transaction(Long accountId, LocalDateTime date) {
+        return new Transaction(null, accountId, TransactionType.DEPOSIT, Money.of("42.00"), date, TransactionStatus.SUCCESS);
+    }
+}
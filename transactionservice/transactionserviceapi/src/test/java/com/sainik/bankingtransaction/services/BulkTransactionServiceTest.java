@@ -0,0 +1,129 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.BulkOperationConfiguration;
+import com.sainik.bankingtransaction.dtos.BulkTransitionRequest;
+import com.sainik.bankingtransaction.dtos.BulkTransitionResult;
+import com.sainik.bankingtransaction.exceptions.InvalidTransactionException;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.repositories.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkTransactionService Unit Tests")
+class BulkTransactionServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BulkTransactionService bulkTransactionService;
+
+    @BeforeEach
+    void setUp() {
+        BulkOperationConfiguration configuration = new BulkOperationConfiguration();
+        configuration.setChunkSize(2);
+        configuration.setMaxIds(10);
+        bulkTransactionService = new BulkTransactionService(transactionRepository, transactionTemplate, configuration);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("transitionPending: should update chunk by chunk and report non-PENDING ids as skipped")
+    void transitionPending_byIds() {
+        when(transactionRepository.findIdsByIdInAndStatus(List.of(1L, 2L), TransactionStatus.PENDING)).thenReturn(List.of(1L));
+        when(transactionRepository.findIdsByIdInAndStatus(List.of(3L), TransactionStatus.PENDING)).thenReturn(List.of(3L));
+        when(transactionRepository.updateStatusByIdInAndStatus(anyList(), eq(TransactionStatus.PENDING), eq(TransactionStatus.FAILED)))
+                .thenAnswer(inv -> inv.<List<Long>>getArgument(0).size());
+
+        BulkTransitionRequest request = new BulkTransitionRequest();
+        request.setIds(List.of(1L, 2L, 3L, 1L));
+        request.setStatus(TransactionStatus.FAILED);
+        BulkTransitionResult result = bulkTransactionService.transitionPending(request);
+
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(result.getSkippedIds()).containsExactly(2L);
+        verify(transactionRepository).updateStatusByIdInAndStatus(List.of(1L), TransactionStatus.PENDING, TransactionStatus.FAILED);
+        verify(transactionRepository).updateStatusByIdInAndStatus(List.of(3L), TransactionStatus.PENDING, TransactionStatus.FAILED);
+        verify(transactionRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("transitionPending: should reject PENDING or missing target status")
+    void transitionPending_invalidTarget() {
+        BulkTransitionRequest request = new BulkTransitionRequest();
+        request.setIds(List.of(1L));
+        request.setStatus(TransactionStatus.PENDING);
+
+        assertThrows(InvalidTransactionException.class, () -> bulkTransactionService.transitionPending(request));
+        request.setStatus(null);
+        assertThrows(InvalidTransactionException.class, () -> bulkTransactionService.transitionPending(request));
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("cancelPending: should walk the filter with keyset paging and delete each page")
+    void cancelPending_byFilter() {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(transactionRepository.findIdsByFilter(TransactionStatus.PENDING, 10L, from, to, 0L, Limit.of(2)))
+                .thenReturn(List.of(4L, 7L));
+        when(transactionRepository.findIdsByFilter(TransactionStatus.PENDING, 10L, from, to, 7L, Limit.of(2)))
+                .thenReturn(List.of(9L));
+        when(transactionRepository.findIdsByFilter(TransactionStatus.PENDING, 10L, from, to, 9L, Limit.of(2)))
+                .thenReturn(List.of());
+        when(transactionRepository.deleteByIdInAndStatus(List.of(4L, 7L), TransactionStatus.PENDING)).thenReturn(2);
+        // 9 was settled concurrently; the guarded DELETE leaves it alone
+        when(transactionRepository.deleteByIdInAndStatus(List.of(9L), TransactionStatus.PENDING)).thenReturn(0);
+
+        BulkTransitionRequest request = new BulkTransitionRequest();
+        request.setAccountId(10L);
+        request.setFrom(from);
+        request.setTo(to);
+        BulkTransitionResult result = bulkTransactionService.cancelPending(request);
+
+        assertThat(result.getMatched()).isEqualTo(3);
+        assertThat(result.getAffected()).isEqualTo(2);
+        assertThat(result.getSkippedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("cancelPending: should require exactly one of ids or filter, and cap the id count")
+    void cancelPending_invalidSelection() {
+        BulkTransitionRequest empty = new BulkTransitionRequest();
+        assertThrows(InvalidTransactionException.class, () -> bulkTransactionService.cancelPending(empty));
+
+        BulkTransitionRequest both = new BulkTransitionRequest();
+        both.setIds(List.of(1L));
+        both.setAccountId(10L);
+        assertThrows(InvalidTransactionException.class, () -> bulkTransactionService.cancelPending(both));
+
+        BulkTransitionRequest tooMany = new BulkTransitionRequest();
+        tooMany.setIds(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+        assertThrows(InvalidTransactionException.class, () -> bulkTransactionService.cancelPending(tooMany));
+
+        verifyNoInteractions(transactionRepository);
+    }
+}
@@ -0,0 +1,103 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.ArchiveConfiguration;
+import com.sainik.bankingtransaction.repositories.TransactionArchiveRepository;
+import com.sainik.bankingtransaction.repositories.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionArchiveService Unit Tests")
+class TransactionArchiveServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionArchiveRepository transactionArchiveRepository;
+
+    @Mock
+    private TransactionPartitionService transactionPartitionService;
+
+    @Mock
+    private TransactionLockManager transactionLockManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private ArchiveConfiguration archiveConfiguration = new ArchiveConfiguration();
+
+    @InjectMocks
+    private TransactionArchiveService transactionArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("archiveSettledTransactions: should copy and delete each keyset page in one transaction")
+    void archiveSettledTransactions_movesBatches() {
+        when(transactionRepository.findArchivableIds(any(), any(), eq(0L), any(Limit.class))).thenReturn(List.of(1L, 2L));
+        when(transactionRepository.findArchivableIds(any(), any(), eq(2L), any(Limit.class))).thenReturn(List.of(5L));
+        when(transactionRepository.findArchivableIds(any(), any(), eq(5L), any(Limit.class))).thenReturn(List.of());
+
+        long archived = transactionArchiveService.archiveSettledTransactions();
+
+        assertThat(archived).isEqualTo(3);
+        InOrder inOrder = inOrder(transactionArchiveRepository, transactionRepository);
+        inOrder.verify(transactionArchiveRepository).copyFromLive(List.of(1L, 2L));
+        inOrder.verify(transactionRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        inOrder.verify(transactionArchiveRepository).copyFromLive(List.of(5L));
+        inOrder.verify(transactionRepository).deleteAllByIdInBatch(List.of(5L));
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(transactionPartitionService).dropEmptyPartitionsBefore(any());
+    }
+
+    @Test
+    @DisplayName("runScheduled: should skip the run while another instance holds the archive lock")
+    void runScheduled_lockHeldElsewhere_skips() {
+        when(transactionLockManager.runExclusively(anyString(), any())).thenReturn(false);
+
+        transactionArchiveService.runScheduled();
+
+        verify(transactionRepository, never()).findArchivableIds(any(), any(), anyLong(), any());
+        verify(transactionPartitionService, never()).ensureFuturePartitions();
+    }
+
+    @Test
+    @DisplayName("runScheduled: should archive and prepare partitions under the archive lock")
+    void runScheduled_lockAcquired_runs() {
+        when(transactionLockManager.runExclusively(anyString(), any())).thenAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(transactionRepository.findArchivableIds(any(), any(), anyLong(), any())).thenReturn(List.of());
+
+        transactionArchiveService.runScheduled();
+
+        verify(transactionLockManager).runExclusively(eq("banking.txn.archive"), any());
+        verify(transactionPartitionService).ensureFuturePartitions();
+    }
+}
@@ -0,0 +1,120 @@
+package com.sainik.bankingtransaction.services;
+
+import com.sainik.bankingtransaction.configuration.LockingConfiguration;
+import com.sainik.bankingtransaction.exceptions.TransactionConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TransactionLockManager Unit Tests")
+class TransactionLockManagerTest {
+
+    private TransactionLockManager transactionLockManager;
+
+    @BeforeEach
+    void setUp() {
+        LockingConfiguration configuration = new LockingConfiguration();
+        configuration.setTimeoutMillis(100);
+        transactionLockManager = new TransactionLockManager(configuration, null,
+                new TransactionTemplate(new NoOpTransactionManager()));
+    }
+
+    @Test
+    @DisplayName("stripes: should round up to a power of two and map a key to a fixed stripe")
+    void stripedLock_sizing() {
+        StripedLock locks = new StripedLock(1000, false);
+
+        assertThat(locks.stripes()).isEqualTo(1024);
+        assertThat(new StripedLock(1, false).stripes()).isEqualTo(1);
+        assertThat(locks.get(42L)).isSameAs(locks.get(42L));
+    }
+
+    @Test
+    @DisplayName("withAccountLock: should serialize read-modify-write on one account")
+    void withAccountLock_serializesSameKey() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        long[] balance = new long[1];
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        transactionLockManager.withAccountLock(7L, () -> balance[0]++);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(balance[0]).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("withTransactionLock: should time out with a conflict on a busy key but not block other keys")
+    void withTransactionLock_busyKey() throws Exception {
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> transactionLockManager.withTransactionLock(1L, () -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        held.await();
+        try {
+            assertThrows(TransactionConflictException.class,
+                    () -> transactionLockManager.withTransactionLock(1L, () -> "never"));
+            // Account locks are a separate key space
+            assertThat(transactionLockManager.withAccountLock(1L, () -> "ok")).isEqualTo("ok");
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        assertThat(transactionLockManager.withTransactionLock(1L, () -> "free")).isEqualTo("free");
+    }
+
+    // Runs the callbacks and synchronizations without a database; a Mockito mock records every call and
+    // is too slow for the contention test
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.sainik.bankingtransaction.services;
 
+import com.sainik.bankingcommon.models.Money;
+import com.sainik.bankingtransaction.configuration.LockingConfiguration;
 import com.sainik.bankingtransaction.dtos.TransactionDTO;
+import com.sainik.bankingtransaction.exceptions.AccountServiceUnavailableException;
 import com.sainik.bankingtransaction.exceptions.InvalidTransactionException;
 import com.sainik.bankingtransaction.exceptions.TransactionNotFoundException;
 import com.sainik.bankingtransaction.mappers.TransactionMapper;
+import com.sainik.bankingtransaction.models.ArchivedTransaction;
 import com.sainik.bankingtransaction.models.Transaction;
+import com.sainik.bankingtransaction.models.TransactionStatus;
+import com.sainik.bankingtransaction.models.TransactionType;
+import com.sainik.bankingtransaction.repositories.TransactionArchiveRepository;
 import com.sainik.bankingtransaction.repositories.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,9 +19,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +31,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +44,17 @@ class TransactionServiceTest {
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private TransactionArchiveRepository transactionArchiveRepository;
+
+    // Real in-process locking around a no-op transaction; database advisory locks are off by default
+    @Spy
+    private TransactionLockManager transactionLockManager = new TransactionLockManager(new LockingConfiguration(), null,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)));
+
+    @Mock
+    private AccountClient accountClient;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -46,24 +67,24 @@ class TransactionServiceTest {
         pendingTransaction = new Transaction();
         pendingTransaction.setId(1L);
         pendingTransaction.setAccountId(10L);
-        pendingTransaction.setType("Deposit");
-        pendingTransaction.setAmount(new BigDecimal("500.00"));
-        pendingTransaction.setStatus("PENDING");
+        pendingTransaction.setType(TransactionType.DEPOSIT);
+        pendingTransaction.setAmount(Money.of("500.00"));
+        pendingTransaction.setStatus(TransactionStatus.PENDING);
         pendingTransaction.setTransactionDate(LocalDateTime.now());
 
         successTransaction = new Transaction();
         successTransaction.setId(2L);
         successTransaction.setAccountId(10L);
-        successTransaction.setType("Withdrawal");
-        successTransaction.setAmount(new BigDecimal("100.00"));
-        successTransaction.setStatus("SUCCESS");
+        successTransaction.setType(TransactionType.WITHDRAWAL);
+        successTransaction.setAmount(Money.of("100.00"));
+        successTransaction.setStatus(TransactionStatus.SUCCESS);
         successTransaction.setTransactionDate(LocalDateTime.now());
 
         transactionDTO = new TransactionDTO();
         transactionDTO.setAccountId(10L);
-        transactionDTO.setType("Deposit");
-        transactionDTO.setAmount(new BigDecimal("500.00"));
-        transactionDTO.setStatus("PENDING");
+        transactionDTO.setType(TransactionType.DEPOSIT);
+        transactionDTO.setAmount(Money.of("500.00"));
+        transactionDTO.setStatus(TransactionStatus.PENDING);
     }
 
     // ─── createTransaction ────────────────────────────────────────────────────────
@@ -78,14 +99,14 @@ class TransactionServiceTest {
         TransactionDTO result = transactionService.createTransaction(transactionDTO);
 
         assertThat(result).isNotNull();
-        assertThat(result.getAmount()).isEqualByComparingTo("500.00");
+        assertThat(result.getAmount()).isEqualTo(Money.of("500.00"));
         verify(transactionRepository).save(any(Transaction.class));
     }
 
     @Test
     @DisplayName("createTransaction: should throw InvalidTransactionException when amount is zero")
     void createTransaction_zeroAmount_throwsException() {
-        transactionDTO.setAmount(BigDecimal.ZERO);
+        transactionDTO.setAmount(Money.ZERO);
 
         assertThrows(InvalidTransactionException.class,
                 () -> transactionService.createTransaction(transactionDTO));
@@ -96,7 +117,7 @@ class TransactionServiceTest {
     @Test
     @DisplayName("createTransaction: should throw InvalidTransactionException when amount is negative")
     void createTransaction_negativeAmount_throwsException() {
-        transactionDTO.setAmount(new BigDecimal("-100.00"));
+        transactionDTO.setAmount(Money.of("-100.00"));
 
         assertThrows(InvalidTransactionException.class,
                 () -> transactionService.createTransaction(transactionDTO));
@@ -115,14 +136,30 @@ class TransactionServiceTest {
         verify(transactionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("createTransaction: should not save when the account service rejects or cannot check the account")
+    void createTransaction_accountCheckFails_throwsException() {
+        doThrow(new InvalidTransactionException("Account not found with id: 10"))
+                .doThrow(new AccountServiceUnavailableException("Account service could not check account 10", null))
+                .when(accountClient).requireAccount(10L);
+
+        assertThrows(InvalidTransactionException.class,
+                () -> transactionService.createTransaction(transactionDTO));
+        assertThrows(AccountServiceUnavailableException.class,
+                () -> transactionService.createTransaction(transactionDTO));
+
+        verify(transactionRepository, never()).save(any());
+        verify(transactionLockManager, never()).withAccountLock(anyLong(), any());
+    }
+
     @Test
     @DisplayName("createTransaction: should set transactionDate automatically on new transaction")
     void createTransaction_setsTransactionDate() {
         Transaction unsaved = new Transaction();
         unsaved.setAccountId(10L);
-        unsaved.setType("Deposit");
-        unsaved.setAmount(new BigDecimal("250.00"));
-        unsaved.setStatus("PENDING");
+        unsaved.setType(TransactionType.DEPOSIT);
+        unsaved.setAmount(Money.of("250.00"));
+        unsaved.setStatus(TransactionStatus.PENDING);
         // transactionDate intentionally null — service should set it
 
         when(transactionMapper.toEntity(transactionDTO)).thenReturn(unsaved);
@@ -184,30 +221,74 @@ class TransactionServiceTest {
         assertThat(ex.getMessage()).contains("99");
     }
 
+    @Test
+    @DisplayName("getTransactionById: should fall back to the archive when ID is no longer in the live table")
+    void getTransactionById_archived_readsFromArchive() {
+        when(transactionRepository.findById(2L)).thenReturn(Optional.empty());
+        when(transactionArchiveRepository.findById(2L)).thenReturn(Optional.of(archived(successTransaction)));
+        when(transactionMapper.toDTO(successTransaction)).thenReturn(transactionDTO);
+
+        TransactionDTO result = transactionService.getTransactionById(2L);
+
+        assertThat(result).isNotNull();
+        verify(transactionArchiveRepository).findById(2L);
+    }
+
     // ─── getTransactionsByAccountId ───────────────────────────────────────────────
 
     @Test
     @DisplayName("getTransactionsByAccountId: should return all transactions for a given account")
     void getTransactionsByAccountId_found() {
-        when(transactionRepository.findByAccountId(10L)).thenReturn(List.of(pendingTransaction, successTransaction));
+        when(transactionRepository.findByAccountIdOrderByTransactionDateAscIdAsc(10L)).thenReturn(List.of(pendingTransaction, successTransaction));
         when(transactionMapper.toDTO(any(Transaction.class))).thenReturn(transactionDTO);
 
         List<TransactionDTO> result = transactionService.getTransactionsByAccountId(10L);
 
         assertThat(result).hasSize(2);
-        verify(transactionRepository).findByAccountId(10L);
+        verify(transactionRepository).findByAccountIdOrderByTransactionDateAscIdAsc(10L);
     }
 
     @Test
     @DisplayName("getTransactionsByAccountId: should return empty list when account has no transactions")
     void getTransactionsByAccountId_noTransactions_returnsEmptyList() {
-        when(transactionRepository.findByAccountId(99L)).thenReturn(List.of());
+        when(transactionRepository.findByAccountIdOrderByTransactionDateAscIdAsc(99L)).thenReturn(List.of());
 
         List<TransactionDTO> result = transactionService.getTransactionsByAccountId(99L);
 
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("getTransactionsByAccountId: should merge archived and live history by date, then id")
+    void getTransactionsByAccountId_mergesArchivedHistory() {
+        ArchivedTransaction archived = new ArchivedTransaction();
+        archived.setId(0L);
+        archived.setAccountId(10L);
+        archived.setStatus(TransactionStatus.SUCCESS);
+        archived.setTransactionDate(LocalDateTime.now().minusYears(1));
+        // Same date as a live row: the higher id goes second
+        ArchivedTransaction sameDate = new ArchivedTransaction();
+        sameDate.setId(5L);
+        sameDate.setAccountId(10L);
+        sameDate.setStatus(TransactionStatus.SUCCESS);
+        sameDate.setTransactionDate(successTransaction.getTransactionDate());
+        pendingTransaction.setTransactionDate(successTransaction.getTransactionDate().minusMinutes(1));
+
+        when(transactionRepository.findByAccountIdOrderByTransactionDateAscIdAsc(10L)).thenReturn(List.of(pendingTransaction, successTransaction));
+        when(transactionArchiveRepository.findByAccountIdOrderByTransactionDateAscIdAsc(10L)).thenReturn(List.of(archived, sameDate));
+        when(transactionMapper.toDTO(any(Transaction.class)))
+                .thenAnswer(inv -> {
+                    Transaction t = inv.getArgument(0);
+                    TransactionDTO dto = new TransactionDTO();
+                    dto.setId(t.getId());
+                    return dto;
+                });
+
+        List<TransactionDTO> result = transactionService.getTransactionsByAccountId(10L);
+
+        assertThat(result).extracting(TransactionDTO::getId).containsExactly(0L, 1L, 2L, 5L);
+    }
+
     // ─── updateTransaction (business rule: PENDING only) ─────────────────────────
 
     @Test
@@ -215,11 +296,11 @@ class TransactionServiceTest {
     void updateTransaction_pendingTransaction_success() {
         TransactionDTO updateDTO = new TransactionDTO();
         updateDTO.setAccountId(10L);
-        updateDTO.setType("Withdrawal");
-        updateDTO.setAmount(new BigDecimal("300.00"));
-        updateDTO.setStatus("PENDING");
+        updateDTO.setType(TransactionType.WITHDRAWAL);
+        updateDTO.setAmount(Money.of("300.00"));
+        updateDTO.setStatus(TransactionStatus.PENDING);
 
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(pendingTransaction));
+        when(transactionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pendingTransaction));
         when(transactionRepository.save(any(Transaction.class))).thenReturn(pendingTransaction);
         when(transactionMapper.toDTO(pendingTransaction)).thenReturn(updateDTO);
 
@@ -234,10 +315,10 @@ class TransactionServiceTest {
     @DisplayName("updateTransaction: should throw InvalidTransactionException when transaction is SUCCESS")
     void updateTransaction_successStatus_throwsException() {
         TransactionDTO updateDTO = new TransactionDTO();
-        updateDTO.setAmount(new BigDecimal("999.00"));
-        updateDTO.setStatus("PENDING");
+        updateDTO.setAmount(Money.of("999.00"));
+        updateDTO.setStatus(TransactionStatus.PENDING);
 
-        when(transactionRepository.findById(2L)).thenReturn(Optional.of(successTransaction));
+        when(transactionRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(successTransaction));
 
         InvalidTransactionException ex = assertThrows(InvalidTransactionException.class,
                 () -> transactionService.updateTransaction(2L, updateDTO));
@@ -251,13 +332,13 @@ class TransactionServiceTest {
     void updateTransaction_failedStatus_throwsException() {
         Transaction failedTransaction = new Transaction();
         failedTransaction.setId(3L);
-        failedTransaction.setStatus("FAILED");
-        failedTransaction.setAmount(new BigDecimal("50.00"));
+        failedTransaction.setStatus(TransactionStatus.FAILED);
+        failedTransaction.setAmount(Money.of("50.00"));
 
         TransactionDTO updateDTO = new TransactionDTO();
-        updateDTO.setAmount(new BigDecimal("999.00"));
+        updateDTO.setAmount(Money.of("999.00"));
 
-        when(transactionRepository.findById(3L)).thenReturn(Optional.of(failedTransaction));
+        when(transactionRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(failedTransaction));
 
         assertThrows(InvalidTransactionException.class,
                 () -> transactionService.updateTransaction(3L, updateDTO));
@@ -265,13 +346,42 @@ class TransactionServiceTest {
         verify(transactionRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("updateTransaction: should settle a PENDING transaction to SUCCESS")
+    void updateTransaction_pendingToSuccess_success() {
+        TransactionDTO updateDTO = new TransactionDTO();
+        updateDTO.setAmount(Money.of("500.00"));
+        updateDTO.setStatus(TransactionStatus.SUCCESS);
+
+        when(transactionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pendingTransaction));
+        when(transactionRepository.save(any(Transaction.class))).thenReturn(pendingTransaction);
+
+        transactionService.updateTransaction(1L, updateDTO);
+
+        verify(transactionRepository).save(pendingTransaction);
+    }
+
+    @Test
+    @DisplayName("updateTransaction: should reject moving a SUCCESS transaction back to PENDING")
+    void updateTransaction_successToPending_throwsException() {
+        TransactionDTO updateDTO = new TransactionDTO();
+        updateDTO.setStatus(TransactionStatus.PENDING);
+
+        when(transactionRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(successTransaction));
+
+        assertThrows(InvalidTransactionException.class,
+                () -> transactionService.updateTransaction(2L, updateDTO));
+
+        verify(transactionRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("updateTransaction: should throw InvalidTransactionException when new amount is negative")
     void updateTransaction_negativeAmount_throwsException() {
         TransactionDTO updateDTO = new TransactionDTO();
-        updateDTO.setAmount(new BigDecimal("-50.00"));
+        updateDTO.setAmount(Money.of("-50.00"));
 
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(pendingTransaction));
+        when(transactionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pendingTransaction));
 
         assertThrows(InvalidTransactionException.class,
                 () -> transactionService.updateTransaction(1L, updateDTO));
@@ -282,7 +392,7 @@ class TransactionServiceTest {
     @Test
     @DisplayName("updateTransaction: should throw TransactionNotFoundException when ID does not exist")
     void updateTransaction_notFound_throwsException() {
-        when(transactionRepository.findById(99L)).thenReturn(Optional.empty());
+        when(transactionRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
 
         assertThrows(TransactionNotFoundException.class,
                 () -> transactionService.updateTransaction(99L, transactionDTO));
@@ -293,7 +403,7 @@ class TransactionServiceTest {
     @Test
     @DisplayName("deleteTransaction: should cancel a PENDING transaction successfully")
     void deleteTransaction_pendingTransaction_success() {
-        when(transactionRepository.findById(1L)).thenReturn(Optional.of(pendingTransaction));
+        when(transactionRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pendingTransaction));
 
         transactionService.deleteTransaction(1L);
 
@@ -303,7 +413,7 @@ class TransactionServiceTest {
     @Test
     @DisplayName("deleteTransaction: should throw InvalidTransactionException when transaction is SUCCESS")
     void deleteTransaction_successStatus_throwsException() {
-        when(transactionRepository.findById(2L)).thenReturn(Optional.of(successTransaction));
+        when(transactionRepository.findByIdForUpdate(2L)).thenReturn(Optional.of(successTransaction));
 
         InvalidTransactionException ex = assertThrows(InvalidTransactionException.class,
                 () -> transactionService.deleteTransaction(2L));
@@ -317,10 +427,10 @@ class TransactionServiceTest {
     void deleteTransaction_failedStatus_throwsException() {
         Transaction failedTransaction = new Transaction();
         failedTransaction.setId(3L);
-        failedTransaction.setStatus("FAILED");
-        failedTransaction.setAmount(new BigDecimal("50.00"));
+        failedTransaction.setStatus(TransactionStatus.FAILED);
+        failedTransaction.setAmount(Money.of("50.00"));
 
-        when(transactionRepository.findById(3L)).thenReturn(Optional.of(failedTransaction));
+        when(transactionRepository.findByIdForUpdate(3L)).thenReturn(Optional.of(failedTransaction));
 
         assertThrows(InvalidTransactionException.class,
                 () -> transactionService.deleteTransaction(3L));
@@ -331,11 +441,16 @@ class TransactionServiceTest {
     @Test
     @DisplayName("deleteTransaction: should throw TransactionNotFoundException when ID does not exist")
     void deleteTransaction_notFound_throwsException() {
-        when(transactionRepository.findById(99L)).thenReturn(Optional.empty());
+        when(transactionRepository.findByIdForUpdate(99L)).thenReturn(Optional.empty());
 
         assertThrows(TransactionNotFoundException.class,
                 () -> transactionService.deleteTransaction(99L));
 
         verify(transactionRepository, never()).deleteById(any());
     }
+
+    private static ArchivedTransaction archived(Transaction transaction) {
+        return new ArchivedTransaction(transaction.getId(), transaction.getAccountId(), transaction.getType(),
+                transaction.getAmount(), transaction.getTransactionDate(), transaction.getStatus());
+    }
 }